@@ -0,0 +1,20 @@
+package com.example.account.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * 거래 API 의 리액티브 구현
+ * 기본 애플리케이션의 application.yml 과 data.sql 이 같은 클래스패스에 있으므로
+ * 설정 파일 이름을 reactive 로 분리한다.
+ */
+@SpringBootApplication
+public class ReactiveAccountApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveAccountApplication.class)
+                .properties("spring.config.name=reactive")
+                .run(args);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.account.reactive.controller;
+
+import com.example.account.exception.AccountException;
+import com.example.account.exception.ErrorResponse;
+import com.example.account.exception.RejectionLogger;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private final RejectionLogger rejectionLogger = new RejectionLogger(Duration.ofSeconds(1));
+
+    @ExceptionHandler(AccountException.class)
+    public ResponseEntity<ErrorResponse> handleAccountException(AccountException ex, ServerHttpRequest request){
+        rejectionLogger.log(ex, request.getPath().value());
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .body(ErrorResponse.createErrorResponse(ex, request.getPath().value()));
+    }
+
+}
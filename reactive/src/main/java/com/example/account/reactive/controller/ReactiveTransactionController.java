@@ -0,0 +1,79 @@
+package com.example.account.reactive.controller;
+
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.reactive.service.ReactiveLockService;
+import com.example.account.reactive.service.ReactiveTransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+/**
+ * 잔액 관련 리액티브 컨트롤러
+ * 1. 잔액 사용
+ * 2. 잔액 사용 취소
+ * 3. 거래 확인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class ReactiveTransactionController {
+
+    private final ReactiveTransactionService transactionService;
+    private final ReactiveLockService lockService;
+
+    @PostMapping("/transaction/use")
+    public Mono<ResponseEntity<UseBalance.Response>> useBalance(
+            @Valid @RequestBody UseBalance.Request request
+    ){
+        return lockService.withLock(request.getAccountNumber(),
+                        () -> transactionService
+                                .useBalance(request.getUserId(),
+                                        request.getAccountNumber(),
+                                        request.getAmount())
+                                .onErrorResume(AccountException.class, e -> {
+                                    log.debug("Failed to use Balance");
+
+                                    return transactionService.saveFailedUseTransaction(
+                                                    request.getAccountNumber(),
+                                                    request.getAmount())
+                                            .then(Mono.error(e));
+                                }))
+                .map(dto -> ResponseEntity.ok(UseBalance.Response.from(dto)));
+    }
+
+    @PostMapping("/transaction/cancel")
+    public Mono<ResponseEntity<CancelBalance.Response>> cancelBalance(
+            @Valid @RequestBody CancelBalance.Request request
+    ){
+        return lockService.withLock(request.getAccountNumber(),
+                        () -> transactionService
+                                .cancelBalance(request.getTransactionId(),
+                                        request.getAccountNumber(),
+                                        request.getAmount())
+                                .onErrorResume(AccountException.class, e -> {
+                                    log.debug("Failed to use Balance");
+
+                                    return transactionService.saveFailedCancelTransaction(
+                                                    request.getAccountNumber(),
+                                                    request.getAmount())
+                                            .then(Mono.error(e));
+                                }))
+                .map(dto -> ResponseEntity.ok(CancelBalance.Response.from(dto)));
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public Mono<ResponseEntity<QueryTransactionResponse>> queryTransaction(
+            @PathVariable String transactionId
+    ){
+        return transactionService.queryTransaction(transactionId)
+                .map(dto -> ResponseEntity.ok(QueryTransactionResponse.from(dto)));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.example.account.reactive.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.type.AccountStatus;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA 엔티티(Account)와 같은 테이블을 R2DBC 로 조회/갱신한다.
+ * 승인 금액(held_balance)도 읽어 Account.validateUseBalance 가 사용 가능한 잔액으로 검증하게 한다.
+ * 잔액 슬롯 수(balance_slot_count)도 읽어 잔액을 나눈 계좌를 알아볼 수 있게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAccountRepository {
+
+    static final String ACCOUNT_COLUMNS = "a.id, a.account_number, a.account_status, " +
+            "a.user_id, a.balance, a.initial_balance, a.un_registered_at, a.held_balance, " +
+            "a.balance_slot_count";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsAccountUser(Long userId) {
+        return databaseClient.sql("select count(*) from account_user where id = :id")
+                .bind("id", userId)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        return databaseClient.sql("select " + ACCOUNT_COLUMNS +
+                        " from account a where a.account_number = :accountNumber")
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> toAccount(row))
+                .one();
+    }
+
+    public Mono<Integer> updateBalance(Account account) {
+        return databaseClient.sql("update account set balance = :balance, " +
+                        "updated_at = :updatedAt where id = :id")
+                .bind("balance", account.getBalance())
+                .bind("updatedAt", LocalDateTime.now())
+                .bind("id", account.getId())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    static Account toAccount(Row row) {
+        return Account.builder()
+                .id(row.get("id", Long.class))
+                .accountNumber(row.get("account_number", String.class))
+                .accountStatus(AccountStatus.valueOf(row.get("account_status", String.class)))
+                .accountUser(AccountUser.builder()
+                        .id(row.get("user_id", Long.class))
+                        .build())
+                .balance(row.get("balance", Long.class))
+                .initialBalance(row.get("initial_balance", Long.class))
+                .unRegisteredAt(row.get("un_registered_at", LocalDateTime.class))
+                .heldBalance(row.get("held_balance", Long.class))
+                .balanceSlotCount(row.get("balance_slot_count", Integer.class))
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.account.reactive.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA 엔티티(Transaction, DailyTransactionSummary, TransactionOutbox)와 같은 테이블을 R2DBC 로 조회/저장한다.
+ * ID 는 JPA 와 같은 hibernate_sequence 에서 발급한다.
+ */
+@Repository
+public class ReactiveTransactionRepository {
+
+    private final DatabaseClient databaseClient;
+    private final boolean outboxEnabled;
+
+    public ReactiveTransactionRepository(DatabaseClient databaseClient,
+                                         @Value("${outbox.enabled}") boolean outboxEnabled) {
+        this.databaseClient = databaseClient;
+        this.outboxEnabled = outboxEnabled;
+    }
+
+    public Mono<Transaction> findByTransactionId(String transactionId) {
+        return databaseClient.sql("select t.transaction_type, t.transaction_result_type, " +
+                        "t.amount, t.balance_snapshot, t.transaction_id, t.transacted_at, " +
+                        ReactiveAccountRepository.ACCOUNT_COLUMNS +
+                        " from transaction t join account a on a.id = t.account_id " +
+                        "where t.transaction_id = :transactionId")
+                .bind("transactionId", transactionId)
+                .map((row, metadata) -> Transaction.builder()
+                        .transactionType(TransactionType.valueOf(
+                                row.get("transaction_type", String.class)))
+                        .transactionResultType(TransactionResultType.valueOf(
+                                row.get("transaction_result_type", String.class)))
+                        .account(ReactiveAccountRepository.toAccount(row))
+                        .amount(row.get("amount", Long.class))
+                        .balanceSnapshot(row.get("balance_snapshot", Long.class))
+                        .transactionId(row.get("transaction_id", String.class))
+                        .transactedAt(row.get("transacted_at", LocalDateTime.class))
+                        .build())
+                .one();
+    }
+
+    public Mono<Transaction> save(Transaction transaction) {
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("insert into transaction (id, created_at, updated_at, " +
+                        "transaction_type, transaction_result_type, account_id, amount, " +
+                        "balance_snapshot, transaction_id, transacted_at) " +
+                        "values (next value for hibernate_sequence, :now, :now, " +
+                        ":transactionType, :transactionResultType, :accountId, :amount, " +
+                        ":balanceSnapshot, :transactionId, :transactedAt)")
+                .bind("now", now)
+                .bind("transactionType", transaction.getTransactionType().name())
+                .bind("transactionResultType", transaction.getTransactionResultType().name())
+                .bind("accountId", transaction.getAccount().getId())
+                .bind("amount", transaction.getAmount())
+                .bind("balanceSnapshot", transaction.getBalanceSnapshot())
+                .bind("transactionId", transaction.getTransactionId())
+                .bind("transactedAt", transaction.getTransactedAt())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(transaction);
+    }
+
+    /**
+     * DailySummaryService.record 와 같은 방식으로 성공(S) 거래를 일일 집계에 반영한다.
+     */
+    public Mono<Void> recordDailySummary(Transaction transaction) {
+        if (transaction.getTransactionResultType() != TransactionResultType.S)
+            return Mono.empty();
+
+        LocalDateTime now = LocalDateTime.now();
+        Account account = transaction.getAccount();
+        return databaseClient.sql("update daily_transaction_summary " +
+                        "set total_amount = total_amount + :amount, " +
+                        "transaction_count = transaction_count + 1, updated_at = :now " +
+                        "where account_id = :accountId and summary_date = :summaryDate " +
+                        "and transaction_type = :transactionType and slot_index = 0")
+                .bind("amount", transaction.getAmount())
+                .bind("now", now)
+                .bind("accountId", account.getId())
+                .bind("summaryDate", transaction.getTransactedAt().toLocalDate())
+                .bind("transactionType", transaction.getTransactionType().name())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? Mono.<Integer>empty()
+                        : databaseClient.sql("insert into daily_transaction_summary " +
+                                        "(id, created_at, updated_at, account_id, user_id, " +
+                                        "summary_date, transaction_type, slot_index, total_amount, " +
+                                        "transaction_count) " +
+                                        "values (next value for hibernate_sequence, :now, :now, " +
+                                        ":accountId, :userId, :summaryDate, :transactionType, 0, " +
+                                        ":amount, 1)")
+                                .bind("now", now)
+                                .bind("accountId", account.getId())
+                                .bind("userId", account.getAccountUser().getId())
+                                .bind("summaryDate", transaction.getTransactedAt().toLocalDate())
+                                .bind("transactionType", transaction.getTransactionType().name())
+                                .bind("amount", transaction.getAmount())
+                                .fetch()
+                                .rowsUpdated())
+                .then();
+    }
+
+    /**
+     * OutboxService.record 와 같이 거래를 발행 대기열(transaction_outbox)에 넣는다.
+     * 기본 애플리케이션의 OutboxRelay 가 같은 테이블에서 발행하므로, 같은 DB 를 쓰는 동안에는
+     * outbox.enabled 를 기본 애플리케이션과 같게 둔다.
+     */
+    public Mono<Void> recordOutbox(Transaction transaction) {
+        if (!outboxEnabled)
+            return Mono.empty();
+
+        LocalDateTime now = LocalDateTime.now();
+        return databaseClient.sql("insert into transaction_outbox (id, created_at, updated_at, " +
+                        "account_id, account_number, transaction_type, transaction_result_type, " +
+                        "amount, balance_snapshot, transaction_id, transacted_at) " +
+                        "values (next value for hibernate_sequence, :now, :now, " +
+                        ":accountId, :accountNumber, :transactionType, :transactionResultType, " +
+                        ":amount, :balanceSnapshot, :transactionId, :transactedAt)")
+                .bind("now", now)
+                .bind("accountId", transaction.getAccount().getId())
+                .bind("accountNumber", transaction.getAccount().getAccountNumber())
+                .bind("transactionType", transaction.getTransactionType().name())
+                .bind("transactionResultType", transaction.getTransactionResultType().name())
+                .bind("amount", transaction.getAmount())
+                .bind("balanceSnapshot", transaction.getBalanceSnapshot())
+                .bind("transactionId", transaction.getTransactionId())
+                .bind("transactedAt", transaction.getTransactedAt())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.account.reactive.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.service.LockService;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLockReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 리액티브 계좌 락
+ * 기본 애플리케이션의 LockService 와 같은 키를 사용하므로 두 스택이 함께 떠 있어도 같은 계좌를 직렬화한다.
+ * 구독 스레드가 바뀔 수 있어 스레드 ID 대신 요청마다 발급한 음수 소유자 ID 로 락을 잡고 푼다.
+ */
+@Slf4j
+@Service
+public class ReactiveLockService {
+
+    private static final AtomicLong OWNER_IDS = new AtomicLong();
+
+    private final RedissonReactiveClient redissonReactiveClient;
+    private final Duration waitTime;
+    private final Duration leaseTime;
+
+    public ReactiveLockService(RedissonReactiveClient redissonReactiveClient,
+                               @Value("${reactive.lock.wait-time}") Duration waitTime,
+                               @Value("${reactive.lock.lease-time}") Duration leaseTime) {
+        this.redissonReactiveClient = redissonReactiveClient;
+        this.waitTime = waitTime;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * 계좌 락을 잡은 뒤 action 을 구독하고, 성공/실패/취소와 상관없이 락을 해제한다.
+     * @throws AccountException ACCOUNT_TRANSACTION_LOCK
+     */
+    public <T> Mono<T> withLock(String accountNumber, Supplier<Mono<T>> action) {
+        RLockReactive lock = redissonReactiveClient.getLock(LockService.LOCK_PREFIX + accountNumber);
+        return Mono.defer(() -> {
+            long ownerId = OWNER_IDS.decrementAndGet();
+            return Mono.usingWhen(
+                    lock(lock, ownerId),
+                    owner -> action.get(),
+                    owner -> lock.unlock(owner)
+                            .onErrorResume(e -> {
+                                log.error("Redis unlock failed", e);
+                                return Mono.empty();
+                            }));
+        });
+    }
+
+    private Mono<Long> lock(RLockReactive lock, long ownerId) {
+        return lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(),
+                        TimeUnit.MILLISECONDS, ownerId)
+                .onErrorMap(e -> {
+                    log.error("Redis lock failed", e);
+                    return new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                })
+                .flatMap(locked -> {
+                    if (!locked) {
+                        log.debug("======Lock acquisition failed=====");
+                        return Mono.error(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK));
+                    }
+                    return Mono.just(ownerId);
+                });
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.account.reactive.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.reactive.repository.ReactiveAccountRepository;
+import com.example.account.reactive.repository.ReactiveTransactionRepository;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static com.example.account.type.ErrorCode.*;
+
+/**
+ * TransactionService 의 리액티브 구현
+ * 검증과 잔액 변경은 Account / Transaction 도메인 규칙을 그대로 사용하고
+ * 조회와 저장만 R2DBC 로 처리한다.
+ * 잔액 슬롯(BalanceSlotService)은 다루지 않으므로 잔액을 나눈 계좌의 사용/취소는 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveTransactionService {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveTransactionRepository transactionRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * @throws AccountException USER_NOT_FOUND, ACCOUNT_NOT_FOUND, UNSUPPORTED_IN_WEB_MODE,
+     * ACCOUNT_OWNER_UN_MATCH, ACCOUNT_ALREADY_UNREGISTERED, AMOUNT_EXCEED_BALANCE
+     */
+    public Mono<TransactionDto> useBalance(Long userId, String accountNumber, Long amount) {
+        return accountRepository.existsAccountUser(userId)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(new AccountException(USER_NOT_FOUND)))
+                .then(getAccountOrElseThrow(accountNumber))
+                .flatMap(account -> {
+                    rejectIfBalanceSplit(account);
+                    account.validateUseBalance(userId, amount);
+                    account.useBalance(amount);
+                    return accountRepository.updateBalance(account)
+                            .then(saveTransaction(amount, account,
+                                    TransactionResultType.S, TransactionType.USE));
+                })
+                .map(TransactionDto::fromEntity)
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> saveFailedUseTransaction(String accountNumber, Long amount) {
+        return getAccountOrElseThrow(accountNumber)
+                .flatMap(account -> saveTransaction(amount, account,
+                        TransactionResultType.F, TransactionType.USE))
+                .then();
+    }
+
+    /**
+     * @throws AccountException TRANSACTION_NOT_FOUND, ACCOUNT_NOT_FOUND, UNSUPPORTED_IN_WEB_MODE,
+     * TRANSACTION_ACCOUNT_UN_MATCH, TRANSACTION_AMOUNT_UN_MATCH, TOO_OLD_TRANSACTION_TO_CANCEL,
+     * INVALID_REQUEST
+     */
+    public Mono<TransactionDto> cancelBalance(String transactionId, String accountNumber, Long amount) {
+        return transactionRepository.findByTransactionId(transactionId)
+                .switchIfEmpty(Mono.error(new AccountException(TRANSACTION_NOT_FOUND)))
+                .zipWith(getAccountOrElseThrow(accountNumber))
+                .flatMap(tuple -> {
+                    Transaction transaction = tuple.getT1();
+                    Account account = tuple.getT2();
+                    rejectIfBalanceSplit(account);
+                    transaction.validateCancel(account, amount);
+                    account.cancelBalance(amount);
+                    return accountRepository.updateBalance(account)
+                            .then(saveTransaction(amount, account,
+                                    TransactionResultType.S, TransactionType.CANCEL));
+                })
+                .map(TransactionDto::fromEntity)
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> saveFailedCancelTransaction(String accountNumber, Long amount) {
+        return getAccountOrElseThrow(accountNumber)
+                .flatMap(account -> saveTransaction(amount, account,
+                        TransactionResultType.F, TransactionType.CANCEL))
+                .then();
+    }
+
+    public Mono<TransactionDto> queryTransaction(String transactionId) {
+        return transactionRepository.findByTransactionId(transactionId)
+                .switchIfEmpty(Mono.error(new AccountException(TRANSACTION_NOT_FOUND)))
+                .map(TransactionDto::fromEntity);
+    }
+
+    private Mono<Account> getAccountOrElseThrow(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(new AccountException(ACCOUNT_NOT_FOUND)));
+    }
+
+    /**
+     * 나눈 잔액은 슬롯에 있으므로 balance 로 처리하면 사용은 검증 없이 빠지고 취소 금액은 묻힌다.
+     */
+    private static void rejectIfBalanceSplit(Account account) {
+        if (account.isBalanceSplit())
+            throw new AccountException(UNSUPPORTED_IN_WEB_MODE);
+    }
+
+    private Mono<Transaction> saveTransaction(Long amount, Account account,
+                                              TransactionResultType resultType,
+                                              TransactionType transactionType) {
+        Transaction transaction = Transaction.builder()
+                .transactionType(transactionType)
+                .transactionResultType(resultType)
+                .account(account)
+                .amount(amount)
+                .balanceSnapshot(account.getBalance())
+                .transactedAt(LocalDateTime.now())
+                .transactionId(Transaction.newTransactionId())
+                .build();
+        return transactionRepository.save(transaction)
+                .flatMap(saved -> transactionRepository.recordDailySummary(saved)
+                        .then(transactionRepository.recordOutbox(saved))
+                        .thenReturn(saved));
+    }
+}
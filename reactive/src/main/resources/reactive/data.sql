@@ -0,0 +1,10 @@
+insert into account_user (id, name, created_at, updated_at) values (1, 'Kim Minjae', now(), now());
+insert into account_user (id, name, created_at, updated_at) values (2, 'Harry Kane', now(), now());
+insert into account_user (id, name, created_at, updated_at) values (3, 'Wayne Rooney', now(), now());
+
+insert into account (id, account_number, account_status, user_id, balance, initial_balance, created_at, updated_at)
+values (next value for hibernate_sequence, '1000000000', 'IN_USE', 1, 100000, 100000, now(), now());
+insert into account (id, account_number, account_status, user_id, balance, initial_balance, created_at, updated_at)
+values (next value for hibernate_sequence, '1000000001', 'IN_USE', 2, 100000, 100000, now(), now());
+insert into account (id, account_number, account_status, user_id, balance, initial_balance, created_at, updated_at)
+values (next value for hibernate_sequence, '1000000002', 'IN_USE', 3, 100000, 100000, now(), now());
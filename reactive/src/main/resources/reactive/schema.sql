@@ -0,0 +1,76 @@
+-- 기본 애플리케이션에서 Hibernate 가 생성하는 스키마와 같은 구조
+create sequence if not exists hibernate_sequence start with 1 increment by 1;
+
+create table if not exists account_user (
+    id bigint not null,
+    created_at timestamp,
+    updated_at timestamp,
+    name varchar(255),
+    primary key (id)
+);
+
+create table if not exists account (
+    id bigint not null,
+    created_at timestamp,
+    updated_at timestamp,
+    account_number varchar(255) unique,
+    account_status varchar(255),
+    balance bigint,
+    initial_balance bigint,
+    un_registered_at timestamp,
+    balance_slot_count integer,
+    held_balance bigint,
+    user_id bigint references account_user (id),
+    primary key (id)
+);
+
+create table if not exists transaction (
+    id bigint not null,
+    created_at timestamp,
+    updated_at timestamp,
+    amount bigint,
+    balance_snapshot bigint,
+    transacted_at timestamp,
+    transaction_id varchar(255),
+    transaction_result_type varchar(255),
+    transaction_type varchar(255),
+    account_id bigint references account (id),
+    primary key (id)
+);
+
+create index if not exists idx_transaction_account_transacted_at
+    on transaction (account_id, transacted_at, id);
+
+create table if not exists daily_transaction_summary (
+    id bigint not null,
+    created_at timestamp,
+    updated_at timestamp,
+    account_id bigint,
+    user_id bigint,
+    summary_date date,
+    transaction_type varchar(255),
+    slot_index integer,
+    total_amount bigint,
+    transaction_count bigint,
+    primary key (id),
+    constraint uk_daily_summary_account_date_type
+        unique (account_id, summary_date, transaction_type, slot_index)
+);
+
+create index if not exists idx_daily_summary_user_date
+    on daily_transaction_summary (user_id, summary_date);
+
+create table if not exists transaction_outbox (
+    id bigint not null,
+    created_at timestamp,
+    updated_at timestamp,
+    account_id bigint,
+    account_number varchar(255),
+    transaction_type varchar(255),
+    transaction_result_type varchar(255),
+    amount bigint,
+    balance_snapshot bigint,
+    transaction_id varchar(255),
+    transacted_at timestamp,
+    primary key (id)
+);
@@ -0,0 +1,253 @@
+package com.example.account.reactive.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.Transaction;
+import com.example.account.exception.AccountException;
+import com.example.account.reactive.repository.ReactiveAccountRepository;
+import com.example.account.reactive.repository.ReactiveTransactionRepository;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTransactionServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private ReactiveTransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @InjectMocks
+    private ReactiveTransactionService transactionService;
+
+    private final AccountUser user = AccountUser.builder()
+            .id(1L)
+            .name("Kim")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(transactionRepository.save(any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(transactionRepository.recordDailySummary(any()))
+                .thenReturn(Mono.empty());
+        lenient().when(transactionRepository.recordOutbox(any()))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 성공")
+    void useBalanceSuccess() throws Exception {
+        //given
+        Account account = account(1000L);
+        given(accountRepository.existsAccountUser(anyLong()))
+                .willReturn(Mono.just(true));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account));
+        given(accountRepository.updateBalance(any()))
+                .willReturn(Mono.just(1));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.useBalance(1L, "1000000000", 100L))
+                .assertNext(dto -> {
+                    assertThat(dto.getTransactionResultType()).isEqualTo(TransactionResultType.S);
+                    assertThat(dto.getTransactionType()).isEqualTo(TransactionType.USE);
+                    assertThat(dto.getBalanceSnapshot()).isEqualTo(900L);
+                    assertThat(dto.getAccountNumber()).isEqualTo("1000000000");
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
+        verify(accountRepository).updateBalance(captor.capture());
+        assertThat(captor.getValue().getBalance()).isEqualTo(900L);
+        verify(transactionRepository).recordOutbox(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 실패 [승인해 둔 금액을 빼면 잔액 부족]")
+    void useBalanceFail_HeldBalance() throws Exception {
+        //given
+        Account account = account(1000L);
+        account.setHeldBalance(950L);
+        given(accountRepository.existsAccountUser(anyLong()))
+                .willReturn(Mono.just(true));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.useBalance(1L, "1000000000", 100L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(AccountException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AMOUNT_EXCEED_BALANCE))
+                .verify();
+        verify(accountRepository, never()).updateBalance(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 실패 [잔액을 나눈 계좌]")
+    void useBalanceFail_SplitAccount() throws Exception {
+        //given
+        Account account = account(0L);
+        account.setBalanceSlotCount(4);
+        given(accountRepository.existsAccountUser(anyLong()))
+                .willReturn(Mono.just(true));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.useBalance(1L, "1000000000", 100L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(AccountException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNSUPPORTED_IN_WEB_MODE))
+                .verify();
+        verify(accountRepository, never()).updateBalance(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 실패 [잔액 부족]")
+    void useBalanceFail_AMOUNT_EXCEED_BALANCE() throws Exception {
+        //given
+        given(accountRepository.existsAccountUser(anyLong()))
+                .willReturn(Mono.just(true));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account(50L)));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.useBalance(1L, "1000000000", 100L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .isInstanceOf(AccountException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AMOUNT_EXCEED_BALANCE))
+                .verify();
+        verify(accountRepository, never()).updateBalance(any());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 실패 [사용자가 없음]")
+    void useBalanceFail_USER_NOT_FOUND() throws Exception {
+        //given
+        given(accountRepository.existsAccountUser(anyLong()))
+                .willReturn(Mono.just(false));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account(1000L)));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.useBalance(1L, "1000000000", 100L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 - 성공")
+    void cancelBalanceSuccess() throws Exception {
+        //given
+        Account account = account(900L);
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Mono.just(Transaction.builder()
+                        .account(account)
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.S)
+                        .amount(100L)
+                        .transactedAt(LocalDateTime.now())
+                        .transactionId("transactionId")
+                        .build()));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account));
+        given(accountRepository.updateBalance(any()))
+                .willReturn(Mono.just(1));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.cancelBalance("transactionId", "1000000000", 100L))
+                .assertNext(dto -> {
+                    assertThat(dto.getTransactionType()).isEqualTo(TransactionType.CANCEL);
+                    assertThat(dto.getBalanceSnapshot()).isEqualTo(1000L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 - 실패 [잔액을 나눈 계좌]")
+    void cancelBalanceFail_SplitAccount() throws Exception {
+        //given
+        Account account = account(0L);
+        account.setBalanceSlotCount(4);
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Mono.just(Transaction.builder()
+                        .account(account)
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.S)
+                        .amount(100L)
+                        .transactedAt(LocalDateTime.now())
+                        .transactionId("transactionId")
+                        .build()));
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Mono.just(account));
+
+        //when
+        //then
+        StepVerifier.create(transactionService.cancelBalance("transactionId", "1000000000", 100L))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNSUPPORTED_IN_WEB_MODE))
+                .verify();
+        verify(accountRepository, never()).updateBalance(any());
+    }
+
+    @Test
+    @DisplayName("거래 확인 - 실패 [거래가 없음]")
+    void queryTransactionFail_TRANSACTION_NOT_FOUND() throws Exception {
+        //given
+        given(transactionRepository.findByTransactionId(anyString()))
+                .willReturn(Mono.empty());
+
+        //when
+        //then
+        StepVerifier.create(transactionService.queryTransaction("transactionId"))
+                .expectErrorSatisfies(e -> assertThat(e)
+                        .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TRANSACTION_NOT_FOUND))
+                .verify();
+    }
+
+    private Account account(Long balance) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .accountUser(user)
+                .balance(balance)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.account.domain;
+
+import com.example.account.type.AccountStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 락 안에서 도는 잔액 규칙 (Account.validateUseBalance, useBalance, cancelBalance)
+ * 잔액은 반복(iteration)마다 다시 채우므로 사용이 잔액 부족으로 바뀌지 않는다.
+ * 잔액과 금액이 Long 이므로 -prof gc 의 gc.alloc.rate.norm 에는 박싱만 나와야 한다.
+ * (amount 는 캐시된 Long 범위를 벗어나는 값을 써서 박싱 비용도 함께 잰다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private static final long INITIAL_BALANCE = 1_000_000_000_000_000L;
+
+    private Account account;
+    private long amount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = Account.builder()
+                .id(1L)
+                .accountUser(AccountUser.builder().id(1L).name("Kim").build())
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(INITIAL_BALANCE)
+                .build();
+        amount = 1000L;
+    }
+
+    @Benchmark
+    public Long useBalance() {
+        account.validateUseBalance(1L, amount);
+        account.useBalance(amount);
+        return account.getBalance();
+    }
+
+    @Benchmark
+    public Long cancelBalance() {
+        account.cancelBalance(amount);
+        return account.getBalance();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.account.domain;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.UseBalance;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 사용 한 건이 DB 밖에서 만드는 객체들의 비용
+ * newTransactionId : TransactionService.saveTransaction 의 거래 번호 (UUID -> 32자 문자열)
+ * buildTransaction : 거래 번호와 시각을 채운 Transaction 생성
+ * fromEntity       : Transaction -> TransactionDto
+ * useResponse      : Transaction -> TransactionDto -> UseBalance.Response
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionBenchmark {
+
+    private Account account;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        account = Account.builder()
+                .id(1L)
+                .accountUser(AccountUser.builder().id(1L).name("Kim").build())
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(9000L)
+                .build();
+        transaction = Transaction.builder()
+                .account(account)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId("5fc371d3d0ff455aa8b1c5d30d23f28c")
+                .transactedAt(LocalDateTime.of(2022, 6, 1, 12, 30, 15, 123_456_000))
+                .build();
+    }
+
+    @Benchmark
+    public String newTransactionId() {
+        return Transaction.newTransactionId();
+    }
+
+    @Benchmark
+    public Transaction buildTransaction() {
+        return Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .account(account)
+                .amount(1000L)
+                .balanceSnapshot(account.getBalance())
+                .transactedAt(LocalDateTime.now())
+                .transactionId(Transaction.newTransactionId())
+                .build();
+    }
+
+    @Benchmark
+    public TransactionDto fromEntity() {
+        return TransactionDto.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public UseBalance.Response useResponse() {
+        return UseBalance.Response.from(TransactionDto.fromEntity(transaction));
+    }
+}
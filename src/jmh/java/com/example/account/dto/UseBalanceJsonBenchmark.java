@@ -0,0 +1,66 @@
+package com.example.account.dto;
+
+import com.example.account.type.TransactionResultType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 사용 요청/응답의 Jackson 왕복 (스프링과 같은 설정의 ObjectMapper)
+ * readRequest       : 요청 본문 -> UseBalance.Request
+ * responseRoundTrip : UseBalance.Response -> 바이트 -> UseBalance.Response (멱등 응답 저장/재생과 같은 경로)
+ * 응답 쓰기만의 비용은 json.ResponseSerializationBenchmark 에 있다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UseBalanceJsonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectReader responseReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestBody;
+    private UseBalance.Response response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        requestReader = objectMapper.readerFor(UseBalance.Request.class);
+        responseReader = objectMapper.readerFor(UseBalance.Response.class);
+        responseWriter = objectMapper.writerFor(UseBalance.Response.class);
+        requestBody = "{\"userId\":1,\"accountNumber\":\"1000000000\",\"amount\":1000}"
+                .getBytes(StandardCharsets.UTF_8);
+        response = UseBalance.Response.builder()
+                .accountNumber("1000000000")
+                .transactionResult(TransactionResultType.S)
+                .transactionId("5fc371d3d0ff455aa8b1c5d30d23f28c")
+                .amount(1000L)
+                .transactionAt(LocalDateTime.of(2022, 6, 1, 12, 30, 15, 123_456_000))
+                .build();
+    }
+
+    @Benchmark
+    public UseBalance.Request readRequest() throws Exception {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public UseBalance.Response responseRoundTrip() throws Exception {
+        return responseReader.readValue(responseWriter.writeValueAsBytes(response));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.account.exception;
+
+import com.example.account.json.DirectJsonWriter;
+import com.example.account.json.ErrorResponseJsonSerializer;
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거절된 요청 한 건의 비용 (예외 생성/전파 + 에러 응답 직렬화)
+ * before : 스택 트레이스를 수집하는 예외 + ObjectMapper
+ * after  : AccountException(스택 트레이스 없음) + 미리 만든 에러 본문
+ * depth 는 서비스 메서드가 Tomcat/Spring 호출 스택 아래에서 던지는 상황을 흉내 낸다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RejectionBenchmark {
+
+    @Param({"20", "120"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] before() throws Exception {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (StackfulAccountException e) {
+            return objectMapper.writeValueAsBytes(ErrorResponse.builder()
+                    .timeStamp(LocalDateTime.now())
+                    .httpStatus(e.errorCode.getHttpStatus())
+                    .errorName(e.errorCode.name())
+                    .errorMessage(e.getMessage())
+                    .path("/transaction/use")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int after() {
+        try {
+            throwAt(depth, false);
+            return 0;
+        } catch (AccountException e) {
+            DirectJsonWriter writer = DirectJsonWriter.acquire();
+            ErrorResponseJsonSerializer.write(writer,
+                    ErrorResponse.createErrorResponse(e, "/transaction/use"));
+            return writer.size();
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackful) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackful);
+            return;
+        }
+        if (stackful)
+            throw new StackfulAccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+
+    /**
+     * 변경 전 AccountException 과 같이 스택 트레이스를 수집하는 예외
+     */
+    private static class StackfulAccountException extends RuntimeException {
+        private final ErrorCode errorCode;
+
+        StackfulAccountException(ErrorCode errorCode) {
+            super(errorCode.getDescription());
+            this.errorCode = errorCode;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.account.json;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.UseBalance;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 저장된 Transaction 에서 응답 바이트까지의 비용 비교
+ * jackson : TransactionDto -> UseBalance.Response -> ObjectMapper (현재 기본 경로)
+ * direct  : TransactionDto -> UseBalance.Response -> DirectJsonWriter
+ * -prof gc 결과의 gc.alloc.rate.norm 으로 요청당 할당량을 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Transaction transaction;
+    private List<AccountInfo> accounts;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        AccountUser user = AccountUser.builder().id(1L).name("Kim").build();
+        Account account = Account.builder()
+                .id(1L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(9000L)
+                .build();
+        transaction = Transaction.builder()
+                .account(account)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId("5fc371d3d0ff455aa8b1c5d30d23f28c")
+                .transactedAt(LocalDateTime.of(2022, 6, 1, 12, 30, 15, 123_456_000))
+                .build();
+        accounts = IntStream.range(0, 10)
+                .mapToObj(i -> AccountInfo.builder()
+                        .accountNumber(String.valueOf(1000000000L + i))
+                        .balance(1000L * i)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] useResponseJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                UseBalance.Response.from(TransactionDto.fromEntity(transaction)));
+    }
+
+    @Benchmark
+    public int useResponseDirect() {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer,
+                UseBalance.Response.from(TransactionDto.fromEntity(transaction)));
+        return writer.size();
+    }
+
+    @Benchmark
+    public byte[] queryResponseJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                QueryTransactionResponse.from(TransactionDto.fromEntity(transaction)));
+    }
+
+    @Benchmark
+    public int queryResponseDirect() {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer,
+                QueryTransactionResponse.from(TransactionDto.fromEntity(transaction)));
+        return writer.size();
+    }
+
+    @Benchmark
+    public byte[] accountListJackson() throws Exception {
+        return objectMapper.writeValueAsBytes(accounts);
+    }
+
+    @Benchmark
+    public int accountListDirect() {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer, accounts);
+        return writer.size();
+    }
+}
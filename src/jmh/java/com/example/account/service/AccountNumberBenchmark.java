@@ -0,0 +1,38 @@
+package com.example.account.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccountService.createAccountNumber 의 계좌 번호 계산 (마지막 계좌 조회는 제외)
+ * first : 계좌가 없을 때, next : 마지막 계좌 번호 + 1 (parseLong + valueOf)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountNumberBenchmark {
+
+    private String lastAccountNumber;
+
+    @Setup
+    public void setUp() {
+        lastAccountNumber = "1000123456";
+    }
+
+    @Benchmark
+    public String first() {
+        return AccountService.nextAccountNumber(null);
+    }
+
+    @Benchmark
+    public String next() {
+        return AccountService.nextAccountNumber(lastAccountNumber);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.account.aop;
+
+import java.util.Collection;
+
+/**
+ * 여러 계좌의 락을 함께 잡는 요청 (계좌 이체)
+ * getAccountNumber 는 출금 계좌로, 요청 한도와 멱등키 범위에 쓰인다.
+ */
+public interface AccountLockIds extends AccountLockId {
+    Collection<String> getAccountNumbers();
+}
@@ -0,0 +1,30 @@
+package com.example.account.config;
+
+import com.example.account.service.AdaptiveConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 잔액을 바꾸는 요청(사용/취소, 이체, 승인/매입/승인 취소)에만 AdmissionControlFilter 를 건다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            @Value("${admission.retry-after-seconds}") long retryAfterSeconds) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(limiter, retryAfterSeconds));
+        registration.addUrlPatterns("/transaction/use", "/transaction/cancel", "/transaction/use/batch",
+                "/transaction/transfer", "/transaction/transfer/batch",
+                "/transaction/authorize", "/transaction/capture", "/transaction/void");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.account.config;
+
+import com.example.account.exception.AccountException;
+import com.example.account.exception.ErrorResponse;
+import com.example.account.json.DirectJsonWriter;
+import com.example.account.json.ErrorResponseJsonSerializer;
+import com.example.account.service.AdaptiveConcurrencyLimiter;
+import com.example.account.type.ErrorCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 쓰기 요청을 AdaptiveConcurrencyLimiter 한도 안에서만 받는다.
+ * 한도를 넘은 요청은 계좌 락이나 DB 커넥션을 잡기 전에 SERVER_BUSY(503) 와 Retry-After 로 바로 거절한다.
+ * 비동기 처리(web.mode=async)는 요청 스레드가 반환된 뒤 AsyncListener 에서 완료를 기록한다.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlFilter(AdaptiveConcurrencyLimiter limiter, long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(startedAt));
+                async = true;
+            }
+        } finally {
+            if (!async)
+                limiter.release(System.nanoTime() - startedAt,
+                        !completed || isServerError(response.getStatus()));
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        ErrorResponseJsonSerializer.write(writer, ErrorResponse.createErrorResponse(
+                new AccountException(ErrorCode.SERVER_BUSY), request.getRequestURI()));
+
+        response.setStatus(ErrorCode.SERVER_BUSY.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(writer.size());
+        response.getOutputStream().write(writer.buffer(), 0, writer.size());
+    }
+
+    private static boolean isServerError(int status) {
+        return status >= 500;
+    }
+
+    private class ReleaseListener implements AsyncListener {
+
+        private final long startedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseListener(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            release(isServerError(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true))
+                limiter.release(System.nanoTime() - startedAt, dropped);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.account.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 모드 (web.virtual-threads.enabled=true, JDK 21 이상에서 실행)
+ * Tomcat 이 요청마다 가상 스레드를 만들어 처리하게 하므로 LockService 의 락 대기와
+ * JDBC 호출로 요청이 막혀도 플랫폼 스레드를 점유하지 않는다.
+ * 소스 호환성은 11 로 유지해야 하므로 Executors.newVirtualThreadPerTaskExecutor 는 리플렉션으로 호출한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "web.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Tomcat requests run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "web.virtual-threads.enabled requires JDK 21 or later, running on "
+                            + System.getProperty("java.version"), e);
+        }
+    }
+}
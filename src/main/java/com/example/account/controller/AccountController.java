@@ -1,11 +1,17 @@
 package com.example.account.controller;
 
+import com.example.account.aop.AccountLock;
 import com.example.account.domain.Account;
 import com.example.account.dto.AccountInfo;
+import com.example.account.dto.BulkCreateAccount;
 import com.example.account.dto.CreateAccount;
+import com.example.account.dto.SplitAccountBalance;
 import com.example.account.dto.UnRegisterAccount;
+import com.example.account.exception.AccountException;
 import com.example.account.service.AccountService;
-import lombok.RequiredArgsConstructor;
+import com.example.account.type.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,11 +20,19 @@ import javax.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
 
+// 엔진(web.mode=engine), Redis 잔액(web.mode=redis) 모드에서도 계좌 API 는 이 컨트롤러가 처리한다.
+// 단, 두 모드에서는 잔액의 원본이 DB 가 아니므로 DB 잔액을 직접 바꾸는 분할/해지 요청은 거절한다.
+@ConditionalOnExpression("'${web.mode:blocking}' != 'async'")
 @RestController
-@RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final boolean balanceOutsideDb;
 
+    public AccountController(AccountService accountService,
+                             @Value("${web.mode:blocking}") String webMode) {
+        this.accountService = accountService;
+        this.balanceOutsideDb = "engine".equals(webMode) || "redis".equals(webMode);
+    }
 
     @PostMapping("/account")
     public ResponseEntity<CreateAccount.Response> createAccount(@RequestBody @Valid CreateAccount.Request request) {
@@ -31,10 +45,35 @@ public class AccountController {
                                         request.getInitialBalance())));
     }
 
+    @PostMapping("/account/bulk")
+    public ResponseEntity<BulkCreateAccount.Response> createAccounts(
+            @RequestBody @Valid BulkCreateAccount.Request request
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(BulkCreateAccount.Response.from(
+                        accountService.createAccounts(request.getItems())));
+    }
+
+    @PostMapping("/account/split")
+    @AccountLock
+    public ResponseEntity<SplitAccountBalance.Response> splitAccountBalance(
+            @RequestBody @Valid SplitAccountBalance.Request request
+    ) {
+        rejectIfBalanceOutsideDb();
+        return ResponseEntity.ok(SplitAccountBalance.Response.from(
+                accountService.splitAccountBalance(
+                        request.getUserId(),
+                        request.getAccountNumber(),
+                        request.getSlotCount()),
+                request.getSlotCount()));
+    }
+
     @DeleteMapping("/account")
     public ResponseEntity<UnRegisterAccount.Response> unregisterAccount(
             @RequestBody @Valid UnRegisterAccount.Request request
     ) {
+        rejectIfBalanceOutsideDb();
         return ResponseEntity
                 .ok(UnRegisterAccount.Response
                         .from(accountService
@@ -57,4 +96,10 @@ public class AccountController {
             @PathVariable Long id) {
         return accountService.getAccount(id);
     }
+
+    private void rejectIfBalanceOutsideDb() {
+        if (balanceOutsideDb) {
+            throw new AccountException(ErrorCode.UNSUPPORTED_IN_WEB_MODE);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.account.controller;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.exception.AccountException;
+import com.example.account.service.AccountEventHub;
+import com.example.account.service.AccountService;
+import com.example.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 잔액 변경 스트림 (Server-Sent Events)
+ * GET /account 를 반복 조회하는 대신 연결 하나로 현재 계좌 정보와 이후 변경("account" 이벤트)을 받는다.
+ * 잔액 사용/취소는 blocking, async 모드의 처리만 반영된다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountStreamController {
+
+    private final AccountService accountService;
+    private final AccountEventHub accountEventHub;
+
+    /**
+     * @param accountNumber 없으면 사용자의 모든 계좌
+     * @throws AccountException USER_NOT_FOUND, ACCOUNT_NOT_FOUND, TOO_MANY_REQUESTS
+     */
+    @GetMapping(value = "/account/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAccountInfo(
+            @RequestParam("user_id") long userId,
+            @RequestParam(value = "account_number", required = false) String accountNumber
+    ) {
+        // 구독 등록 전에 시작된 조회에 합쳐지면 그 사이의 변경을 놓치므로 새로 조회한다.
+        return accountEventHub.subscribe(userId, accountNumber, () -> {
+            List<AccountInfo> snapshot = accountService.loadAllAccountInfo(userId)
+                    .stream()
+                    .map(AccountInfo::from)
+                    .filter(accountInfo -> accountNumber == null
+                            || accountNumber.equals(accountInfo.getAccountNumber()))
+                    .collect(Collectors.toList());
+            if (accountNumber != null && snapshot.isEmpty())
+                throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+            return snapshot;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.account.controller;
+
+import com.example.account.dto.AdmissionStatus;
+import com.example.account.service.AdaptiveConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 쓰기 요청 동시 처리 한도 조회
+ * 현재 한도, 처리 중(락 대기 포함) 요청 수, 누적 거절 수를 반환한다.
+ */
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@RestController
+public class AdmissionController {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @GetMapping("/admission/status")
+    public ResponseEntity<AdmissionStatus> getStatus() {
+        return ResponseEntity.ok(AdmissionStatus.from(limiter));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.account.controller;
+
+import com.example.account.domain.Account;
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.BulkCreateAccount;
+import com.example.account.dto.CreateAccount;
+import com.example.account.dto.SplitAccountBalance;
+import com.example.account.dto.UnRegisterAccount;
+import com.example.account.service.AccountService;
+import com.example.account.service.AsyncLockService;
+import com.example.account.service.AsyncTaskExecutors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 관련 비동기 컨트롤러 (web.mode=async)
+ * AccountController 와 같은 API 를 제공하며 쓰기와 조회를 각각의 작업 풀에서 처리한다.
+ * 잔액 분할은 AsyncTransactionController 와 같은 비동기 계좌 락을 잡은 뒤 처리한다.
+ */
+@ConditionalOnProperty(name = "web.mode", havingValue = "async")
+@RestController
+@RequiredArgsConstructor
+public class AsyncAccountController {
+    private final AccountService accountService;
+    private final AsyncLockService asyncLockService;
+    private final AsyncTaskExecutors asyncTaskExecutors;
+
+    @PostMapping("/account")
+    public CompletableFuture<ResponseEntity<CreateAccount.Response>> createAccount(
+            @RequestBody @Valid CreateAccount.Request request) {
+        return asyncTaskExecutors.supplyWrite(() -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CreateAccount.Response.from(
+                        accountService
+                                .createAccount(
+                                        request.getUserId(),
+                                        request.getInitialBalance()))));
+    }
+
+    @PostMapping("/account/bulk")
+    public CompletableFuture<ResponseEntity<BulkCreateAccount.Response>> createAccounts(
+            @RequestBody @Valid BulkCreateAccount.Request request
+    ) {
+        return asyncTaskExecutors.supplyWrite(() -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(BulkCreateAccount.Response.from(
+                        accountService.createAccounts(request.getItems()))));
+    }
+
+    @PostMapping("/account/split")
+    public CompletableFuture<ResponseEntity<SplitAccountBalance.Response>> splitAccountBalance(
+            @RequestBody @Valid SplitAccountBalance.Request request
+    ) {
+        return asyncLockService.withLock(request.getAccountNumber(),
+                () -> asyncTaskExecutors.supplyWrite(() -> ResponseEntity
+                        .ok(SplitAccountBalance.Response.from(
+                                accountService.splitAccountBalance(
+                                        request.getUserId(),
+                                        request.getAccountNumber(),
+                                        request.getSlotCount()),
+                                request.getSlotCount()))));
+    }
+
+    @DeleteMapping("/account")
+    public CompletableFuture<ResponseEntity<UnRegisterAccount.Response>> unregisterAccount(
+            @RequestBody @Valid UnRegisterAccount.Request request
+    ) {
+        return asyncTaskExecutors.supplyWrite(() -> ResponseEntity
+                .ok(UnRegisterAccount.Response
+                        .from(accountService
+                                .unRegisterAccount(request.getUserId(),
+                                        request.getAccountNumber()))));
+    }
+
+    @GetMapping("/account")
+    public CompletableFuture<ResponseEntity<List<AccountInfo>>> getAllAccountInfo(
+            @RequestParam("user_id") long userId) {
+        return asyncTaskExecutors.supplyRead(() -> ResponseEntity.ok(
+                accountService
+                .getAllAccountInfo(userId)
+                .stream()
+                .map(AccountInfo::from)
+                .collect(Collectors.toList())));
+    }
+
+    @GetMapping("/account/{id}")
+    public CompletableFuture<Account> getAccount(
+            @PathVariable Long id) {
+        return asyncTaskExecutors.supplyRead(() -> accountService.getAccount(id));
+    }
+}
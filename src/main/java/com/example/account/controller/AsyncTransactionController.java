@@ -0,0 +1,97 @@
+package com.example.account.controller;
+
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.service.AsyncLockService;
+import com.example.account.service.AsyncTaskExecutors;
+import com.example.account.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 잔액 관련 비동기 컨트롤러 (web.mode=async)
+ * TransactionController 와 같은 API 를 제공하지만 요청 스레드는 바로 반환되고
+ * 락 대기는 Redisson 비동기 API 에서, DB 작업은 크기가 제한된 작업 풀에서 처리한다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "web.mode", havingValue = "async")
+@RequiredArgsConstructor
+@RestController
+public class AsyncTransactionController {
+
+    private final TransactionService transactionService;
+    private final AsyncLockService asyncLockService;
+    private final AsyncTaskExecutors asyncTaskExecutors;
+
+    @PostMapping("/transaction/use")
+    @RateLimited
+    @Idempotent
+    public CompletableFuture<ResponseEntity<UseBalance.Response>> useBalance(
+            @Valid @RequestBody UseBalance.Request request
+    ){
+        return asyncLockService.withLock(request.getAccountNumber(),
+                () -> asyncTaskExecutors.supplyWrite(() -> {
+                    try {
+                        return ResponseEntity.ok(UseBalance.Response
+                                .from(transactionService
+                                        .useBalance(request.getUserId(),
+                                                request.getAccountNumber(),
+                                                request.getAmount())));
+                    } catch (AccountException e) {
+                        log.debug("Failed to use Balance");
+
+                        transactionService.saveFailedUseTransaction(
+                                request.getAccountNumber(),
+                                request.getAmount()
+                        );
+                        throw e;
+                    }
+                }));
+    }
+
+    @PostMapping("/transaction/cancel")
+    @RateLimited
+    @Idempotent
+    public CompletableFuture<ResponseEntity<CancelBalance.Response>> cancelBalance(
+            @Valid @RequestBody CancelBalance.Request request
+    ){
+        return asyncLockService.withLock(request.getAccountNumber(),
+                () -> asyncTaskExecutors.supplyWrite(() -> {
+                    try {
+                        return ResponseEntity.ok(CancelBalance.Response
+                                .from(transactionService
+                                        .cancelBalance(request.getTransactionId(),
+                                                request.getAccountNumber(),
+                                                request.getAmount())));
+                    } catch (AccountException e) {
+                        log.debug("Failed to use Balance");
+
+                        transactionService.saveFailedCancelTransaction(
+                                request.getAccountNumber(),
+                                request.getAmount()
+                        );
+                        throw e;
+                    }
+                }));
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public CompletableFuture<ResponseEntity<QueryTransactionResponse>> queryTransaction(
+            @PathVariable String transactionId
+    ){
+        return asyncTaskExecutors.supplyRead(() -> ResponseEntity.ok(QueryTransactionResponse
+                .from(transactionService
+                        .queryTransaction(transactionId))));
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.account.controller;
+
+import com.example.account.aop.AccountLock;
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
+import com.example.account.dto.AuthorizeBalance;
+import com.example.account.dto.BalanceHoldDto;
+import com.example.account.dto.CaptureBalance;
+import com.example.account.dto.VoidBalance;
+import com.example.account.service.BalanceHoldExpiryTimer;
+import com.example.account.service.BalanceHoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+/**
+ * 두 단계 잔액 사용 컨트롤러
+ * 1. 승인 (잔액 묶어 두기)
+ * 2. 매입 (묶어 둔 잔액 사용)
+ * 3. 승인 취소
+ * 계좌 락은 단계마다 잡았다가 바로 푼다.
+ */
+@ConditionalOnProperty(name = "web.mode", havingValue = "blocking", matchIfMissing = true)
+@RequiredArgsConstructor
+@RestController
+public class BalanceHoldController {
+
+    private final BalanceHoldService balanceHoldService;
+    private final BalanceHoldExpiryTimer balanceHoldExpiryTimer;
+
+    @PostMapping("/transaction/authorize")
+    @RateLimited
+    @Idempotent
+    @AccountLock
+    public ResponseEntity<AuthorizeBalance.Response> authorizeBalance(
+            @Valid @RequestBody AuthorizeBalance.Request request
+    ){
+        BalanceHoldDto hold = balanceHoldService.authorize(request.getUserId(),
+                request.getAccountNumber(), request.getAmount());
+        balanceHoldExpiryTimer.schedule(hold);
+
+        return ResponseEntity.ok(AuthorizeBalance.Response.from(hold));
+    }
+
+    @PostMapping("/transaction/capture")
+    @RateLimited
+    @Idempotent
+    @AccountLock
+    public ResponseEntity<CaptureBalance.Response> captureBalance(
+            @Valid @RequestBody CaptureBalance.Request request
+    ){
+        return ResponseEntity.ok(CaptureBalance.Response.from(request.getHoldId(),
+                balanceHoldService.capture(request.getHoldId(),
+                        request.getAccountNumber(), request.getAmount())));
+    }
+
+    @PostMapping("/transaction/void")
+    @RateLimited
+    @Idempotent
+    @AccountLock
+    public ResponseEntity<AuthorizeBalance.Response> voidBalance(
+            @Valid @RequestBody VoidBalance.Request request
+    ){
+        return ResponseEntity.ok(AuthorizeBalance.Response
+                .from(balanceHoldService.voidHold(request.getHoldId(),
+                        request.getAccountNumber())));
+    }
+}
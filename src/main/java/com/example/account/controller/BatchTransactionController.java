@@ -0,0 +1,44 @@
+package com.example.account.controller;
+
+import com.example.account.dto.BatchUseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.service.BatchTransactionService;
+import com.example.account.type.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+/**
+ * 대량 거래 컨트롤러
+ * 1. 대량 잔액 사용
+ * 엔진(web.mode=engine), Redis 잔액(web.mode=redis) 모드에서는 잔액의 원본이 DB 가 아니므로
+ * DB 잔액을 직접 차감하는 대량 사용 요청은 거절한다.
+ */
+@RestController
+public class BatchTransactionController {
+
+    private final BatchTransactionService batchTransactionService;
+    private final boolean balanceOutsideDb;
+
+    public BatchTransactionController(BatchTransactionService batchTransactionService,
+                                      @Value("${web.mode:blocking}") String webMode) {
+        this.batchTransactionService = batchTransactionService;
+        this.balanceOutsideDb = "engine".equals(webMode) || "redis".equals(webMode);
+    }
+
+    @PostMapping("/transaction/use/batch")
+    public ResponseEntity<BatchUseBalance.Response> useBalanceBatch(
+            @Valid @RequestBody BatchUseBalance.Request request
+    ) {
+        if (balanceOutsideDb) {
+            throw new AccountException(ErrorCode.UNSUPPORTED_IN_WEB_MODE);
+        }
+        return ResponseEntity.ok(BatchUseBalance.Response
+                .from(batchTransactionService
+                        .useBalanceBatch(request.getItems())));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.account.controller;
+
+import com.example.account.dto.DailySummaryInfo;
+import com.example.account.service.DailySummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 거래 집계 컨트롤러
+ * 1. 계좌별 일일 집계 조회
+ * 2. 사용자별 일일 집계 조회
+ */
+@RequiredArgsConstructor
+@RestController
+public class DailySummaryController {
+
+    private final DailySummaryService dailySummaryService;
+
+    @GetMapping("/account/{accountNumber}/summaries")
+    public ResponseEntity<List<DailySummaryInfo>> getAccountSummaries(
+            @PathVariable String accountNumber,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(
+                dailySummaryService
+                        .getAccountSummaries(accountNumber, from, to)
+                        .stream()
+                        .map(DailySummaryInfo::from)
+                        .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<List<DailySummaryInfo>> getUserSummaries(
+            @RequestParam("user_id") long userId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(
+                dailySummaryService
+                        .getUserSummaries(userId, from, to)
+                        .stream()
+                        .map(DailySummaryInfo::from)
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.account.controller;
+
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.engine.TransactionEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 잔액 관련 엔진 컨트롤러 (web.mode=engine)
+ * TransactionController 와 같은 API 를 제공하며, 사용/취소는 TransactionEngine 의 링 버퍼에 발행하고
+ * 엔진이 결과를 기록한 뒤 응답한다. 엔진이 단일 스레드로 처리하므로 계좌 락을 잡지 않는다.
+ */
+@ConditionalOnProperty(name = "web.mode", havingValue = "engine")
+@RequiredArgsConstructor
+@RestController
+public class EngineTransactionController {
+
+    private final TransactionEngine transactionEngine;
+
+    @PostMapping("/transaction/use")
+    @RateLimited
+    @Idempotent
+    public CompletableFuture<ResponseEntity<UseBalance.Response>> useBalance(
+            @Valid @RequestBody UseBalance.Request request
+    ){
+        return transactionEngine
+                .useBalance(request.getUserId(),
+                        request.getAccountNumber(),
+                        request.getAmount())
+                .thenApply(dto -> ResponseEntity.ok(UseBalance.Response.from(dto)));
+    }
+
+    @PostMapping("/transaction/cancel")
+    @RateLimited
+    @Idempotent
+    public CompletableFuture<ResponseEntity<CancelBalance.Response>> cancelBalance(
+            @Valid @RequestBody CancelBalance.Request request
+    ){
+        return transactionEngine
+                .cancelBalance(request.getTransactionId(),
+                        request.getAccountNumber(),
+                        request.getAmount())
+                .thenApply(dto -> ResponseEntity.ok(CancelBalance.Response.from(dto)));
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public ResponseEntity<QueryTransactionResponse> queryTransaction(
+            @PathVariable String transactionId
+    ){
+        return ResponseEntity.ok(QueryTransactionResponse
+                .from(transactionEngine.findTransaction(transactionId)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.account.controller;
+
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.redis.RedisLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+/**
+ * 잔액 관련 Redis 잔액 컨트롤러 (web.mode=redis)
+ * TransactionController 와 같은 API 를 제공하며, 사용/취소는 RedisLedgerService 의 스크립트 한 번으로
+ * 처리되므로 계좌 락을 잡지 않는다. 실패한 거래는 스크립트가 직접 남긴다.
+ */
+@ConditionalOnProperty(name = "web.mode", havingValue = "redis")
+@RequiredArgsConstructor
+@RestController
+public class RedisTransactionController {
+
+    private final RedisLedgerService redisLedgerService;
+
+    @PostMapping("/transaction/use")
+    @RateLimited
+    @Idempotent
+    public ResponseEntity<UseBalance.Response> useBalance(
+            @Valid @RequestBody UseBalance.Request request
+    ){
+        return ResponseEntity.ok(UseBalance.Response.from(redisLedgerService
+                .useBalance(request.getUserId(),
+                        request.getAccountNumber(),
+                        request.getAmount())));
+    }
+
+    @PostMapping("/transaction/cancel")
+    @RateLimited
+    @Idempotent
+    public ResponseEntity<CancelBalance.Response> cancelBalance(
+            @Valid @RequestBody CancelBalance.Request request
+    ){
+        return ResponseEntity.ok(CancelBalance.Response.from(redisLedgerService
+                .cancelBalance(request.getTransactionId(),
+                        request.getAccountNumber(),
+                        request.getAmount())));
+    }
+
+    @GetMapping("/transaction/{transactionId}")
+    public ResponseEntity<QueryTransactionResponse> queryTransaction(
+            @PathVariable String transactionId
+    ){
+        return ResponseEntity.ok(QueryTransactionResponse
+                .from(redisLedgerService.findTransaction(transactionId)));
+    }
+}
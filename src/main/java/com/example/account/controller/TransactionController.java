@@ -1,6 +1,8 @@
 package com.example.account.controller;
 
 import com.example.account.aop.AccountLock;
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
 import com.example.account.dto.CancelBalance;
 import com.example.account.dto.QueryTransactionResponse;
 import com.example.account.dto.TransactionDto;
@@ -9,6 +11,7 @@ import com.example.account.exception.AccountException;
 import com.example.account.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +23,7 @@ import javax.validation.Valid;
  * 2. 잔액 사용 취소
  * 3. 거래 확인
  */
+@ConditionalOnProperty(name = "web.mode", havingValue = "blocking", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -28,6 +32,8 @@ public class TransactionController {
     private final TransactionService transactionService;
 
     @PostMapping("/transaction/use")
+    @RateLimited
+    @Idempotent
     @AccountLock
     public ResponseEntity<UseBalance.Response> useBalance(
             @Valid @RequestBody UseBalance.Request request
@@ -39,7 +45,7 @@ public class TransactionController {
                                     request.getAccountNumber(),
                                     request.getAmount())));
         } catch (AccountException e) {
-            log.error("Failed to use Balance");
+            log.debug("Failed to use Balance");
 
             transactionService.saveFailedUseTransaction(
                     request.getAccountNumber(),
@@ -50,6 +56,8 @@ public class TransactionController {
     }
 
     @PostMapping("/transaction/cancel")
+    @RateLimited
+    @Idempotent
     @AccountLock
     public ResponseEntity<CancelBalance.Response> cancelBalance(
             @Valid @RequestBody CancelBalance.Request request
@@ -61,7 +69,7 @@ public class TransactionController {
                                     request.getAccountNumber(),
                                     request.getAmount())));
         } catch (AccountException e) {
-            log.error("Failed to use Balance");
+            log.debug("Failed to use Balance");
 
             transactionService.saveFailedCancelTransaction(
                     request.getAccountNumber(),
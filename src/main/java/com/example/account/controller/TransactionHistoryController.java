@@ -0,0 +1,62 @@
+package com.example.account.controller;
+
+import com.example.account.dto.TransactionHistory;
+import com.example.account.service.TransactionExportService;
+import com.example.account.service.TransactionExportStreamer;
+import com.example.account.service.TransactionService;
+import com.example.account.type.ExportFormat;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * 계좌 거래 내역 컨트롤러
+ * 1. 거래 내역 페이지 조회
+ * 2. 거래 원장 내보내기 (요청별 타임아웃은 transaction-export.timeout)
+ */
+@RequiredArgsConstructor
+@RestController
+public class TransactionHistoryController {
+
+    private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionExportStreamer transactionExportStreamer;
+
+    @GetMapping("/account/{accountNumber}/transactions")
+    public ResponseEntity<TransactionHistory.Response> getTransactionHistory(
+            @PathVariable String accountNumber,
+            @RequestParam(value = "transaction_type", required = false) TransactionType transactionType,
+            @RequestParam(value = "transaction_result", required = false) TransactionResultType transactionResultType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(TransactionHistory.Response
+                .from(transactionService
+                        .getTransactionHistory(accountNumber,
+                                transactionType,
+                                transactionResultType,
+                                cursor,
+                                size)));
+    }
+
+    @GetMapping("/account/{accountNumber}/transactions/export")
+    public ResponseEntity<ResponseBodyEmitter> exportTransactions(
+            @PathVariable String accountNumber,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        Long accountId = transactionExportService.getAccountId(accountNumber);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + accountNumber + format.getExtension() + "\"")
+                .body(transactionExportStreamer.export(accountId, format));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.account.controller;
+
+import com.example.account.aop.AccountLock;
+import com.example.account.aop.Idempotent;
+import com.example.account.aop.RateLimited;
+import com.example.account.dto.BatchTransferBalance;
+import com.example.account.dto.TransferBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+
+/**
+ * 계좌 이체 컨트롤러
+ * 1. 계좌 이체
+ * 2. 한 계좌에서 여러 계좌로 이체
+ * 관련 계좌의 락은 계좌 번호 순으로 한 번에 잡는다. (LockService.lockAll)
+ */
+@ConditionalOnProperty(name = "web.mode", havingValue = "blocking", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class TransferController {
+
+    private final TransactionService transactionService;
+
+    @PostMapping("/transaction/transfer")
+    @RateLimited
+    @Idempotent
+    @AccountLock
+    public ResponseEntity<TransferBalance.Response> transferBalance(
+            @Valid @RequestBody TransferBalance.Request request
+    ){
+        try {
+            return ResponseEntity.ok(TransferBalance.Response
+                    .from(transactionService
+                            .transferBalance(request.getUserId(),
+                                    request.getAccountNumber(),
+                                    request.getToAccountNumber(),
+                                    request.getAmount())));
+        } catch (AccountException e) {
+            log.debug("Failed to transfer Balance");
+
+            transactionService.saveFailedTransferTransaction(
+                    request.getAccountNumber(),
+                    request.getAmount()
+            );
+            throw e;
+        }
+    }
+
+    @PostMapping("/transaction/transfer/batch")
+    @RateLimited
+    @Idempotent
+    @AccountLock
+    public ResponseEntity<BatchTransferBalance.Response> transferBalanceBatch(
+            @Valid @RequestBody BatchTransferBalance.Request request
+    ){
+        return ResponseEntity.ok(BatchTransferBalance.Response
+                .from(transactionService
+                        .transferBalanceBatch(request.getUserId(),
+                                request.getAccountNumber(),
+                                request.getItems())));
+    }
+}
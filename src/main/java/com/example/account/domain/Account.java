@@ -18,6 +18,7 @@ import static com.example.account.type.ErrorCode.INVALID_REQUEST;
 @SuperBuilder
 @Entity
 public class Account extends BaseEntity{
+    @Column(unique = true)
     private String accountNumber;
 
     @Enumerated(EnumType.STRING)
@@ -29,8 +30,21 @@ public class Account extends BaseEntity{
 
     private Long balance;
 
+    private Long initialBalance;
+
     private LocalDateTime unRegisteredAt;
 
+    /**
+     * 잔액을 나눠 담은 AccountBalanceSlot 수, 나누지 않은 계좌는 null
+     * 나눈 계좌의 잔액은 슬롯 잔액의 합이며 balance 는 0 으로 남는다.
+     */
+    private Integer balanceSlotCount;
+
+    /**
+     * 승인(authorize) 후 매입(capture)이나 취소(void)를 기다리는 금액의 합, 없으면 null
+     * balance 에 포함되어 있지만 잔액 사용이나 새 승인에는 쓸 수 없다.
+     */
+    private Long heldBalance;
 
 
     public static Account createAccount(AccountUser user, Long initialBalance, String accountNumber){
@@ -38,6 +52,7 @@ public class Account extends BaseEntity{
                 .accountNumber(accountNumber)
                 .accountStatus(AccountStatus.IN_USE)
                 .balance(initialBalance)
+                .initialBalance(initialBalance)
                 .accountUser(user)
                 .build();
 
@@ -48,8 +63,59 @@ public class Account extends BaseEntity{
         unRegisteredAt = LocalDateTime.now();
     }
 
+    /**
+     * 잔액 사용 규칙
+     * @throws AccountException ACCOUNT_OWNER_UN_MATCH, ACCOUNT_ALREADY_UNREGISTERED, AMOUNT_EXCEED_BALANCE
+     */
+    public void validateUseBalance(Long userId, Long amount) {
+        if(!userId.equals(accountUser.getId()))
+            throw new AccountException(ErrorCode.ACCOUNT_OWNER_UN_MATCH);
+        if(accountStatus != AccountStatus.IN_USE)
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        if(!isBalanceSplit() && getAvailableBalance() < amount)
+            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+
+    /**
+     * 승인해 둔 금액을 뺀, 사용할 수 있는 잔액
+     */
+    public long getAvailableBalance() {
+        return heldBalance == null ? balance : balance - heldBalance;
+    }
+
+    /**
+     * 이체 입금 규칙
+     * @throws AccountException ACCOUNT_ALREADY_UNREGISTERED
+     */
+    public void validateDeposit() {
+        if(accountStatus != AccountStatus.IN_USE)
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+    }
+
+    public boolean isBalanceSplit() {
+        return balanceSlotCount != null && balanceSlotCount > 1;
+    }
+
+    /**
+     * 잔액을 슬롯으로 옮길 수 있게 계좌를 나눈 상태로 바꾼다.
+     * @return 슬롯으로 옮길 잔액
+     * @throws AccountException ACCOUNT_ALREADY_UNREGISTERED, INVALID_REQUEST
+     */
+    public long splitBalance(int slotCount) {
+        if(accountStatus != AccountStatus.IN_USE)
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        if(isBalanceSplit() || slotCount < 2
+                || (heldBalance != null && heldBalance > 0))
+            throw new AccountException(INVALID_REQUEST);
+
+        long moved = balance;
+        balance = 0L;
+        balanceSlotCount = slotCount;
+        return moved;
+    }
+
     public void useBalance(Long amount){
-        if(amount > balance)
+        if(amount > getAvailableBalance())
             throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
 
         balance -= amount;
@@ -60,4 +126,35 @@ public class Account extends BaseEntity{
             throw new AccountException(INVALID_REQUEST);
         this.balance += amount;
     }
+
+    /**
+     * 사용할 수 있는 잔액에서 amount 를 승인해 둔다.
+     * @throws AccountException INVALID_REQUEST, AMOUNT_EXCEED_BALANCE
+     */
+    public void holdBalance(Long amount) {
+        if(amount < 0 || isBalanceSplit())
+            throw new AccountException(INVALID_REQUEST);
+        if(amount > getAvailableBalance())
+            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        heldBalance = (heldBalance == null ? 0L : heldBalance) + amount;
+    }
+
+    /**
+     * 승인해 둔 amount 를 잔액에서 차감한다.
+     * @throws AccountException INVALID_REQUEST
+     */
+    public void captureHeldBalance(Long amount) {
+        releaseHeldBalance(amount);
+        balance -= amount;
+    }
+
+    /**
+     * 승인해 둔 amount 를 다시 사용할 수 있는 잔액으로 돌린다.
+     * @throws AccountException INVALID_REQUEST
+     */
+    public void releaseHeldBalance(Long amount) {
+        if(amount < 0 || heldBalance == null || heldBalance < amount)
+            throw new AccountException(INVALID_REQUEST);
+        heldBalance -= amount;
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.account.domain;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * 잔액을 나눈 계좌(Account.balanceSlotCount)의 잔액 조각
+ * 계좌 잔액은 모든 슬롯 잔액의 합이며, 사용/취소는 슬롯 한 행만 갱신한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_balance_slot_account_slot",
+        columnNames = {"account_id", "slot_index"}))
+public class AccountBalanceSlot extends BaseEntity {
+
+    private Long accountId;
+
+    private Integer slotIndex;
+
+    private Long balance;
+
+    public void withdraw(Long amount) {
+        if (amount > balance)
+            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        balance -= amount;
+    }
+
+    public void changeBalance(Long balance) {
+        this.balance = balance;
+    }
+}
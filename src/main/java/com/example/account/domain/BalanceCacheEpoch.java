@@ -0,0 +1,26 @@
+package com.example.account.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.Entity;
+
+/**
+ * 잔액 캐시 파일(MappedBalanceCache)이 이 DB 의 것인지 확인하는 값 (행 하나)
+ * 캐시 파일을 열 때마다 새 값으로 바꾸고 파일 헤더에도 같은 값을 쓴다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+public class BalanceCacheEpoch extends BaseEntity {
+
+    private Long epoch;
+
+    public void changeEpoch(Long epoch) {
+        this.epoch = epoch;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.account.domain;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.HoldStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.example.account.type.ErrorCode.*;
+
+/**
+ * 승인(authorize)해 둔 금액
+ * AUTHORIZED 인 동안 금액은 Account.heldBalance 에 묶여 있고,
+ * 매입(CAPTURED)되면 잔액 사용 거래로, 취소(VOIDED)나 만료(EXPIRED)되면 다시 사용할 수 있는 잔액으로 돌아간다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_balance_hold_hold_id", columnList = "hold_id", unique = true),
+        @Index(name = "idx_balance_hold_status_expires_at",
+                columnList = "hold_status, expires_at")})
+public class BalanceHold extends BaseEntity {
+
+    private String holdId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Account account;
+
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    private HoldStatus holdStatus;
+
+    private LocalDateTime expiresAt;
+
+    public static BalanceHold authorize(Account account, Long amount, LocalDateTime expiresAt) {
+        return BalanceHold.builder()
+                .holdId(Transaction.newTransactionId())
+                .account(account)
+                .amount(amount)
+                .holdStatus(HoldStatus.AUTHORIZED)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 매입/취소 규칙
+     * @throws AccountException TRANSACTION_ACCOUNT_UN_MATCH, HOLD_ALREADY_FINISHED
+     */
+    public void validateFinish(Account account) {
+        if(!this.account.getId().equals(account.getId()))
+            throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
+        if(holdStatus != HoldStatus.AUTHORIZED)
+            throw new AccountException(HOLD_ALREADY_FINISHED);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.account.domain;
+
+import com.example.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 계좌별 일일 거래 집계
+ * 성공(S) 거래가 저장될 때마다 같은 트랜잭션 안에서 증분 갱신된다.
+ * 잔액을 나눈 계좌는 잔액 슬롯마다 집계 행을 따로 두므로, 조회할 때는 슬롯을 합산한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_daily_summary_account_date_type",
+        columnNames = {"account_id", "summary_date", "transaction_type", "slot_index"}),
+        indexes = @Index(name = "idx_daily_summary_user_date",
+                columnList = "user_id, summary_date"))
+public class DailyTransactionSummary extends BaseEntity {
+
+    private Long accountId;
+
+    private Long userId;
+
+    private LocalDate summaryDate;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    private Integer slotIndex;
+
+    private Long totalAmount;
+
+    private Long transactionCount;
+}
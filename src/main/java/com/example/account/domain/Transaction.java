@@ -1,5 +1,6 @@
 package com.example.account.domain;
 
+import com.example.account.exception.AccountException;
 import com.example.account.type.TransactionResultType;
 import com.example.account.type.TransactionType;
 import lombok.AllArgsConstructor;
@@ -10,12 +11,19 @@ import lombok.experimental.SuperBuilder;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.example.account.type.ErrorCode.*;
 
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_transaction_account_transacted_at",
+                columnList = "account_id, transacted_at, id"),
+        @Index(name = "idx_transaction_transaction_id", columnList = "transaction_id")})
 public class Transaction extends BaseEntity {
 
 
@@ -36,5 +44,34 @@ public class Transaction extends BaseEntity {
 
     private LocalDateTime transactedAt;
 
+    /**
+     * 일일 집계(DailyTransactionSummary)를 반영할 슬롯, 저장하지 않는다.
+     * 잔액을 나눈 계좌는 잔액을 바꾼 슬롯 번호, 그 외 계좌는 0 이다.
+     */
+    @Transient
+    private int summarySlot;
+
+    public static String newTransactionId() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
 
+    /**
+     * 잔액 사용 취소 규칙
+     * @throws AccountException TRANSACTION_ACCOUNT_UN_MATCH, TRANSACTION_AMOUNT_UN_MATCH,
+     * TOO_OLD_TRANSACTION_TO_CANCEL, INVALID_REQUEST (이체 거래)
+     */
+    public void validateCancel(Account account, Long amount) {
+        // 이체는 두 계좌의 거래가 한 쌍이므로 한쪽만 취소할 수 없다.
+        if(transactionType == TransactionType.TRANSFER_OUT
+                || transactionType == TransactionType.TRANSFER_IN)
+            throw new AccountException(INVALID_REQUEST);
+        if(!this.account.getId().equals(account.getId()))
+            throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
+        if(!this.amount.equals(amount))
+            throw new AccountException(TRANSACTION_AMOUNT_UN_MATCH);
+        if(transactedAt.plusYears(1).isBefore(LocalDateTime.now()))
+            throw new AccountException(TOO_OLD_TRANSACTION_TO_CANCEL);
+        if(amount < 0)
+            throw new AccountException(INVALID_REQUEST);
+    }
 }
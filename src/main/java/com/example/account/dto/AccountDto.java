@@ -18,11 +18,18 @@ public class AccountDto {
     private LocalDateTime unRegisteredAt;
 
     public static AccountDto fromEntity(Account account) {
+        return fromEntity(account, account.getBalance());
+    }
+
+    /**
+     * @param balance 계좌 잔액 (잔액을 나눈 계좌는 슬롯 잔액의 합)
+     */
+    public static AccountDto fromEntity(Account account, Long balance) {
         return AccountDto.builder()
                 .userId(account.getAccountUser().getId())
                 .accountNumber(account.getAccountNumber())
                 .createdAt(account.getCreatedAt())
-                .balance(account.getBalance())
+                .balance(balance)
                 .unRegisteredAt(account.getUnRegisteredAt())
                 .build();
     }
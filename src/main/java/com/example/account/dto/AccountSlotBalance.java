@@ -0,0 +1,10 @@
+package com.example.account.dto;
+
+/**
+ * 계좌별 슬롯 잔액 합 프로젝션
+ */
+public interface AccountSlotBalance {
+    Long getAccountId();
+
+    Long getBalance();
+}
@@ -0,0 +1,31 @@
+package com.example.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JDBC 로 읽은 계좌 상태
+ * 엔진(web.mode=engine)과 Redis 잔액(web.mode=redis) 모드가 처음 보는 계좌를 올릴 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountSnapshot {
+
+    private final long id;
+    private final String accountNumber;
+    private final long userId;
+    private final long balance;
+    /**
+     * 승인(authorize)으로 묶인 금액, 사용 가능 잔액은 balance - heldBalance
+     */
+    private final long heldBalance;
+    private final boolean inUse;
+    /**
+     * 잔액을 슬롯으로 나눈 계좌(/account/split)는 balance 가 아니라 슬롯에 잔액이 있다.
+     */
+    private final boolean balanceSplit;
+
+    public long getAvailableBalance() {
+        return balance - heldBalance;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.account.dto;
+
+import com.example.account.service.AdaptiveConcurrencyLimiter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class AdmissionStatus {
+
+    private int limit;
+    private int inFlight;
+    private long rejectedCount;
+
+    public static AdmissionStatus from(AdaptiveConcurrencyLimiter limiter) {
+        return AdmissionStatus.builder()
+                .limit(limiter.getLimit())
+                .inFlight(limiter.getInFlight())
+                .rejectedCount(limiter.getRejectedCount())
+                .build();
+    }
+}
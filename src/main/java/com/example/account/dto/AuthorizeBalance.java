@@ -0,0 +1,55 @@
+package com.example.account.dto;
+
+import com.example.account.aop.AccountLockId;
+import com.example.account.aop.AccountUserId;
+import com.example.account.type.HoldStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.*;
+import java.time.LocalDateTime;
+
+public class AuthorizeBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockId, AccountUserId {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String accountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1000_000_000)
+        private Long amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response{
+        private String accountNumber;
+        private String holdId;
+        private HoldStatus holdStatus;
+        private Long amount;
+        private LocalDateTime expiresAt;
+
+        public static Response from(BalanceHoldDto dto){
+            return Response.builder()
+                    .accountNumber(dto.getAccountNumber())
+                    .holdId(dto.getHoldId())
+                    .holdStatus(dto.getHoldStatus())
+                    .amount(dto.getAmount())
+                    .expiresAt(dto.getExpiresAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.account.dto;
+
+import com.example.account.domain.BalanceHold;
+import com.example.account.type.HoldStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class BalanceHoldDto {
+
+    private String accountNumber;
+    private String holdId;
+    private Long amount;
+    private HoldStatus holdStatus;
+    private LocalDateTime expiresAt;
+
+    public static BalanceHoldDto fromEntity(BalanceHold hold) {
+        return fromEntity(hold, hold.getHoldStatus());
+    }
+
+    /**
+     * 조건부 갱신으로 상태만 바꾼 승인은 엔티티의 상태가 갱신 전 값이므로 바뀐 상태를 받는다.
+     */
+    public static BalanceHoldDto fromEntity(BalanceHold hold, HoldStatus holdStatus) {
+        return BalanceHoldDto.builder()
+                .accountNumber(hold.getAccount().getAccountNumber())
+                .holdId(hold.getHoldId())
+                .amount(hold.getAmount())
+                .holdStatus(holdStatus)
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.account.dto;
+
+import com.example.account.aop.AccountLockIds;
+import com.example.account.aop.AccountUserId;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 한 출금 계좌에서 여러 계좌로 보내는 이체 (급여 지급 등)
+ */
+public class BatchTransferBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockIds, AccountUserId {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        /**
+         * 출금 계좌
+         */
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String accountNumber;
+
+        // 모든 입금 계좌의 락을 함께 잡으므로 한 번에 보낼 수 있는 건수를 작게 둔다.
+        @NotEmpty
+        @Size(max = 100)
+        private List<@Valid Item> items;
+
+        @JsonIgnore
+        @Override
+        public Collection<String> getAccountNumbers() {
+            List<String> accountNumbers = new ArrayList<>(items.size() + 1);
+            accountNumbers.add(accountNumber);
+            items.forEach(item -> accountNumbers.add(item.getToAccountNumber()));
+            return accountNumbers;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String toAccountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1000_000_000)
+        private Long amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<TransferBalance.Response> results;
+
+        public static Response from(List<TransferDto> dtos) {
+            return Response.builder()
+                    .results(dtos.stream()
+                            .map(TransferBalance.Response::from)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BatchUseBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotEmpty
+        @Size(max = 1000)
+        private List<@Valid UseBalance.Request> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<UseBalance.Response> results;
+
+        public static Response from(List<TransactionDto> dtos) {
+            return Response.builder()
+                    .results(dtos.stream()
+                            .map(UseBalance.Response::from)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.account.dto;
+
+import com.example.account.type.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkCreateAccount {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotEmpty
+        @Size(max = 100_000)
+        private List<@Valid CreateAccount.Request> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private int createdCount;
+        private int failedCount;
+        private List<Item> results;
+
+        public static Response from(List<Item> results) {
+            int created = (int) results.stream()
+                    .filter(item -> item.getErrorCode() == null)
+                    .count();
+            return Response.builder()
+                    .createdCount(created)
+                    .failedCount(results.size() - created)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    /**
+     * 요청 한 건의 처리 결과, 실패한 건은 accountNumber 없이 errorCode 를 담는다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private Long userId;
+        private String accountNumber;
+        private LocalDateTime registeredAt;
+        private ErrorCode errorCode;
+        private String errorMessage;
+
+        public static Item success(AccountDto accountDto) {
+            return Item.builder()
+                    .userId(accountDto.getUserId())
+                    .accountNumber(accountDto.getAccountNumber())
+                    .registeredAt(accountDto.getCreatedAt())
+                    .build();
+        }
+
+        public static Item fail(Long userId, ErrorCode errorCode) {
+            return Item.builder()
+                    .userId(userId)
+                    .errorCode(errorCode)
+                    .errorMessage(errorCode.getDescription())
+                    .build();
+        }
+    }
+}
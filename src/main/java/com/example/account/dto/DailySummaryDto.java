@@ -0,0 +1,29 @@
+package com.example.account.dto;
+
+import com.example.account.domain.DailyTransactionSummary;
+import com.example.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class DailySummaryDto {
+
+    private LocalDate summaryDate;
+    private TransactionType transactionType;
+    private Long totalAmount;
+    private Long transactionCount;
+
+    public static DailySummaryDto fromEntity(DailyTransactionSummary summary) {
+        return DailySummaryDto.builder()
+                .summaryDate(summary.getSummaryDate())
+                .transactionType(summary.getTransactionType())
+                .totalAmount(summary.getTotalAmount())
+                .transactionCount(summary.getTransactionCount())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.account.dto;
+
+import com.example.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class DailySummaryInfo {
+
+    private LocalDate date;
+    private TransactionType transactionType;
+    private Long totalAmount;
+    private Long count;
+
+    public static DailySummaryInfo from(DailySummaryDto dto) {
+        return DailySummaryInfo.builder()
+                .date(dto.getSummaryDate())
+                .transactionType(dto.getTransactionType())
+                .totalAmount(dto.getTotalAmount())
+                .count(dto.getTransactionCount())
+                .build();
+    }
+}
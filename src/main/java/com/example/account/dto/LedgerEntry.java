@@ -0,0 +1,21 @@
+package com.example.account.dto;
+
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+
+/**
+ * 원장 검증용 거래 프로젝션
+ */
+public interface LedgerEntry {
+    Long getAccountId();
+
+    String getTransactionId();
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    Long getAmount();
+
+    Long getBalanceSnapshot();
+}
@@ -0,0 +1,35 @@
+package com.example.account.dto;
+
+import com.example.account.type.ReconciliationMismatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+public class ReconciliationReport {
+
+    private long accountsChecked;
+    private long transactionsChecked;
+    private long mismatchCount;
+    private int failedPartitions;
+    private long elapsedMillis;
+    private double transactionsPerSecond;
+    private List<Mismatch> mismatches;
+
+    @Getter
+    @Builder
+    @ToString
+    @AllArgsConstructor
+    public static class Mismatch {
+        private String accountNumber;
+        private ReconciliationMismatchType type;
+        private String transactionId;
+        private Long expected;
+        private Long actual;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.account.dto;
+
+import com.example.account.aop.AccountLockId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class SplitAccountBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockId {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String accountNumber;
+
+        @NotNull
+        @Min(2)
+        @Max(64)
+        private Integer slotCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private String accountNumber;
+        private Integer slotCount;
+        private Long balance;
+
+        public static Response from(AccountDto accountDto, Integer slotCount) {
+            return Response.builder()
+                    .accountNumber(accountDto.getAccountNumber())
+                    .slotCount(slotCount)
+                    .balance(accountDto.getBalance())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멱등키로 저장된 최초 응답
+ * status 가 0 이면 아직 처리 중인 요청을 의미한다.
+ * fingerprint 는 최초 요청(userId 를 포함한 요청 본문)의 해시이며, 같은 키의 다른 요청을 가려낸다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+
+    private static final char DELIMITER = ':';
+
+    private int status;
+    private String fingerprint;
+    private String body;
+
+    public static StoredResponse pending(String fingerprint) {
+        return new StoredResponse(0, fingerprint, null);
+    }
+
+    public boolean isPending() {
+        return status == 0;
+    }
+
+    public boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+
+    public String serialize() {
+        return isPending()
+                ? "0" + DELIMITER + fingerprint
+                : status + String.valueOf(DELIMITER) + fingerprint + DELIMITER + body;
+    }
+
+    /**
+     * fingerprint 는 ':' 가 없는 base64url 이므로 두 번째 ':' 뒤가 body 이다.
+     */
+    public static StoredResponse deserialize(String value) {
+        int index = value.indexOf(DELIMITER);
+        if (index < 0)
+            throw new IllegalArgumentException("Malformed stored response");
+        int status = Integer.parseInt(value.substring(0, index));
+        if (status == 0)
+            return pending(value.substring(index + 1));
+
+        int bodyIndex = value.indexOf(DELIMITER, index + 1);
+        if (bodyIndex < 0)
+            throw new IllegalArgumentException("Malformed stored response");
+        return new StoredResponse(status, value.substring(index + 1, bodyIndex),
+                value.substring(bodyIndex + 1));
+    }
+}
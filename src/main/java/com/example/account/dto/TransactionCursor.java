@@ -0,0 +1,55 @@
+package com.example.account.dto;
+
+import com.example.account.domain.Transaction;
+import com.example.account.exception.AccountException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.example.account.type.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 거래 내역 페이지 커서
+ * 마지막으로 조회된 거래의 (transactedAt, id)를 담아 다음 페이지의 시작점으로 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime transactedAt;
+    private Long id;
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactedAt(), transaction.getId());
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((transactedAt + DELIMITER + id)
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지는 null
+     * @throws AccountException INVALID_REQUEST 커서 형식이 올바르지 않은 경우
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new TransactionCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Long.parseLong(decoded.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+    }
+}
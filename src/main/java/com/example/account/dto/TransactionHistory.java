@@ -0,0 +1,33 @@
+package com.example.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TransactionHistory {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<QueryTransactionResponse> transactions;
+        private String nextCursor;
+        private boolean hasNext;
+
+        public static Response from(TransactionPage page) {
+            return Response.builder()
+                    .transactions(page.getTransactions()
+                            .stream()
+                            .map(QueryTransactionResponse::from)
+                            .collect(Collectors.toList()))
+                    .nextCursor(page.getNextCursor())
+                    .hasNext(page.hasNext())
+                    .build();
+        }
+    }
+}
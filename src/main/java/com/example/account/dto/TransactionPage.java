@@ -0,0 +1,18 @@
+package com.example.account.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TransactionPage {
+
+    private List<TransactionDto> transactions;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
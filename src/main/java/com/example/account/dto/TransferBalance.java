@@ -0,0 +1,78 @@
+package com.example.account.dto;
+
+import com.example.account.aop.AccountLockIds;
+import com.example.account.aop.AccountUserId;
+import com.example.account.type.TransactionResultType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.*;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TransferBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockIds, AccountUserId {
+        @NotNull
+        @Min(1)
+        private Long userId;
+
+        /**
+         * 출금 계좌
+         */
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String accountNumber;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String toAccountNumber;
+
+        @NotNull
+        @Min(10)
+        @Max(1000_000_000)
+        private Long amount;
+
+        @JsonIgnore
+        @Override
+        public Collection<String> getAccountNumbers() {
+            return List.of(accountNumber, toAccountNumber);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response{
+        private String accountNumber;
+        private String toAccountNumber;
+        private TransactionResultType transactionResult;
+        private String transactionId;
+        private String toTransactionId;
+        private Long amount;
+        private LocalDateTime transactionAt;
+
+        public static Response from(TransferDto dto){
+            TransactionDto withdrawal = dto.getWithdrawal();
+            return Response.builder()
+                    .accountNumber(withdrawal.getAccountNumber())
+                    .toAccountNumber(dto.getToAccountNumber())
+                    .transactionResult(withdrawal.getTransactionResultType())
+                    .transactionId(withdrawal.getTransactionId())
+                    .toTransactionId(dto.getDeposit() == null
+                            ? null
+                            : dto.getDeposit().getTransactionId())
+                    .amount(withdrawal.getAmount())
+                    .transactionAt(withdrawal.getTransactedAt())
+                    .build();
+        }
+    }
+}
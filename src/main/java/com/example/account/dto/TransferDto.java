@@ -0,0 +1,28 @@
+package com.example.account.dto;
+
+import com.example.account.domain.Transaction;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 이체 한 건의 출금(TRANSFER_OUT), 입금(TRANSFER_IN) 거래
+ * 실패한 이체는 출금 계좌의 실패(F) 거래만 있고 deposit 은 null 이다.
+ */
+@Data
+@Builder
+public class TransferDto {
+
+    private String toAccountNumber;
+    private TransactionDto withdrawal;
+    private TransactionDto deposit;
+
+    public static TransferDto fromEntities(String toAccountNumber,
+                                           Transaction withdrawal,
+                                           Transaction deposit) {
+        return TransferDto.builder()
+                .toAccountNumber(toAccountNumber)
+                .withdrawal(TransactionDto.fromEntity(withdrawal))
+                .deposit(deposit == null ? null : TransactionDto.fromEntity(deposit))
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.account.dto;
 
 import com.example.account.aop.AccountLockId;
+import com.example.account.aop.AccountUserId;
 import com.example.account.type.TransactionResultType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,7 @@ public class UseBalance {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class Request implements AccountLockId {
+    public static class Request implements AccountLockId, AccountUserId {
         @NotNull
         @Min(1)
         private Long userId;
@@ -0,0 +1,10 @@
+package com.example.account.dto;
+
+/**
+ * 사용자별 보유 계좌 수 프로젝션
+ */
+public interface UserAccountCount {
+    Long getUserId();
+
+    Long getAccountCount();
+}
@@ -0,0 +1,29 @@
+package com.example.account.dto;
+
+import com.example.account.aop.AccountLockId;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * 응답은 AuthorizeBalance.Response 와 같은 모양이다.
+ */
+public class VoidBalance {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request implements AccountLockId {
+        @NotNull
+        @Size(min = 32, max = 32)
+        private String holdId;
+
+        @NotBlank
+        @Size(min = 10, max = 10)
+        private String accountNumber;
+    }
+}
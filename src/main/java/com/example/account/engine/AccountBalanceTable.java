@@ -0,0 +1,90 @@
+package com.example.account.engine;
+
+import com.example.account.dto.AccountSnapshot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 엔진이 관리하는 계좌 상태
+ * 계좌 번호로 찾은 인덱스에 id, 소유자, 잔액, 승인으로 묶인 금액, 사용 여부를 기본형 배열로 둔다.
+ * BusinessLogicHandler 스레드만 접근하므로 동기화하지 않는다.
+ */
+class AccountBalanceTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private long[] accountIds = new long[INITIAL_CAPACITY];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private long[] balances = new long[INITIAL_CAPACITY];
+    private long[] heldBalances = new long[INITIAL_CAPACITY];
+    private boolean[] inUse = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return 계좌 인덱스, 없으면 -1
+     */
+    int indexOf(String accountNumber) {
+        Integer index = indexes.get(accountNumber);
+        return index == null ? -1 : index;
+    }
+
+    int add(AccountSnapshot account) {
+        int existing = indexOf(account.getAccountNumber());
+        if (existing >= 0)
+            return existing;
+
+        if (size == balances.length)
+            grow();
+        int index = size++;
+        accountIds[index] = account.getId();
+        userIds[index] = account.getUserId();
+        balances[index] = account.getBalance();
+        heldBalances[index] = account.getHeldBalance();
+        inUse[index] = account.isInUse();
+        indexes.put(account.getAccountNumber(), index);
+        return index;
+    }
+
+    long accountId(int index) {
+        return accountIds[index];
+    }
+
+    long userId(int index) {
+        return userIds[index];
+    }
+
+    long balance(int index) {
+        return balances[index];
+    }
+
+    /**
+     * 엔진 모드에서는 승인/매입을 받지 않으므로 올릴 때 읽은 묶인 금액을 그대로 뺀다.
+     */
+    long availableBalance(int index) {
+        return balances[index] - heldBalances[index];
+    }
+
+    boolean inUse(int index) {
+        return inUse[index];
+    }
+
+    void addBalance(int index, long amount) {
+        balances[index] += amount;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int capacity = balances.length * 2;
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        balances = Arrays.copyOf(balances, capacity);
+        heldBalances = Arrays.copyOf(heldBalances, capacity);
+        inUse = Arrays.copyOf(inUse, capacity);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.account.engine;
+
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionDto;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import com.lmax.disruptor.EventHandler;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 엔진의 유일한 잔액 변경 스레드
+ * 모든 명령을 발행 순서대로 처리하므로 계좌 락 없이 Account.validateUseBalance / useBalance,
+ * Transaction.validateCancel / Account.cancelBalance 와 같은 규칙을 기본형 잔액에 적용한다.
+ * 실패한 명령도 기존 컨트롤러와 같이 실패(F) 거래로 남긴다.
+ */
+class BusinessLogicHandler implements EventHandler<EngineCommand> {
+
+    private final AccountBalanceTable table = new AccountBalanceTable();
+    private final Map<String, TransactionDto> pendingTransactions;
+
+    BusinessLogicHandler(Map<String, TransactionDto> pendingTransactions) {
+        this.pendingTransactions = pendingTransactions;
+    }
+
+    @Override
+    public void onEvent(EngineCommand command, long sequence, boolean endOfBatch) {
+        int index = table.indexOf(command.getAccountNumber());
+        if (index < 0) {
+            if (command.getLoadedAccount() == null) {
+                command.complete(0L, 0L, null, ErrorCode.ACCOUNT_NOT_FOUND);
+                return;
+            }
+            index = table.add(command.getLoadedAccount());
+        }
+
+        ErrorCode errorCode = command.getTransactionType() == TransactionType.USE
+                ? use(command, index)
+                : cancel(command, index);
+
+        TransactionDto result = TransactionDto.builder()
+                .accountNumber(command.getAccountNumber())
+                .transactionType(command.getTransactionType())
+                .transactionResultType(errorCode == null
+                        ? TransactionResultType.S
+                        : TransactionResultType.F)
+                .amount(command.getAmount())
+                .balanceSnapshot(table.balance(index))
+                .transactionId(Transaction.newTransactionId())
+                .transactedAt(LocalDateTime.now())
+                .build();
+        pendingTransactions.put(result.getTransactionId(), result);
+        command.complete(table.accountId(index), table.userId(index), result, errorCode);
+    }
+
+    private ErrorCode use(EngineCommand command, int index) {
+        long amount = command.getAmount();
+        if (command.getUserId() != table.userId(index))
+            return ErrorCode.ACCOUNT_OWNER_UN_MATCH;
+        if (!table.inUse(index))
+            return ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+        if (table.availableBalance(index) < amount)
+            return ErrorCode.AMOUNT_EXCEED_BALANCE;
+
+        table.addBalance(index, -amount);
+        return null;
+    }
+
+    private ErrorCode cancel(EngineCommand command, int index) {
+        TransactionDto original = command.getOriginal();
+        long amount = command.getAmount();
+        if (command.getRejection() != null)
+            return command.getRejection();
+        // 이체는 두 계좌의 거래가 한 쌍이므로 한쪽만 취소할 수 없다.
+        if (original.getTransactionType() == TransactionType.TRANSFER_OUT
+                || original.getTransactionType() == TransactionType.TRANSFER_IN)
+            return ErrorCode.INVALID_REQUEST;
+        if (!original.getAccountNumber().equals(command.getAccountNumber()))
+            return ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH;
+        if (original.getAmount() != amount)
+            return ErrorCode.TRANSACTION_AMOUNT_UN_MATCH;
+        if (original.getTransactedAt().plusYears(1).isBefore(LocalDateTime.now()))
+            return ErrorCode.TOO_OLD_TRANSACTION_TO_CANCEL;
+        if (amount < 0)
+            return ErrorCode.INVALID_REQUEST;
+
+        table.addBalance(index, amount);
+        return null;
+    }
+}
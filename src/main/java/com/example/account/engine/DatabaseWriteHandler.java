@@ -0,0 +1,74 @@
+package com.example.account.engine;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.repository.LedgerJdbcRepository;
+import com.lmax.disruptor.EventHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 기록된 거래를 묶어서 DB 에 반영한다.
+ * 실패하면 반영될 때까지 재시도하며 묶음을 버리지 않는다. (응답은 이미 나갔고 엔진 잔액에도 반영되어 있다)
+ * max-retries 번 넘게 실패하면 halted 를 세워 엔진이 새 명령을 SERVER_BUSY 로 거절하게 하고,
+ * 반영에 성공하면 다시 받는다.
+ * 반영이 끝난 거래는 조회 대기 목록(pendingTransactions)에서 지운다.
+ */
+@Slf4j
+class DatabaseWriteHandler implements EventHandler<EngineCommand> {
+
+    private static final long RETRY_BACKOFF_MILLIS = 100L;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5_000L;
+
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final Map<String, TransactionDto> pendingTransactions;
+    private final AtomicBoolean halted;
+    private final int batchSize;
+    private final int maxRetries;
+    private final List<EngineCommand> batch = new ArrayList<>();
+
+    DatabaseWriteHandler(LedgerJdbcRepository ledgerJdbcRepository,
+                         Map<String, TransactionDto> pendingTransactions,
+                         AtomicBoolean halted,
+                         int batchSize, int maxRetries) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.pendingTransactions = pendingTransactions;
+        this.halted = halted;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public void onEvent(EngineCommand command, long sequence, boolean endOfBatch)
+            throws InterruptedException {
+        if (command.hasTransaction())
+            batch.add(command);
+        if (!batch.isEmpty() && (endOfBatch || batch.size() >= batchSize))
+            flush();
+    }
+
+    private void flush() throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ledgerJdbcRepository.write(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (attempt == maxRetries + 1 && !halted.getAndSet(true))
+                    log.error("Engine failed to persist {} transactions, "
+                            + "rejecting new commands until they are persisted", batch.size(), e);
+                else
+                    log.warn("Engine DB write failed, retry {}", attempt, e);
+                Thread.sleep(Math.min(RETRY_BACKOFF_MILLIS * attempt, MAX_RETRY_BACKOFF_MILLIS));
+            }
+        }
+        if (halted.compareAndSet(true, false))
+            log.info("Engine persisted pending transactions, accepting commands again");
+
+        for (EngineCommand command : batch)
+            pendingTransactions.remove(command.getResult().getTransactionId());
+        batch.clear();
+    }
+}
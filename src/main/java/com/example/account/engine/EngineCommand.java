@@ -0,0 +1,96 @@
+package com.example.account.engine;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.LedgerRecord;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 링 버퍼에 미리 만들어 두고 재사용하는 잔액 사용/취소 명령
+ * 요청 스레드가 입력을 채워 발행하고, BusinessLogicHandler 가 결과를 채우며,
+ * JournalHandler 가 기록을 마친 뒤 future 를 완료한다.
+ */
+@Getter
+public class EngineCommand implements LedgerRecord {
+
+    // 입력
+    private TransactionType transactionType;
+    private Long userId;
+    private String accountNumber;
+    private Long amount;
+    private AccountSnapshot loadedAccount;
+    private TransactionDto original;
+    private ErrorCode rejection;
+    private CompletableFuture<TransactionDto> future;
+
+    // 결과
+    private long accountId;
+    private long ownerId;
+    private TransactionDto result;
+    private ErrorCode errorCode;
+
+    void prepareUse(Long userId, String accountNumber, Long amount, AccountSnapshot loadedAccount,
+                    CompletableFuture<TransactionDto> future) {
+        prepare(TransactionType.USE, accountNumber, amount, loadedAccount, future);
+        this.userId = userId;
+    }
+
+    /**
+     * @param original 취소할 거래, 찾지 못했으면 null 과 rejection=TRANSACTION_NOT_FOUND
+     */
+    void prepareCancel(TransactionDto original, ErrorCode rejection, String accountNumber,
+                       Long amount, AccountSnapshot loadedAccount,
+                       CompletableFuture<TransactionDto> future) {
+        prepare(TransactionType.CANCEL, accountNumber, amount, loadedAccount, future);
+        this.original = original;
+        this.rejection = rejection;
+    }
+
+    void complete(long accountId, long ownerId, TransactionDto result, ErrorCode errorCode) {
+        this.accountId = accountId;
+        this.ownerId = ownerId;
+        this.result = result;
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 거래 행이 남는 명령인지 여부 (계좌를 찾지 못한 명령은 기록하지 않는다)
+     */
+    boolean hasTransaction() {
+        return result != null;
+    }
+
+    @Override
+    public boolean isSucceeded() {
+        return result != null && result.getTransactionResultType() == TransactionResultType.S;
+    }
+
+    void reply() {
+        if (errorCode == null)
+            future.complete(result);
+        else
+            future.completeExceptionally(new AccountException(errorCode));
+    }
+
+    private void prepare(TransactionType transactionType, String accountNumber, Long amount,
+                         AccountSnapshot loadedAccount, CompletableFuture<TransactionDto> future) {
+        this.transactionType = transactionType;
+        this.accountNumber = accountNumber;
+        this.amount = amount;
+        this.loadedAccount = loadedAccount;
+        this.future = future;
+        this.userId = null;
+        this.original = null;
+        this.rejection = null;
+        this.accountId = 0L;
+        this.ownerId = 0L;
+        this.result = null;
+        this.errorCode = null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.account.engine;
+
+import com.example.account.dto.TransactionDto;
+import com.lmax.disruptor.EventHandler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 처리된 거래를 고정 길이 레코드로 파일에 이어 쓰고, 배치 끝에서 기록(fsync)한 뒤 응답한다.
+ * DB 반영은 뒤따르는 DatabaseWriteHandler 가 비동기로 하므로, DB 장애 시 이 파일로 거래를 복구할 수 있다.
+ *
+ * 레코드 (66 bytes, big endian)
+ * - transactionType ordinal : 1
+ * - transactionResultType ordinal : 1
+ * - accountId : 8
+ * - amount : 8
+ * - balanceSnapshot : 8
+ * - transactedAt (UTC epoch millis) : 8
+ * - transactionId (ASCII) : 32
+ */
+@Slf4j
+class JournalHandler implements EventHandler<EngineCommand>, Closeable {
+
+    static final int RECORD_SIZE = 66;
+    private static final int RECORDS_PER_WRITE = 1024;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * RECORDS_PER_WRITE);
+    private final List<EngineCommand> batch = new ArrayList<>();
+
+    JournalHandler(Path path, boolean fsync) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.fsync = fsync;
+    }
+
+    @Override
+    public void onEvent(EngineCommand command, long sequence, boolean endOfBatch) {
+        if (command.hasTransaction()) {
+            if (buffer.remaining() < RECORD_SIZE)
+                write();
+            append(command);
+        }
+        batch.add(command);
+
+        if (endOfBatch) {
+            write();
+            if (fsync)
+                force();
+            // DatabaseWriteHandler 가 이 배치를 처리하기 전까지 명령 객체는 재사용되지 않는다.
+            for (EngineCommand pending : batch)
+                pending.reply();
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void append(EngineCommand command) {
+        TransactionDto result = command.getResult();
+        buffer.put((byte) result.getTransactionType().ordinal())
+                .put((byte) result.getTransactionResultType().ordinal())
+                .putLong(command.getAccountId())
+                .putLong(result.getAmount())
+                .putLong(result.getBalanceSnapshot())
+                .putLong(result.getTransactedAt().toInstant(ZoneOffset.UTC).toEpochMilli())
+                .put(result.getTransactionId().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void write() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        } catch (IOException e) {
+            // 거래는 DB 에도 반영되므로 응답은 막지 않는다.
+            log.error("Failed to write engine journal, {} bytes dropped", buffer.remaining(), e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void force() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            log.error("Failed to sync engine journal", e);
+        }
+    }
+}
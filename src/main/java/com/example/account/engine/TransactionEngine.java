@@ -0,0 +1,231 @@
+package com.example.account.engine;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.LedgerJdbcRepository;
+import com.example.account.service.TransactionService;
+import com.example.account.type.ErrorCode;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 링 버퍼 기반 잔액 처리 엔진 (web.mode=engine)
+ * 요청 스레드는 명령을 미리 할당된 링 버퍼에 발행만 하고, 다음 순서로 처리된다.
+ * 1. BusinessLogicHandler : 단일 스레드가 메모리의 잔액에 규칙을 적용 (락 없음)
+ * 2. JournalHandler : 결과를 파일에 기록한 뒤 응답
+ * 3. DatabaseWriteHandler : 거래 내역, 잔액, 일일 집계를 묶어서 DB 에 반영
+ *    DB 반영이 계속 실패하면 반영될 때까지 새 명령을 SERVER_BUSY 로 거절한다.
+ *
+ * 엔진이 계좌를 처음 볼 때 요청 스레드가 DB 에서 계좌를 읽어 명령과 함께 넘기고,
+ * 그 뒤로는 엔진의 잔액이 기준이 된다. 따라서 엔진 모드에서는 엔진이 아닌 경로
+ * (일괄 사용, 바이너리 프로토콜, 잔액 나누기, 계좌 해지)로 같은 계좌의 잔액을 바꾸지 않아야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "web.mode", havingValue = "engine")
+public class TransactionEngine implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionService transactionService;
+    private final int ringSize;
+    private final Path journalPath;
+    private final boolean journalFsync;
+    private final int dbBatchSize;
+    private final int dbMaxRetries;
+
+    private final Set<String> knownAccounts = ConcurrentHashMap.newKeySet();
+    private final Map<String, TransactionDto> pendingTransactions = new ConcurrentHashMap<>();
+    private final AtomicBoolean persistenceHalted = new AtomicBoolean();
+
+    private Disruptor<EngineCommand> disruptor;
+    private JournalHandler journalHandler;
+    private volatile RingBuffer<EngineCommand> ringBuffer;
+
+    public TransactionEngine(LedgerJdbcRepository ledgerJdbcRepository,
+                             TransactionService transactionService,
+                             @Value("${engine.ring-size}") int ringSize,
+                             @Value("${engine.journal.path}") String journalPath,
+                             @Value("${engine.journal.fsync}") boolean journalFsync,
+                             @Value("${engine.db.batch-size}") int dbBatchSize,
+                             @Value("${engine.db.max-retries}") int dbMaxRetries) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transactionService = transactionService;
+        this.ringSize = ringSize;
+        this.journalPath = Path.of(journalPath);
+        this.journalFsync = journalFsync;
+        this.dbBatchSize = dbBatchSize;
+        this.dbMaxRetries = dbMaxRetries;
+    }
+
+    public CompletableFuture<TransactionDto> useBalance(Long userId, String accountNumber,
+                                                        Long amount) {
+        Optional<AccountSnapshot> loaded;
+        try {
+            loaded = loadIfUnknown(accountNumber);
+        } catch (AccountException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return publish(accountNumber, loaded, (command, future) ->
+                command.prepareUse(userId, accountNumber, amount, loaded.orElse(null), future));
+    }
+
+    public CompletableFuture<TransactionDto> cancelBalance(String transactionId,
+                                                           String accountNumber, Long amount) {
+        Optional<AccountSnapshot> loaded;
+        TransactionDto original = null;
+        ErrorCode rejection = null;
+        try {
+            loaded = loadIfUnknown(accountNumber);
+            original = findTransaction(transactionId);
+        } catch (AccountException e) {
+            if (e.getErrorCode() != ErrorCode.TRANSACTION_NOT_FOUND)
+                return CompletableFuture.failedFuture(e);
+            // 기존 컨트롤러와 같이 취소 대상이 없어도 실패(F) 거래를 남긴다.
+            loaded = loadIfUnknownQuietly(accountNumber);
+            rejection = ErrorCode.TRANSACTION_NOT_FOUND;
+        }
+
+        Optional<AccountSnapshot> account = loaded;
+        TransactionDto cancelTarget = original;
+        ErrorCode cancelRejection = rejection;
+        return publish(accountNumber, account, (command, future) ->
+                command.prepareCancel(cancelTarget, cancelRejection, accountNumber, amount,
+                        account.orElse(null), future));
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 거래를 먼저 찾고, 없으면 DB 에서 조회한다.
+     * @throws AccountException TRANSACTION_NOT_FOUND
+     */
+    public TransactionDto findTransaction(String transactionId) {
+        TransactionDto pending = pendingTransactions.get(transactionId);
+        return pending != null ? pending : transactionService.queryTransaction(transactionId);
+    }
+
+    @Override
+    public void start() {
+        try {
+            journalHandler = new JournalHandler(journalPath, journalFsync);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open engine journal " + journalPath, e);
+        }
+
+        disruptor = new Disruptor<>(EngineCommand::new, ringSize,
+                new CustomizableThreadFactory("transaction-engine-"),
+                ProducerType.MULTI, new BlockingWaitStrategy());
+        disruptor.handleEventsWith(new BusinessLogicHandler(pendingTransactions))
+                .then(journalHandler)
+                .then(new DatabaseWriteHandler(ledgerJdbcRepository, pendingTransactions,
+                        persistenceHalted, dbBatchSize, dbMaxRetries));
+        ringBuffer = disruptor.start();
+        log.info("Transaction engine started : ringSize={}, journal={}", ringSize, journalPath);
+    }
+
+    @Override
+    public void stop() {
+        if (disruptor == null)
+            return;
+        try {
+            // 이미 발행된 명령은 DB 반영까지 마치고 종료한다.
+            disruptor.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.error("Transaction engine did not drain within {}s, {} transactions are not persisted",
+                    SHUTDOWN_TIMEOUT_SECONDS, pendingTransactions.size());
+            disruptor.halt();
+        }
+        try {
+            journalHandler.close();
+        } catch (IOException e) {
+            log.warn("Failed to close engine journal", e);
+        }
+        disruptor = null;
+        ringBuffer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ringBuffer != null;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 웹 서버가 요청 처리를 마친 뒤에 멈춘다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+
+    private CompletableFuture<TransactionDto> publish(
+            String accountNumber, Optional<AccountSnapshot> loaded,
+            BiConsumer<EngineCommand, CompletableFuture<TransactionDto>> preparer) {
+        RingBuffer<EngineCommand> ring = ringBuffer;
+        if (ring == null || persistenceHalted.get())
+            return CompletableFuture.failedFuture(new AccountException(ErrorCode.SERVER_BUSY));
+
+        long sequence;
+        try {
+            sequence = ring.tryNext();
+        } catch (InsufficientCapacityException e) {
+            return CompletableFuture.failedFuture(new AccountException(ErrorCode.SERVER_BUSY));
+        }
+
+        CompletableFuture<TransactionDto> future = new CompletableFuture<>();
+        try {
+            preparer.accept(ring.get(sequence), future);
+        } finally {
+            ring.publish(sequence);
+        }
+        if (loaded.isPresent())
+            knownAccounts.add(accountNumber);
+        return future;
+    }
+
+    /**
+     * 엔진이 아직 모르는 계좌면 DB 에서 읽는다. 읽은 계좌는 명령과 함께 엔진에 넘어가며,
+     * 발행 순서가 보장되도록 knownAccounts 에는 발행한 뒤에 추가한다.
+     * @throws AccountException ACCOUNT_NOT_FOUND
+     */
+    private Optional<AccountSnapshot> loadIfUnknown(String accountNumber) {
+        if (knownAccounts.contains(accountNumber))
+            return Optional.empty();
+        AccountSnapshot account = ledgerJdbcRepository.findAccount(accountNumber)
+                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        // 나눈 잔액은 슬롯에 있으므로 엔진이 balance 로 처리하면 사용은 실패하고 취소 금액은 묻힌다.
+        if (account.isBalanceSplit())
+            throw new AccountException(ErrorCode.UNSUPPORTED_IN_WEB_MODE);
+        return Optional.of(account);
+    }
+
+    private Optional<AccountSnapshot> loadIfUnknownQuietly(String accountNumber) {
+        try {
+            return loadIfUnknown(accountNumber);
+        } catch (AccountException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.account.exception;
+
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ErrorCode 별로 interval 에 한 번만 로그를 남기고, 그 사이의 거절 건수는 합쳐서 남긴다.
+ */
+@Slf4j
+public class RejectionLogger {
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private final long intervalNanos;
+    private final AtomicLongArray lastLoggedAt;
+    private final LongAdder[] rejections;
+
+    public RejectionLogger(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.lastLoggedAt = new AtomicLongArray(ERROR_CODES.length);
+        this.rejections = new LongAdder[ERROR_CODES.length];
+        long now = System.nanoTime();
+        for (int i = 0; i < ERROR_CODES.length; i++) {
+            lastLoggedAt.set(i, now - intervalNanos);
+            rejections[i] = new LongAdder();
+        }
+    }
+
+    public void log(AccountException ex, String path) {
+        if (!log.isInfoEnabled())
+            return;
+
+        int index = ex.getErrorCode().ordinal();
+        rejections[index].increment();
+
+        long now = System.nanoTime();
+        long last = lastLoggedAt.get(index);
+        if (now - last < intervalNanos || !lastLoggedAt.compareAndSet(index, last, now))
+            return;
+
+        log.info("{} : {} ({} rejections in last {}ms, path {})",
+                ex.getErrorCode(), ex.getErrorMessage(), rejections[index].sumThenReset(),
+                Duration.ofNanos(now - last).toMillis(), path);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.account.json;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.ErrorResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 자주 호출되는 응답 타입과 ErrorResponse 만 DirectJsonWriter 로 직렬화하는 컨버터
+ * Jackson 컨버터보다 앞에 등록되며, 그 외 타입은 Jackson 이 그대로 처리한다.
+ */
+public class DirectJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public DirectJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == UseBalance.Response.class
+                || clazz == CancelBalance.Response.class
+                || clazz == QueryTransactionResponse.class
+                || clazz == ErrorResponse.class;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return (supports(clazz) || isAccountInfoList(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        if (value instanceof UseBalance.Response)
+            TransactionJsonSerializer.write(writer, (UseBalance.Response) value);
+        else if (value instanceof CancelBalance.Response)
+            TransactionJsonSerializer.write(writer, (CancelBalance.Response) value);
+        else if (value instanceof QueryTransactionResponse)
+            TransactionJsonSerializer.write(writer, (QueryTransactionResponse) value);
+        else if (value instanceof ErrorResponse)
+            ErrorResponseJsonSerializer.write(writer, (ErrorResponse) value);
+        else
+            TransactionJsonSerializer.write(writer, (List<AccountInfo>) value);
+
+        outputMessage.getHeaders().setContentLength(writer.size());
+        outputMessage.getBody().write(writer.buffer(), 0, writer.size());
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Read is not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Read is not supported", inputMessage);
+    }
+
+    private static boolean isAccountInfoList(@Nullable Type type) {
+        if (!(type instanceof ParameterizedType))
+            return false;
+        ParameterizedType parameterized = (ParameterizedType) type;
+        return parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == AccountInfo.class;
+    }
+}
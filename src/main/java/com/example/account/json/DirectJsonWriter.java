@@ -0,0 +1,229 @@
+package com.example.account.json;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * 스레드마다 재사용하는 JSON 바이트 버퍼
+ * Jackson 과 같은 결과(널은 null, enum 은 이름, LocalDateTime 은 ISO_LOCAL_DATE_TIME)를
+ * 중간 객체 없이 바로 UTF-8 바이트로 쓴다.
+ */
+public final class DirectJsonWriter {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<DirectJsonWriter> WRITERS =
+            ThreadLocal.withInitial(DirectJsonWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private DirectJsonWriter() {
+    }
+
+    /**
+     * 현재 스레드의 writer 를 비워서 돌려준다. 한 번에 하나의 값만 쓸 수 있다.
+     */
+    public static DirectJsonWriter acquire() {
+        DirectJsonWriter writer = WRITERS.get();
+        if (writer.buffer.length > MAX_RETAINED_CAPACITY)
+            writer.buffer = new byte[INITIAL_CAPACITY];
+        writer.size = 0;
+        return writer;
+    }
+
+    /**
+     * 스레드에 묶이지 않은 새 writer, 클래스 초기화처럼 호출 스레드의 writer 가
+     * 이미 쓰는 중일 수 있는 곳에서 쓴다.
+     */
+    static DirectJsonWriter create() {
+        return new DirectJsonWriter();
+    }
+
+    /**
+     * @return {"name": 또는 ,"name": 의 UTF-8 바이트, 직렬화 클래스의 상수로 캐시해서 사용한다.
+     */
+    public static byte[] fieldName(String name, boolean first) {
+        return ((first ? "{\"" : ",\"") + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public DirectJsonWriter raw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public DirectJsonWriter raw(char c) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) c;
+        return this;
+    }
+
+    public DirectJsonWriter string(String value) {
+        if (value == null)
+            return raw(NULL);
+
+        int length = value.length();
+        // 최악의 경우(제어 문자는 유니코드 이스케이프 6바이트, 그 외 문자는 UTF-8 최대 3바이트)
+        ensureCapacity(length * 6 + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                buffer[size++] = (byte) c;
+            } else if (c == '"' || c == '\\') {
+                buffer[size++] = '\\';
+                buffer[size++] = (byte) c;
+            } else if (c < 0x20) {
+                writeControl(c);
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buffer[size++] = '"';
+        return this;
+    }
+
+    public DirectJsonWriter enumName(Enum<?> value) {
+        return value == null ? raw(NULL) : string(value.name());
+    }
+
+    public DirectJsonWriter number(Long value) {
+        return value == null ? raw(NULL) : number(value.longValue());
+    }
+
+    public DirectJsonWriter number(long value) {
+        if (value == Long.MIN_VALUE)
+            return raw(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = digits(value);
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+        return this;
+    }
+
+    /**
+     * DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식
+     * 초는 항상 쓰고, 나노초는 0 이 아니면 끝의 0 을 뺀 소수로 쓴다.
+     */
+    public DirectJsonWriter dateTime(LocalDateTime value) {
+        if (value == null)
+            return raw(NULL);
+        int year = value.getYear();
+        if (year < 0 || year > 9999)
+            return string(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+
+        ensureCapacity(32);
+        buffer[size++] = '"';
+        fixed(year, 4);
+        buffer[size++] = '-';
+        fixed(value.getMonthValue(), 2);
+        buffer[size++] = '-';
+        fixed(value.getDayOfMonth(), 2);
+        buffer[size++] = 'T';
+        fixed(value.getHour(), 2);
+        buffer[size++] = ':';
+        fixed(value.getMinute(), 2);
+        buffer[size++] = ':';
+        fixed(value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano > 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[size++] = '.';
+            fixed(nano, digits);
+        }
+        buffer[size++] = '"';
+        return this;
+    }
+
+    private void fixed(int value, int digits) {
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    private void writeControl(char c) {
+        buffer[size++] = '\\';
+        switch (c) {
+            case '\n':
+                buffer[size++] = 'n';
+                return;
+            case '\r':
+                buffer[size++] = 'r';
+                return;
+            case '\t':
+                buffer[size++] = 't';
+                return;
+            case '\b':
+                buffer[size++] = 'b';
+                return;
+            case '\f':
+                buffer[size++] = 'f';
+                return;
+            default:
+                buffer[size++] = 'u';
+                buffer[size++] = '0';
+                buffer[size++] = '0';
+                buffer[size++] = HEX[c >> 4];
+                buffer[size++] = HEX[c & 0xF];
+        }
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+    }
+}
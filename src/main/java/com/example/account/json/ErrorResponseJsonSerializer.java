@@ -0,0 +1,70 @@
+package com.example.account.json;
+
+import com.example.account.exception.ErrorResponse;
+import com.example.account.type.ErrorCode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ErrorResponse 의 직접 직렬화
+ * ErrorCode 마다 httpStatus, errorName, errorMessage 부분을 미리 만들어 두고
+ * 요청마다 달라지는 timeStamp 와 path 만 쓴다.
+ */
+public final class ErrorResponseJsonSerializer {
+
+    private static final byte[] TIME_STAMP_FIRST = DirectJsonWriter.fieldName("timeStamp", true);
+    private static final byte[] HTTP_STATUS = DirectJsonWriter.fieldName("httpStatus", false);
+    private static final byte[] ERROR_NAME = DirectJsonWriter.fieldName("errorName", false);
+    private static final byte[] ERROR_MESSAGE = DirectJsonWriter.fieldName("errorMessage", false);
+    private static final byte[] PATH = DirectJsonWriter.fieldName("path", false);
+
+    private static final Map<String, Prebuilt> PREBUILT = new HashMap<>();
+
+    static {
+        // 처음 초기화는 write 도중(현재 스레드의 writer 를 쓰는 중)에 일어나므로 별도의 writer 를 쓴다.
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            DirectJsonWriter writer = DirectJsonWriter.create();
+            writeBody(writer, errorCode.getHttpStatus(), errorCode.name(), errorCode.getDescription());
+            PREBUILT.put(errorCode.name(), new Prebuilt(errorCode, writer.toByteArray()));
+        }
+    }
+
+    private ErrorResponseJsonSerializer() {
+    }
+
+    public static void write(DirectJsonWriter writer, ErrorResponse response) {
+        writer.raw(TIME_STAMP_FIRST).dateTime(response.getTimeStamp());
+
+        Prebuilt prebuilt = PREBUILT.get(response.getErrorName());
+        if (prebuilt != null && prebuilt.matches(response))
+            writer.raw(prebuilt.body);
+        else
+            writeBody(writer, response.getHttpStatus(), response.getErrorName(), response.getErrorMessage());
+
+        writer.string(response.getPath()).raw('}');
+    }
+
+    private static void writeBody(DirectJsonWriter writer, Enum<?> httpStatus,
+                                  String errorName, String errorMessage) {
+        writer.raw(HTTP_STATUS).enumName(httpStatus)
+                .raw(ERROR_NAME).string(errorName)
+                .raw(ERROR_MESSAGE).string(errorMessage)
+                .raw(PATH);
+    }
+
+    private static class Prebuilt {
+        private final ErrorCode errorCode;
+        private final byte[] body;
+
+        Prebuilt(ErrorCode errorCode, byte[] body) {
+            this.errorCode = errorCode;
+            this.body = body;
+        }
+
+        boolean matches(ErrorResponse response) {
+            return errorCode.getHttpStatus() == response.getHttpStatus()
+                    && errorCode.getDescription().equals(response.getErrorMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.account.json;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+
+import java.util.List;
+
+/**
+ * 잔액 사용/취소, 거래 확인, 계좌 목록 응답의 직접 직렬화
+ * 필드 순서와 형식은 Jackson 이 같은 DTO 를 직렬화한 결과와 같다.
+ */
+public final class TransactionJsonSerializer {
+
+    private static final byte[] ACCOUNT_NUMBER_FIRST = DirectJsonWriter.fieldName("accountNumber", true);
+    private static final byte[] TRANSACTION_TYPE = DirectJsonWriter.fieldName("transactionType", false);
+    private static final byte[] TRANSACTION_RESULT = DirectJsonWriter.fieldName("transactionResult", false);
+    private static final byte[] TRANSACTION_ID = DirectJsonWriter.fieldName("transactionId", false);
+    private static final byte[] AMOUNT = DirectJsonWriter.fieldName("amount", false);
+    private static final byte[] TRANSACTION_AT = DirectJsonWriter.fieldName("transactionAt", false);
+    private static final byte[] BALANCE = DirectJsonWriter.fieldName("balance", false);
+
+    private TransactionJsonSerializer() {
+    }
+
+    public static void write(DirectJsonWriter writer, UseBalance.Response response) {
+        writer.raw(ACCOUNT_NUMBER_FIRST).string(response.getAccountNumber())
+                .raw(TRANSACTION_RESULT).enumName(response.getTransactionResult())
+                .raw(TRANSACTION_ID).string(response.getTransactionId())
+                .raw(AMOUNT).number(response.getAmount())
+                .raw(TRANSACTION_AT).dateTime(response.getTransactionAt())
+                .raw('}');
+    }
+
+    public static void write(DirectJsonWriter writer, CancelBalance.Response response) {
+        writer.raw(ACCOUNT_NUMBER_FIRST).string(response.getAccountNumber())
+                .raw(TRANSACTION_RESULT).enumName(response.getTransactionResult())
+                .raw(TRANSACTION_ID).string(response.getTransactionId())
+                .raw(AMOUNT).number(response.getAmount())
+                .raw(TRANSACTION_AT).dateTime(response.getTransactionAt())
+                .raw('}');
+    }
+
+    public static void write(DirectJsonWriter writer, QueryTransactionResponse response) {
+        writer.raw(ACCOUNT_NUMBER_FIRST).string(response.getAccountNumber())
+                .raw(TRANSACTION_TYPE).enumName(response.getTransactionType())
+                .raw(TRANSACTION_RESULT).enumName(response.getTransactionResult())
+                .raw(TRANSACTION_ID).string(response.getTransactionId())
+                .raw(AMOUNT).number(response.getAmount())
+                .raw(TRANSACTION_AT).dateTime(response.getTransactionAt())
+                .raw('}');
+    }
+
+    public static void write(DirectJsonWriter writer, List<AccountInfo> accounts) {
+        writer.raw('[');
+        for (int i = 0; i < accounts.size(); i++) {
+            if (i > 0)
+                writer.raw(',');
+            AccountInfo account = accounts.get(i);
+            writer.raw(ACCOUNT_NUMBER_FIRST).string(account.getAccountNumber())
+                    .raw(BALANCE).number(account.getBalance())
+                    .raw('}');
+        }
+        writer.raw(']');
+    }
+}
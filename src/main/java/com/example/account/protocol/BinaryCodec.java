@@ -0,0 +1,211 @@
+package com.example.account.protocol;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 길이 접두 바이너리 프로토콜 코덱
+ *
+ * 프레임 : [int32 길이][본문], 길이는 본문의 바이트 수 (big-endian)
+ *
+ * 요청 본문 : [byte opCode][int64 requestId] + opCode 별 필드
+ * - USE    : [int64 userId][str accountNumber][int64 amount]
+ * - CANCEL : [str transactionId][str accountNumber][int64 amount]
+ * - QUERY  : [str transactionId]
+ *
+ * 응답 본문 : [byte status][int64 requestId]
+ * - OK    : [byte transactionType][byte transactionResultType][str accountNumber]
+ *           [int64 amount][int64 balanceSnapshot][str transactionId][int64 transactedAt]
+ * - ERROR : [str errorCode]
+ *
+ * str 은 [uint8 길이][US-ASCII 바이트], 길이 0 은 null 이다.
+ * 거래 종류와 결과는 enum 순서(ordinal)로 보내므로 enum 에는 값을 뒤에만 추가한다.
+ * (이체 거래 TRANSFER_OUT, TRANSFER_IN 은 QUERY 응답으로만 나간다)
+ * transactedAt 은 LocalDateTime 을 UTC 로 간주한 epoch 밀리초로, 시간대 변환 없이 그대로 복원된다.
+ */
+public final class BinaryCodec {
+
+    public static final byte OP_USE = 1;
+    public static final byte OP_CANCEL = 2;
+    public static final byte OP_QUERY = 3;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+
+    public static final int MAX_FRAME_LENGTH = 1024;
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+    private static final TransactionResultType[] RESULT_TYPES = TransactionResultType.values();
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * 다음 요청 프레임을 읽어 request 에 채운다.
+     * @return 연결이 정상적으로 닫혔으면 false
+     * @throws ProtocolException 프레임 길이나 opCode 가 잘못된 경우
+     */
+    public static boolean readRequest(DataInputStream in, byte[] frame, BinaryRequest request)
+            throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return false;
+        }
+        if (length <= 0 || length > frame.length)
+            throw new ProtocolException("Invalid frame length : " + length);
+        in.readFully(frame, 0, length);
+
+        ByteBuffer buffer = ByteBuffer.wrap(frame, 0, length);
+        request.setOpCode(buffer.get());
+        request.setRequestId(buffer.getLong());
+        request.setUserId(0);
+        request.setAccountNumber(null);
+        request.setTransactionId(null);
+        request.setAmount(0);
+        switch (request.getOpCode()) {
+            case OP_USE:
+                request.setUserId(buffer.getLong());
+                request.setAccountNumber(readString(buffer));
+                request.setAmount(buffer.getLong());
+                break;
+            case OP_CANCEL:
+                request.setTransactionId(readString(buffer));
+                request.setAccountNumber(readString(buffer));
+                request.setAmount(buffer.getLong());
+                break;
+            case OP_QUERY:
+                request.setTransactionId(readString(buffer));
+                break;
+            default:
+                throw new ProtocolException("Unknown op code : " + request.getOpCode());
+        }
+        return true;
+    }
+
+    public static void writeRequest(DataOutputStream out, ByteBuffer buffer, BinaryRequest request)
+            throws IOException {
+        buffer.clear();
+        buffer.put(request.getOpCode());
+        buffer.putLong(request.getRequestId());
+        switch (request.getOpCode()) {
+            case OP_USE:
+                buffer.putLong(request.getUserId());
+                writeString(buffer, request.getAccountNumber());
+                buffer.putLong(request.getAmount());
+                break;
+            case OP_CANCEL:
+                writeString(buffer, request.getTransactionId());
+                writeString(buffer, request.getAccountNumber());
+                buffer.putLong(request.getAmount());
+                break;
+            case OP_QUERY:
+                writeString(buffer, request.getTransactionId());
+                break;
+            default:
+                throw new ProtocolException("Unknown op code : " + request.getOpCode());
+        }
+        writeFrame(out, buffer);
+    }
+
+    public static void writeResponse(DataOutputStream out, ByteBuffer buffer,
+                                     long requestId, TransactionDto transaction) throws IOException {
+        buffer.clear();
+        buffer.put(STATUS_OK);
+        buffer.putLong(requestId);
+        buffer.put((byte) transaction.getTransactionType().ordinal());
+        buffer.put((byte) transaction.getTransactionResultType().ordinal());
+        writeString(buffer, transaction.getAccountNumber());
+        buffer.putLong(transaction.getAmount());
+        buffer.putLong(transaction.getBalanceSnapshot());
+        writeString(buffer, transaction.getTransactionId());
+        buffer.putLong(transaction.getTransactedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        writeFrame(out, buffer);
+    }
+
+    public static void writeError(DataOutputStream out, ByteBuffer buffer,
+                                  long requestId, ErrorCode errorCode) throws IOException {
+        buffer.clear();
+        buffer.put(STATUS_ERROR);
+        buffer.putLong(requestId);
+        writeString(buffer, errorCode.name());
+        writeFrame(out, buffer);
+    }
+
+    /**
+     * @return 연결이 정상적으로 닫혔으면 false
+     */
+    public static boolean readResponse(DataInputStream in, byte[] frame, BinaryResponse response)
+            throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return false;
+        }
+        if (length <= 0 || length > frame.length)
+            throw new ProtocolException("Invalid frame length : " + length);
+        in.readFully(frame, 0, length);
+
+        ByteBuffer buffer = ByteBuffer.wrap(frame, 0, length);
+        response.setStatus(buffer.get());
+        response.setRequestId(buffer.getLong());
+        if (response.getStatus() != STATUS_OK) {
+            response.setErrorCode(readString(buffer));
+            return true;
+        }
+        response.setErrorCode(null);
+        response.setTransactionType(TRANSACTION_TYPES[buffer.get()]);
+        response.setTransactionResultType(RESULT_TYPES[buffer.get()]);
+        response.setAccountNumber(readString(buffer));
+        response.setAmount(buffer.getLong());
+        response.setBalanceSnapshot(buffer.getLong());
+        response.setTransactionId(readString(buffer));
+        long epochMilli = buffer.getLong();
+        response.setTransactedAt(LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000,
+                ZoneOffset.UTC));
+        return true;
+    }
+
+    private static void writeFrame(DataOutputStream out, ByteBuffer buffer) throws IOException {
+        out.writeInt(buffer.position());
+        out.write(buffer.array(), 0, buffer.position());
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.get() & 0xFF;
+        if (length == 0)
+            return null;
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                length, StandardCharsets.US_ASCII);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) throws ProtocolException {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        int length = value.length();
+        if (length > 255)
+            throw new ProtocolException("String too long : " + length);
+        buffer.put((byte) length);
+        for (int i = 0; i < length; i++)
+            buffer.put((byte) value.charAt(i));
+    }
+}
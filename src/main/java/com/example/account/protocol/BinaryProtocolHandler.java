@@ -0,0 +1,106 @@
+package com.example.account.protocol;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.service.LockService;
+import com.example.account.service.TransactionService;
+import com.example.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 바이너리 요청을 TransactionController 와 같은 흐름으로 TransactionService 에 연결한다.
+ * 잔액 사용/취소는 계좌 락 안에서 처리하고, 실패하면 실패 거래를 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "binary-protocol.enabled", havingValue = "true")
+public class BinaryProtocolHandler {
+
+    private static final int ACCOUNT_NUMBER_LENGTH = 10;
+    private static final int TRANSACTION_ID_LENGTH = 32;
+    private static final long MIN_AMOUNT = 10;
+    private static final long MAX_AMOUNT = 1000_000_000;
+
+    private final TransactionService transactionService;
+    private final LockService lockService;
+
+    /**
+     * @throws AccountException 요청이 잘못되었거나 거래가 실패한 경우
+     */
+    public TransactionDto handle(BinaryRequest request) {
+        switch (request.getOpCode()) {
+            case BinaryCodec.OP_USE:
+                validateUse(request);
+                return useBalance(request);
+            case BinaryCodec.OP_CANCEL:
+                validateCancel(request);
+                return cancelBalance(request);
+            case BinaryCodec.OP_QUERY:
+                validateTransactionId(request.getTransactionId());
+                return transactionService.queryTransaction(request.getTransactionId());
+            default:
+                throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private TransactionDto useBalance(BinaryRequest request) {
+        lockService.lock(request.getAccountNumber());
+        try {
+            return transactionService.useBalance(request.getUserId(),
+                    request.getAccountNumber(), request.getAmount());
+        } catch (AccountException e) {
+            log.debug("Failed to use Balance");
+
+            transactionService.saveFailedUseTransaction(
+                    request.getAccountNumber(), request.getAmount());
+            throw e;
+        } finally {
+            lockService.unlock(request.getAccountNumber());
+        }
+    }
+
+    private TransactionDto cancelBalance(BinaryRequest request) {
+        lockService.lock(request.getAccountNumber());
+        try {
+            return transactionService.cancelBalance(request.getTransactionId(),
+                    request.getAccountNumber(), request.getAmount());
+        } catch (AccountException e) {
+            log.debug("Failed to use Balance");
+
+            transactionService.saveFailedCancelTransaction(
+                    request.getAccountNumber(), request.getAmount());
+            throw e;
+        } finally {
+            lockService.unlock(request.getAccountNumber());
+        }
+    }
+
+    // UseBalance.Request / CancelBalance.Request 의 Bean Validation 규칙과 같다.
+    private static void validateUse(BinaryRequest request) {
+        if (request.getUserId() < 1)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        validateAccountNumberAndAmount(request);
+    }
+
+    private static void validateCancel(BinaryRequest request) {
+        validateTransactionId(request.getTransactionId());
+        validateAccountNumberAndAmount(request);
+    }
+
+    private static void validateAccountNumberAndAmount(BinaryRequest request) {
+        if (request.getAccountNumber() == null
+                || request.getAccountNumber().length() != ACCOUNT_NUMBER_LENGTH)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        if (request.getAmount() < MIN_AMOUNT || request.getAmount() > MAX_AMOUNT)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+    }
+
+    private static void validateTransactionId(String transactionId) {
+        if (transactionId == null || transactionId.length() != TRANSACTION_ID_LENGTH)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+    }
+}
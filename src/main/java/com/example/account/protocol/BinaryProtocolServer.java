@@ -0,0 +1,191 @@
+package com.example.account.protocol;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내부 결제 게이트웨이용 바이너리 프로토콜 서버 (binary-protocol.enabled=true)
+ * REST API 와 함께 loopback 주소에서만 연결을 받는다.
+ * 연결마다 전용 스레드가 요청을 순서대로 처리하며, 최대 연결 수를 넘는 연결은 바로 끊는다.
+ * 프레임 형식은 BinaryCodec 참고
+ * 요청은 TransactionService 로 DB 잔액을 바꾸므로 잔액의 원본이 DB 가 아닌
+ * 엔진(web.mode=engine), Redis 잔액(web.mode=redis) 모드에서는 함께 켤 수 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "binary-protocol.enabled", havingValue = "true")
+public class BinaryProtocolServer implements SmartLifecycle {
+
+    private static final int STREAM_BUFFER_SIZE = 8 * 1024;
+
+    private final BinaryProtocolHandler handler;
+    private final int port;
+    private final int maxConnections;
+
+    private volatile ServerSocket serverSocket;
+    private ThreadPoolExecutor connectionExecutor;
+    private Thread acceptor;
+
+    @Autowired
+    public BinaryProtocolServer(BinaryProtocolHandler handler,
+                                @Value("${binary-protocol.port}") int port,
+                                @Value("${binary-protocol.max-connections}") int maxConnections,
+                                @Value("${web.mode:blocking}") String webMode) {
+        this(handler, port, maxConnections);
+        if ("engine".equals(webMode) || "redis".equals(webMode))
+            throw new IllegalStateException(
+                    "binary-protocol cannot be enabled with web.mode=" + webMode);
+    }
+
+    BinaryProtocolServer(BinaryProtocolHandler handler, int port, int maxConnections) {
+        this.handler = handler;
+        this.port = port;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to bind binary protocol port " + port, e);
+        }
+        connectionExecutor = new ThreadPoolExecutor(0, maxConnections,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("binary-protocol-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        acceptor = new Thread(this::acceptLoop, "binary-protocol-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        log.info("Binary protocol listening on {}", serverSocket.getLocalSocketAddress());
+    }
+
+    @Override
+    public void stop() {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        try {
+            if (socket != null)
+                socket.close();
+        } catch (IOException e) {
+            log.warn("Failed to close binary protocol socket", e);
+        }
+        if (connectionExecutor != null)
+            connectionExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverSocket != null;
+    }
+
+    public int getLocalPort() {
+        ServerSocket socket = serverSocket;
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        ServerSocket socket;
+        while ((socket = serverSocket) != null) {
+            Socket connection;
+            try {
+                connection = socket.accept();
+            } catch (IOException e) {
+                if (serverSocket != null)
+                    log.error("Binary protocol accept failed", e);
+                continue;
+            }
+            try {
+                connectionExecutor.execute(() -> serve(connection));
+            } catch (RejectedExecutionException e) {
+                log.warn("Too many binary protocol connections");
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection) {
+            connection.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(connection.getInputStream(), STREAM_BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(connection.getOutputStream(), STREAM_BUFFER_SIZE));
+            byte[] frame = new byte[BinaryCodec.MAX_FRAME_LENGTH];
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.MAX_FRAME_LENGTH);
+            BinaryRequest request = new BinaryRequest();
+
+            try {
+                while (BinaryCodec.readRequest(in, frame, request)) {
+                    try {
+                        BinaryCodec.writeResponse(out, buffer, request.getRequestId(),
+                                handler.handle(request));
+                    } catch (AccountException e) {
+                        BinaryCodec.writeError(out, buffer, request.getRequestId(), e.getErrorCode());
+                    } catch (RuntimeException e) {
+                        // DB, Redis 장애 등은 이 요청만 실패로 응답하고 연결은 유지한다.
+                        // (연결을 끊으면 버퍼에 모아 둔 앞선 요청의 응답까지 잃는다)
+                        // 커밋 후에 실패했을 수도 있으므로 재시도해도 되는 SERVER_BUSY 가 아닌
+                        // RESULT_UNKNOWN 으로 응답해 QUERY 로 확인한 뒤 다시 보내게 한다.
+                        log.error("Binary protocol request failed : {}", request.getRequestId(), e);
+                        BinaryCodec.writeError(out, buffer, request.getRequestId(),
+                                ErrorCode.RESULT_UNKNOWN);
+                    }
+                    // 다음 요청이 이미 버퍼에 들어와 있으면 응답을 모아서 보낸다.
+                    if (in.available() == 0)
+                        out.flush();
+                }
+            } finally {
+                // 프로토콜 오류로 연결을 끊을 때도 이미 처리한 요청의 응답은 보낸다.
+                flushQuietly(out);
+            }
+        } catch (ProtocolException | BufferUnderflowException e) {
+            log.warn("Closing binary protocol connection : {}", e.getMessage());
+        } catch (IOException e) {
+            if (serverSocket != null)
+                log.debug("Binary protocol connection closed", e);
+        } catch (RuntimeException e) {
+            log.error("Binary protocol request failed", e);
+        }
+    }
+
+    private static void flushQuietly(DataOutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
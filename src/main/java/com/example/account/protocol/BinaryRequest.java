@@ -0,0 +1,19 @@
+package com.example.account.protocol;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 바이너리 프로토콜 요청
+ * 연결마다 하나를 만들어 프레임을 읽을 때마다 덮어쓴다.
+ */
+@Getter
+@Setter
+public class BinaryRequest {
+    private byte opCode;
+    private long requestId;
+    private long userId;
+    private String accountNumber;
+    private String transactionId;
+    private long amount;
+}
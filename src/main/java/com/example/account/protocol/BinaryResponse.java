@@ -0,0 +1,30 @@
+package com.example.account.protocol;
+
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 바이너리 프로토콜 응답 (클라이언트 측 디코딩용)
+ */
+@Getter
+@Setter
+public class BinaryResponse {
+    private byte status;
+    private long requestId;
+    private TransactionType transactionType;
+    private TransactionResultType transactionResultType;
+    private String accountNumber;
+    private long amount;
+    private long balanceSnapshot;
+    private String transactionId;
+    private LocalDateTime transactedAt;
+    private String errorCode;
+
+    public boolean isOk() {
+        return status == BinaryCodec.STATUS_OK;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.account.protocol;
+
+import java.io.IOException;
+
+/**
+ * 프레임을 해석할 수 없는 경우, 연결을 끊는다.
+ */
+public class ProtocolException extends IOException {
+    public ProtocolException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.account.redis;
+
+import com.example.account.repository.LedgerJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 잔액 모드의 거래 스트림을 consumer group 으로 읽어 DB 에 묶어서 저장한다.
+ * 저장한 뒤에만 ack 하므로 저장에 실패하거나 노드가 멈추면 같은 consumer 가 다음 실행에서
+ * 미확인(pending) 거래부터 다시 읽는다. 이미 저장된 거래는 거래 번호로 걸러 낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "web.mode", havingValue = "redis")
+public class RedisLedgerPersister {
+
+    private static final String GROUP = "ledger-persister";
+
+    private final RStream<String, String> stream;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final String consumer;
+    private final int batchSize;
+
+    public RedisLedgerPersister(RedissonClient redissonClient,
+                                LedgerJdbcRepository ledgerJdbcRepository,
+                                @Value("${redis-ledger.consumer}") String consumer,
+                                @Value("${redis-ledger.batch-size}") int batchSize) {
+        this.stream = redissonClient.getStream(RedisLedgerService.STREAM_KEY, StringCodec.INSTANCE);
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.consumer = consumer;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void createGroup() {
+        try {
+            stream.createGroup(GROUP, StreamMessageId.ALL);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP"))
+                throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${redis-ledger.persist-interval}")
+    public void persist() {
+        // 이 consumer 가 읽고 저장하지 못한 거래부터 처리한다.
+        int read;
+        do {
+            read = persistBatch(StreamMessageId.ALL);
+        } while (read == batchSize);
+        do {
+            read = persistBatch(StreamMessageId.NEVER_DELIVERED);
+        } while (read == batchSize);
+    }
+
+    /**
+     * @return 읽은 거래 수
+     */
+    int persistBatch(StreamMessageId from) {
+        Map<StreamMessageId, Map<String, String>> messages =
+                stream.readGroup(GROUP, consumer, batchSize, from);
+        if (messages == null || messages.isEmpty())
+            return 0;
+
+        // 스트림 순서가 스크립트 실행 순서이므로 이 순서대로 저장해야 계좌의 최종 잔액이 맞다.
+        List<RedisLedgerRecord> records = messages.values().stream()
+                .map(RedisLedgerRecord::from)
+                .collect(Collectors.toList());
+        Set<String> existing = ledgerJdbcRepository.findExistingTransactionIds(records.stream()
+                .map(record -> record.getResult().getTransactionId())
+                .collect(Collectors.toList()));
+        List<RedisLedgerRecord> pending = new ArrayList<>(records.size());
+        for (RedisLedgerRecord record : records)
+            if (!existing.contains(record.getResult().getTransactionId()))
+                pending.add(record);
+
+        if (!pending.isEmpty())
+            ledgerJdbcRepository.write(pending);
+
+        StreamMessageId[] ids = messages.keySet().toArray(new StreamMessageId[0]);
+        stream.ack(GROUP, ids);
+        stream.remove(ids);
+        log.debug("Persisted {} ledger records ({} already saved)",
+                pending.size(), records.size() - pending.size());
+        return messages.size();
+    }
+}
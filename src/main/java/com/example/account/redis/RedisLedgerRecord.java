@@ -0,0 +1,44 @@
+package com.example.account.redis;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.repository.LedgerRecord;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * RedisLedgerService 의 스크립트가 스트림(과 거래 해시)에 남긴 거래 한 건
+ */
+@Getter
+@AllArgsConstructor
+class RedisLedgerRecord implements LedgerRecord {
+
+    private final long accountId;
+    private final long ownerId;
+    private final TransactionDto result;
+
+    static RedisLedgerRecord from(Map<String, String> fields) {
+        return new RedisLedgerRecord(
+                Long.parseLong(fields.get("accountId")),
+                Long.parseLong(fields.get("ownerId")),
+                TransactionDto.builder()
+                        .accountNumber(fields.get("accountNumber"))
+                        .transactionType(TransactionType.valueOf(fields.get("transactionType")))
+                        .transactionResultType(TransactionResultType
+                                .valueOf(fields.get("transactionResultType")))
+                        .amount(Long.parseLong(fields.get("amount")))
+                        .balanceSnapshot(Long.parseLong(fields.get("balanceSnapshot")))
+                        .transactionId(fields.get("transactionId"))
+                        .transactedAt(RedisLedgerService.fromEpochMillis(
+                                Long.parseLong(fields.get("transactedAt"))))
+                        .build());
+    }
+
+    @Override
+    public boolean isSucceeded() {
+        return result.getTransactionResultType() == TransactionResultType.S;
+    }
+}
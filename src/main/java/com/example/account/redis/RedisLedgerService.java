@@ -0,0 +1,285 @@
+package com.example.account.redis;
+
+import com.example.account.domain.Transaction;
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.LedgerJdbcRepository;
+import com.example.account.service.TransactionService;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 잔액 모드 (web.mode=redis)
+ * 계좌 잔액을 Redis 해시에 두고, 잔액 사용/취소의 검증과 반영을 Lua 스크립트 한 번으로 처리한다.
+ * 계좌 락, 계좌 조회, 잔액 저장이 Redis 왕복 한 번으로 바뀌며, 거래 내역은 같은 스크립트에서
+ * 스트림에 추가되어 RedisLedgerPersister 가 묶어서 DB 에 저장한다.
+ *
+ * 처음 보는 계좌(또는 만료된 거래)는 DB 에서 읽어 Redis 에 올린 뒤 한 번 더 실행한다.
+ * 그 뒤로는 Redis 의 잔액이 기준이므로, 이 모드에서는 다른 경로(일괄 사용, 바이너리 프로토콜,
+ * 잔액 나누기, 계좌 해지)로 같은 계좌의 잔액이나 상태를 바꾸지 않아야 한다.
+ */
+@Service
+@ConditionalOnProperty(name = "web.mode", havingValue = "redis")
+public class RedisLedgerService {
+
+    static final String STREAM_KEY = "LEDGER:STREAM";
+    private static final String ACCOUNT_KEY_PREFIX = "LEDGER:ACCOUNT:";
+    private static final String TRANSACTION_KEY_PREFIX = "LEDGER:TRANSACTION:";
+    private static final String MISS = "MISS";
+    private static final String TRANSACTION_MISS = "TRANSACTION_MISS";
+    private static final int MAX_ATTEMPTS = 2;
+
+    // 거래 한 건을 스트림과 거래 해시에 남긴다. KEYS[2] : 스트림, KEYS[3] : 거래 해시
+    // account 는 앞에서 읽은 계좌 해시 값 (id, userId, ...)
+    private static final String RECORD_FUNCTION =
+            "local function record(result, balance) "
+            + "local fields = {'transactionId', ARGV[3], 'transactionType', ARGV[7], "
+            + "'transactionResultType', result, 'accountId', account[1], 'ownerId', account[2], "
+            + "'accountNumber', ARGV[1], 'amount', ARGV[2], "
+            + "'balanceSnapshot', string.format('%d', balance), 'transactedAt', ARGV[4]} "
+            + "redis.call('XADD', KEYS[2], '*', unpack(fields)) "
+            + "redis.call('HSET', KEYS[3], unpack(fields)) "
+            + "redis.call('EXPIRE', KEYS[3], ARGV[5]) "
+            + "end ";
+
+    // KEYS[1] : 계좌 해시
+    // ARGV : 계좌 번호, 금액, 거래 번호, 거래 시각(epoch millis), 거래 해시 TTL(초), 사용자 아이디, 거래 종류
+    private static final String USE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {'" + MISS + "'} end "
+            + "local account = redis.call('HMGET', KEYS[1], 'id', 'userId', 'balance', 'status', 'held') "
+            + RECORD_FUNCTION
+            + "local amount = tonumber(ARGV[2]) "
+            + "local balance = tonumber(account[3]) "
+            // 승인으로 묶인 금액(held)은 쓸 수 없다. 이 필드가 없던 해시는 0 으로 본다.
+            + "local held = tonumber(account[5]) or 0 "
+            + "local err = '' "
+            + "if account[2] ~= ARGV[6] then err = 'ACCOUNT_OWNER_UN_MATCH' "
+            + "elseif account[4] ~= 'IN_USE' then err = 'ACCOUNT_ALREADY_UNREGISTERED' "
+            + "elseif balance - held < amount then err = 'AMOUNT_EXCEED_BALANCE' "
+            + "else balance = redis.call('HINCRBY', KEYS[1], 'balance', -amount) end "
+            + "local result = err == '' and 'S' or 'F' "
+            + "record(result, balance) "
+            + "return {result, string.format('%d', balance), err}";
+
+    // KEYS[1] : 계좌 해시, KEYS[4] : 취소할 거래 해시
+    // ARGV : USE_SCRIPT 와 같음 (6 : 취소 가능한 가장 오래된 거래 시각), 8 : 취소할 거래가 없으면 '1'
+    private static final String CANCEL_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {'" + MISS + "'} end "
+            + "if ARGV[8] ~= '1' and redis.call('EXISTS', KEYS[4]) == 0 then "
+            + "return {'" + TRANSACTION_MISS + "'} end "
+            + "local account = redis.call('HMGET', KEYS[1], 'id', 'userId', 'balance') "
+            + RECORD_FUNCTION
+            + "local amount = tonumber(ARGV[2]) "
+            + "local balance = tonumber(account[3]) "
+            + "local err = '' "
+            + "if ARGV[8] == '1' then err = 'TRANSACTION_NOT_FOUND' "
+            + "else "
+            + "local original = redis.call('HMGET', KEYS[4], 'accountNumber', 'amount', 'transactedAt', "
+            + "'transactionType') "
+            // 이체는 두 계좌의 거래가 한 쌍이므로 한쪽만 취소할 수 없다. (Transaction.validateCancel)
+            + "if original[4] == 'TRANSFER_OUT' or original[4] == 'TRANSFER_IN' then err = 'INVALID_REQUEST' "
+            + "elseif original[1] ~= ARGV[1] then err = 'TRANSACTION_ACCOUNT_UN_MATCH' "
+            + "elseif original[2] ~= ARGV[2] then err = 'TRANSACTION_AMOUNT_UN_MATCH' "
+            + "elseif tonumber(original[3]) < tonumber(ARGV[6]) then err = 'TOO_OLD_TRANSACTION_TO_CANCEL' "
+            + "elseif amount < 0 then err = 'INVALID_REQUEST' "
+            + "else balance = redis.call('HINCRBY', KEYS[1], 'balance', amount) end "
+            + "end "
+            + "local result = err == '' and 'S' or 'F' "
+            + "record(result, balance) "
+            + "return {result, string.format('%d', balance), err}";
+
+    // 없을 때만 해시를 채운다. ARGV : TTL(초, 0 이면 만료 없음), 필드, 값, ...
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+            + "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) "
+            + "if ARGV[1] ~= '0' then redis.call('EXPIRE', KEYS[1], ARGV[1]) end "
+            + "return 1";
+
+    private final RScript script;
+    private final RedissonClient redissonClient;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionService transactionService;
+    private final long transactionTtlSeconds;
+
+    public RedisLedgerService(RedissonClient redissonClient,
+                              LedgerJdbcRepository ledgerJdbcRepository,
+                              TransactionService transactionService,
+                              @Value("${redis-ledger.transaction-ttl}") long transactionTtlSeconds) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+        this.redissonClient = redissonClient;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transactionService = transactionService;
+        this.transactionTtlSeconds = transactionTtlSeconds;
+    }
+
+    /**
+     * 실패한 사용도 실패(F) 거래로 남긴다.
+     * @throws AccountException ACCOUNT_NOT_FOUND, ACCOUNT_OWNER_UN_MATCH,
+     * ACCOUNT_ALREADY_UNREGISTERED, AMOUNT_EXCEED_BALANCE
+     */
+    public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
+        String transactionId = Transaction.newTransactionId();
+        LocalDateTime transactedAt = LocalDateTime.now();
+        for (int attempt = 1; ; attempt++) {
+            List<Object> result = script.eval(accountKey(accountNumber), RScript.Mode.READ_WRITE,
+                    USE_SCRIPT, RScript.ReturnType.MULTI,
+                    Arrays.asList(accountKey(accountNumber), STREAM_KEY,
+                            transactionKey(transactionId)),
+                    accountNumber, String.valueOf(amount), transactionId,
+                    String.valueOf(toEpochMillis(transactedAt)),
+                    String.valueOf(transactionTtlSeconds), String.valueOf(userId),
+                    TransactionType.USE.name());
+            if (!MISS.equals(result.get(0)))
+                return toTransactionDto(result, accountNumber, TransactionType.USE, amount,
+                        transactionId, transactedAt);
+            if (attempt == MAX_ATTEMPTS)
+                throw new AccountException(ErrorCode.SERVER_BUSY);
+            loadAccount(accountNumber);
+        }
+    }
+
+    /**
+     * 취소할 거래가 없거나 규칙에 맞지 않는 취소도 실패(F) 거래로 남긴다.
+     * @throws AccountException ACCOUNT_NOT_FOUND, TRANSACTION_NOT_FOUND, INVALID_REQUEST(이체 거래),
+     * TRANSACTION_ACCOUNT_UN_MATCH, TRANSACTION_AMOUNT_UN_MATCH, TOO_OLD_TRANSACTION_TO_CANCEL
+     */
+    public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
+        String cancelTransactionId = Transaction.newTransactionId();
+        LocalDateTime transactedAt = LocalDateTime.now();
+        boolean notFound = false;
+        for (int attempt = 1; ; attempt++) {
+            List<Object> result = script.eval(accountKey(accountNumber), RScript.Mode.READ_WRITE,
+                    CANCEL_SCRIPT, RScript.ReturnType.MULTI,
+                    Arrays.asList(accountKey(accountNumber), STREAM_KEY,
+                            transactionKey(cancelTransactionId), transactionKey(transactionId)),
+                    accountNumber, String.valueOf(amount), cancelTransactionId,
+                    String.valueOf(toEpochMillis(transactedAt)),
+                    String.valueOf(transactionTtlSeconds),
+                    String.valueOf(toEpochMillis(transactedAt.minusYears(1))),
+                    TransactionType.CANCEL.name(), notFound ? "1" : "0");
+            Object status = result.get(0);
+            if (!MISS.equals(status) && !TRANSACTION_MISS.equals(status))
+                return toTransactionDto(result, accountNumber, TransactionType.CANCEL, amount,
+                        cancelTransactionId, transactedAt);
+            // 계좌와 거래를 모두 올려야 하는 경우가 있으므로 한 번 더 시도할 수 있다.
+            if (attempt > MAX_ATTEMPTS)
+                throw new AccountException(ErrorCode.SERVER_BUSY);
+            if (MISS.equals(status))
+                loadAccount(accountNumber);
+            else
+                notFound = !loadTransaction(transactionId);
+        }
+    }
+
+    /**
+     * 아직 DB 에 저장되지 않았을 수 있으므로 Redis 의 거래 해시를 먼저 찾고, 없으면 DB 에서 조회한다.
+     * @throws AccountException TRANSACTION_NOT_FOUND
+     */
+    public TransactionDto findTransaction(String transactionId) {
+        Map<String, String> fields = redissonClient
+                .<String, String>getMap(transactionKey(transactionId), StringCodec.INSTANCE)
+                .readAllMap();
+        // 취소를 위해 DB 에서 올려 둔 거래 해시는 일부 필드만 있다.
+        if (!fields.containsKey("transactionId"))
+            return transactionService.queryTransaction(transactionId);
+        return RedisLedgerRecord.from(fields).getResult();
+    }
+
+    /**
+     * 잔액을 슬롯으로 나눈 계좌는 balance 에 잔액이 없으므로 올리지 않는다.
+     * @throws AccountException ACCOUNT_NOT_FOUND, UNSUPPORTED_IN_WEB_MODE
+     */
+    private void loadAccount(String accountNumber) {
+        AccountSnapshot account = ledgerJdbcRepository.findAccount(accountNumber)
+                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        if (account.isBalanceSplit())
+            throw new AccountException(ErrorCode.UNSUPPORTED_IN_WEB_MODE);
+        load(accountKey(accountNumber), 0L,
+                "id", String.valueOf(account.getId()),
+                "userId", String.valueOf(account.getUserId()),
+                "balance", String.valueOf(account.getBalance()),
+                "held", String.valueOf(account.getHeldBalance()),
+                "status", (account.isInUse()
+                        ? AccountStatus.IN_USE
+                        : AccountStatus.UNREGISTERED).name());
+    }
+
+    /**
+     * @return DB 에서 찾았으면 true
+     */
+    private boolean loadTransaction(String transactionId) {
+        TransactionDto original;
+        try {
+            original = transactionService.queryTransaction(transactionId);
+        } catch (AccountException e) {
+            if (e.getErrorCode() != ErrorCode.TRANSACTION_NOT_FOUND)
+                throw e;
+            return false;
+        }
+        load(transactionKey(transactionId), transactionTtlSeconds,
+                "accountNumber", original.getAccountNumber(),
+                "transactionType", String.valueOf(original.getTransactionType()),
+                "amount", String.valueOf(original.getAmount()),
+                "transactedAt", String.valueOf(toEpochMillis(original.getTransactedAt())));
+        return true;
+    }
+
+    private void load(String key, long ttlSeconds, String... fieldsAndValues) {
+        Object[] args = new Object[fieldsAndValues.length + 1];
+        args[0] = String.valueOf(ttlSeconds);
+        System.arraycopy(fieldsAndValues, 0, args, 1, fieldsAndValues.length);
+        script.eval(key, RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.INTEGER,
+                Collections.singletonList(key), args);
+    }
+
+    private static TransactionDto toTransactionDto(List<Object> result, String accountNumber,
+                                                   TransactionType transactionType, Long amount,
+                                                   String transactionId,
+                                                   LocalDateTime transactedAt) {
+        String errorCode = (String) result.get(2);
+        if (!errorCode.isEmpty())
+            throw new AccountException(ErrorCode.valueOf(errorCode));
+        return TransactionDto.builder()
+                .accountNumber(accountNumber)
+                .transactionType(transactionType)
+                .transactionResultType(TransactionResultType.valueOf((String) result.get(0)))
+                .amount(amount)
+                .balanceSnapshot(Long.parseLong((String) result.get(1)))
+                .transactionId(transactionId)
+                .transactedAt(transactedAt)
+                .build();
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static String accountKey(String accountNumber) {
+        return ACCOUNT_KEY_PREFIX + accountNumber;
+    }
+
+    private static String transactionKey(String transactionId) {
+        return TRANSACTION_KEY_PREFIX + transactionId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.account.repository;
+
+import com.example.account.domain.AccountBalanceSlot;
+import com.example.account.dto.AccountSlotBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    /**
+     * 슬롯 잔액이 충분할 때만 차감한다. 갱신하는 행 하나만 잠근다.
+     * @return 차감했으면 1, 잔액이 부족하면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceSlot s set s.balance = s.balance - :amount " +
+            "where s.accountId = :accountId and s.slotIndex = :slotIndex " +
+            "and s.balance >= :amount")
+    int debit(@Param("accountId") Long accountId,
+              @Param("slotIndex") Integer slotIndex,
+              @Param("amount") Long amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceSlot s set s.balance = s.balance + :amount " +
+            "where s.accountId = :accountId and s.slotIndex = :slotIndex")
+    int credit(@Param("accountId") Long accountId,
+               @Param("slotIndex") Integer slotIndex,
+               @Param("amount") Long amount);
+
+    List<AccountBalanceSlot> findByAccountIdOrderBySlotIndex(Long accountId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceSlot s where s.accountId = :accountId " +
+            "order by s.slotIndex")
+    List<AccountBalanceSlot> findForUpdate(@Param("accountId") Long accountId);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s " +
+            "where s.accountId = :accountId")
+    Long sumBalance(@Param("accountId") Long accountId);
+
+    @Query("select s.accountId as accountId, sum(s.balance) as balance " +
+            "from AccountBalanceSlot s where s.accountId in :accountIds " +
+            "group by s.accountId")
+    List<AccountSlotBalance> sumBalanceByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+}
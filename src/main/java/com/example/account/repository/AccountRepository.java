@@ -2,9 +2,13 @@ package com.example.account.repository;
 
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
+import com.example.account.dto.UserAccountCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +21,22 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
     List<Account> findByAccountUser(AccountUser accountUser);
+
+    @Query("select a.accountUser.id as userId, count(a) as accountCount " +
+            "from Account a where a.accountUser.id in :userIds " +
+            "group by a.accountUser.id")
+    List<UserAccountCount> countByAccountUserIds(@Param("userIds") Collection<Long> userIds);
+
+    List<Account> findByIdBetweenOrderById(Long fromId, Long toId);
+
+    List<Account> findByBalanceSlotCountGreaterThan(Integer balanceSlotCount);
+
+    @Query("select min(a.id) from Account a")
+    Long findMinId();
+
+    @Query("select max(a.id) from Account a")
+    Long findMaxId();
 }
@@ -0,0 +1,11 @@
+package com.example.account.repository;
+
+import com.example.account.domain.BalanceCacheEpoch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface BalanceCacheEpochRepository extends JpaRepository<BalanceCacheEpoch, Long> {
+
+    Optional<BalanceCacheEpoch> findFirstByOrderByIdAsc();
+}
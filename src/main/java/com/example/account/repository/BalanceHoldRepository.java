@@ -0,0 +1,38 @@
+package com.example.account.repository;
+
+import com.example.account.domain.BalanceHold;
+import com.example.account.type.HoldStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BalanceHoldRepository extends JpaRepository<BalanceHold, Long> {
+
+    Optional<BalanceHold> findByHoldId(String holdId);
+
+    @Query("select h from BalanceHold h join fetch h.account " +
+            "where h.holdStatus = :holdStatus and h.expiresAt < :now order by h.expiresAt")
+    List<BalanceHold> findExpired(@Param("holdStatus") HoldStatus holdStatus,
+                                  @Param("now") LocalDateTime now,
+                                  Pageable pageable);
+
+    /**
+     * 승인 상태가 from 일 때만 to 로 바꾼다. 매입, 취소, 만료가 겹쳐도 한 번만 성공한다.
+     * @return 바뀐 행 수 (0 또는 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update BalanceHold h set h.holdStatus = :to, h.updatedAt = :now " +
+            "where h.id = :id and h.holdStatus = :from")
+    int updateHoldStatus(@Param("id") Long id,
+                         @Param("from") HoldStatus from,
+                         @Param("to") HoldStatus to,
+                         @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,51 @@
+package com.example.account.repository;
+
+import com.example.account.domain.DailyTransactionSummary;
+import com.example.account.dto.DailySummaryDto;
+import com.example.account.type.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyTransactionSummaryRepository
+        extends JpaRepository<DailyTransactionSummary, Long> {
+
+    /**
+     * @return 갱신된 행 수, 해당 일자의 집계 행이 아직 없으면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update DailyTransactionSummary s " +
+            "set s.totalAmount = s.totalAmount + :amount, " +
+            "s.transactionCount = s.transactionCount + 1 " +
+            "where s.accountId = :accountId and s.summaryDate = :summaryDate " +
+            "and s.transactionType = :transactionType and s.slotIndex = :slotIndex")
+    int increment(@Param("accountId") Long accountId,
+                  @Param("summaryDate") LocalDate summaryDate,
+                  @Param("transactionType") TransactionType transactionType,
+                  @Param("slotIndex") Integer slotIndex,
+                  @Param("amount") Long amount);
+
+    @Query("select new com.example.account.dto.DailySummaryDto(" +
+            "s.summaryDate, s.transactionType, sum(s.totalAmount), sum(s.transactionCount)) " +
+            "from DailyTransactionSummary s " +
+            "where s.accountId = :accountId and s.summaryDate between :from and :to " +
+            "group by s.summaryDate, s.transactionType " +
+            "order by s.summaryDate")
+    List<DailySummaryDto> sumByAccountId(@Param("accountId") Long accountId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    @Query("select new com.example.account.dto.DailySummaryDto(" +
+            "s.summaryDate, s.transactionType, sum(s.totalAmount), sum(s.transactionCount)) " +
+            "from DailyTransactionSummary s " +
+            "where s.userId = :userId and s.summaryDate between :from and :to " +
+            "group by s.summaryDate, s.transactionType " +
+            "order by s.summaryDate")
+    List<DailySummaryDto> sumByUserId(@Param("userId") Long userId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
@@ -0,0 +1,194 @@
+package com.example.account.repository;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 엔진(web.mode=engine)과 Redis 잔액(web.mode=redis) 모드의 DB 접근
+ * JPA 엔티티(Account, Transaction, DailyTransactionSummary)와 같은 테이블을 JdbcTemplate 배치로 저장한다.
+ * ID 는 JPA 와 같은 hibernate_sequence 에서 발급한다.
+ */
+@Repository
+@ConditionalOnExpression("'${web.mode:blocking}' == 'engine' or '${web.mode:blocking}' == 'redis'")
+public class LedgerJdbcRepository {
+
+    private static final String INSERT_TRANSACTION = "insert into transaction (id, created_at, " +
+            "updated_at, transaction_type, transaction_result_type, account_id, amount, " +
+            "balance_snapshot, transaction_id, transacted_at) " +
+            "values (next value for hibernate_sequence, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_BALANCE =
+            "update account set balance = ?, updated_at = ? where id = ?";
+    private static final String INCREMENT_SUMMARY = "update daily_transaction_summary " +
+            "set total_amount = total_amount + ?, transaction_count = transaction_count + ?, " +
+            "updated_at = ? where account_id = ? and summary_date = ? and transaction_type = ? " +
+            "and slot_index = 0";
+    private static final String INSERT_SUMMARY = "insert into daily_transaction_summary " +
+            "(id, created_at, updated_at, account_id, user_id, summary_date, transaction_type, " +
+            "slot_index, total_amount, transaction_count) " +
+            "values (next value for hibernate_sequence, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_OUTBOX = "insert into transaction_outbox (id, created_at, " +
+            "updated_at, account_id, account_number, transaction_type, transaction_result_type, " +
+            "amount, balance_snapshot, transaction_id, transacted_at) " +
+            "values (next value for hibernate_sequence, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean outboxEnabled;
+
+    public LedgerJdbcRepository(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${outbox.enabled}") boolean outboxEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxEnabled = outboxEnabled;
+    }
+
+    public Optional<AccountSnapshot> findAccount(String accountNumber) {
+        return jdbcTemplate.query("select id, account_number, user_id, balance, held_balance, " +
+                                "account_status, balance_slot_count " +
+                                "from account where account_number = ?",
+                        (rs, rowNum) -> new AccountSnapshot(
+                                rs.getLong("id"),
+                                rs.getString("account_number"),
+                                rs.getLong("user_id"),
+                                rs.getLong("balance"),
+                                // 승인이 없으면 null 이므로 0 으로 읽힌다.
+                                rs.getLong("held_balance"),
+                                AccountStatus.IN_USE.name().equals(rs.getString("account_status")),
+                                rs.getInt("balance_slot_count") > 1),
+                        accountNumber)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * 이미 저장된 거래 번호만 골라낸다. (다시 전달된 거래를 건너뛸 때 사용)
+     */
+    public Set<String> findExistingTransactionIds(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty())
+            return Collections.emptySet();
+        String placeholders = String.join(", ", Collections.nCopies(transactionIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select transaction_id from transaction where transaction_id in (" + placeholders + ")",
+                String.class, transactionIds.toArray()));
+    }
+
+    /**
+     * 거래 묶음의 거래 내역, 계좌별 최종 잔액, 일일 집계, outbox 를 한 트랜잭션으로 저장한다.
+     * 계좌별 최종 잔액은 목록에서 마지막 성공 거래의 잔액 스냅샷이므로 처리 순서대로 넘겨야 한다.
+     */
+    public void write(List<? extends LedgerRecord> records) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> transactions = new ArrayList<>(records.size());
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        Map<SummaryKey, long[]> summaries = new LinkedHashMap<>();
+
+        for (LedgerRecord record : records) {
+            TransactionDto result = record.getResult();
+            transactions.add(new Object[]{now, now,
+                    result.getTransactionType().name(),
+                    result.getTransactionResultType().name(),
+                    record.getAccountId(),
+                    result.getAmount(),
+                    result.getBalanceSnapshot(),
+                    result.getTransactionId(),
+                    result.getTransactedAt()});
+            if (!record.isSucceeded())
+                continue;
+
+            balances.put(record.getAccountId(), result.getBalanceSnapshot());
+            long[] summary = summaries.computeIfAbsent(new SummaryKey(record.getAccountId(),
+                            record.getOwnerId(), result.getTransactedAt().toLocalDate(),
+                            result.getTransactionType()),
+                    key -> new long[2]);
+            summary[0] += result.getAmount();
+            summary[1]++;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions);
+
+            List<Object[]> balanceUpdates = new ArrayList<>(balances.size());
+            balances.forEach((accountId, balance) ->
+                    balanceUpdates.add(new Object[]{balance, now, accountId}));
+            jdbcTemplate.batchUpdate(UPDATE_BALANCE, balanceUpdates);
+
+            summaries.forEach((key, summary) -> {
+                int updated = jdbcTemplate.update(INCREMENT_SUMMARY, summary[0], summary[1], now,
+                        key.accountId, key.summaryDate, key.transactionType.name());
+                if (updated == 0)
+                    jdbcTemplate.update(INSERT_SUMMARY, now, now, key.accountId, key.userId,
+                            key.summaryDate, key.transactionType.name(), summary[0], summary[1]);
+            });
+
+            if (outboxEnabled)
+                jdbcTemplate.batchUpdate(INSERT_OUTBOX, outbox(records, now));
+        });
+    }
+
+    private static List<Object[]> outbox(List<? extends LedgerRecord> records, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (LedgerRecord record : records) {
+            TransactionDto result = record.getResult();
+            rows.add(new Object[]{now, now, record.getAccountId(),
+                    result.getAccountNumber(),
+                    result.getTransactionType().name(),
+                    result.getTransactionResultType().name(),
+                    result.getAmount(),
+                    result.getBalanceSnapshot(),
+                    result.getTransactionId(),
+                    result.getTransactedAt()});
+        }
+        return rows;
+    }
+
+    private static class SummaryKey {
+        private final long accountId;
+        private final long userId;
+        private final LocalDate summaryDate;
+        private final TransactionType transactionType;
+
+        SummaryKey(long accountId, long userId, LocalDate summaryDate,
+                   TransactionType transactionType) {
+            this.accountId = accountId;
+            this.userId = userId;
+            this.summaryDate = summaryDate;
+            this.transactionType = transactionType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SummaryKey that = (SummaryKey) o;
+            return accountId == that.accountId && summaryDate.equals(that.summaryDate)
+                    && transactionType == that.transactionType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, summaryDate, transactionType);
+        }
+    }
+}
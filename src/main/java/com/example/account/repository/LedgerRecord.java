@@ -0,0 +1,20 @@
+package com.example.account.repository;
+
+import com.example.account.dto.TransactionDto;
+
+/**
+ * LedgerJdbcRepository 로 저장할 거래 한 건
+ */
+public interface LedgerRecord {
+
+    long getAccountId();
+
+    /**
+     * 계좌 소유자 아이디, 일일 집계에 사용한다.
+     */
+    long getOwnerId();
+
+    TransactionDto getResult();
+
+    boolean isSucceeded();
+}
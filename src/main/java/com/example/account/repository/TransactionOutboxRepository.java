@@ -0,0 +1,12 @@
+package com.example.account.repository;
+
+import com.example.account.domain.TransactionOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TransactionOutboxRepository extends JpaRepository<TransactionOutbox, Long> {
+
+    List<TransactionOutbox> findByOrderByIdAsc(Pageable pageable);
+}
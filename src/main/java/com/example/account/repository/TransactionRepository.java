@@ -1,10 +1,49 @@
 package com.example.account.repository;
 
 import com.example.account.domain.Transaction;
+import com.example.account.dto.LedgerEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TransactionRepository extends JpaRepository<Transaction,Long> {
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface TransactionRepository extends JpaRepository<Transaction,Long>,
+        TransactionRepositoryCustom {
     Optional<Transaction> findByTransactionId(String transactionId);
+
+    /**
+     * 계좌의 전체 거래를 오래된 순서로 커서 스트리밍한다.
+     * 트랜잭션 안에서 사용하고, 사용 후 반드시 close 해야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t from Transaction t where t.account.id = :accountId " +
+            "order by t.transactedAt, t.id")
+    Stream<Transaction> streamByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 계좌 ID 구간의 원장을 계좌, 거래 순서대로 커서 스트리밍한다.
+     * 엔티티 대신 검증에 필요한 컬럼만 읽는다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t.account.id as accountId, t.transactionId as transactionId, " +
+            "t.transactionType as transactionType, " +
+            "t.transactionResultType as transactionResultType, " +
+            "t.amount as amount, t.balanceSnapshot as balanceSnapshot " +
+            "from Transaction t where t.account.id between :fromId and :toId " +
+            "order by t.account.id, t.transactedAt, t.id")
+    Stream<LedgerEntry> streamLedgerEntries(@Param("fromId") Long fromId,
+                                            @Param("toId") Long toId);
 }
@@ -0,0 +1,22 @@
+package com.example.account.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionCursor;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+
+import java.util.List;
+
+public interface TransactionRepositoryCustom {
+
+    /**
+     * (transactedAt, id) 내림차순 키셋 페이지 조회
+     * 필터가 null 이면 조건에서 제외한다.
+     */
+    List<Transaction> findHistory(Account account,
+                                  TransactionType transactionType,
+                                  TransactionResultType transactionResultType,
+                                  TransactionCursor cursor,
+                                  int limit);
+}
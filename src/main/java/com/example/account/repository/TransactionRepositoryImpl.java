@@ -0,0 +1,51 @@
+package com.example.account.repository;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionCursor;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Transaction> findHistory(Account account,
+                                         TransactionType transactionType,
+                                         TransactionResultType transactionResultType,
+                                         TransactionCursor cursor,
+                                         int limit) {
+        // 사용하지 않는 필터는 쿼리에서 빼서 (account_id, transacted_at, id) 인덱스를 그대로 타도록 한다.
+        StringBuilder jpql = new StringBuilder(
+                "select t from Transaction t where t.account = :account");
+        if (transactionType != null)
+            jpql.append(" and t.transactionType = :transactionType");
+        if (transactionResultType != null)
+            jpql.append(" and t.transactionResultType = :transactionResultType");
+        if (cursor != null)
+            jpql.append(" and (t.transactedAt < :cursorAt")
+                    .append(" or (t.transactedAt = :cursorAt and t.id < :cursorId))");
+        jpql.append(" order by t.transactedAt desc, t.id desc");
+
+        TypedQuery<Transaction> query = entityManager
+                .createQuery(jpql.toString(), Transaction.class)
+                .setParameter("account", account)
+                .setMaxResults(limit);
+        if (transactionType != null)
+            query.setParameter("transactionType", transactionType);
+        if (transactionResultType != null)
+            query.setParameter("transactionResultType", transactionResultType);
+        if (cursor != null) {
+            query.setParameter("cursorAt", cursor.getTransactedAt());
+            query.setParameter("cursorId", cursor.getId());
+        }
+        return query.getResultList();
+    }
+}
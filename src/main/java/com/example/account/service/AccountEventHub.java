@@ -0,0 +1,220 @@
+package com.example.account.service;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 잔액 변경을 SSE 구독자에게 나눠 보내는 허브
+ * 잔액 사용/취소, 계좌 생성/해지가 커밋되면 해당 사용자의 구독자 버퍼에 넣고,
+ * 전송은 고정 크기의 전송 풀에서 구독자별로 한 스레드씩 한다.
+ * 전송이 블로킹 쓰기이므로 읽지 않는 구독자가 전송 스레드 수만큼 쌓이면, 컨테이너의 쓰기 타임아웃
+ * (server.tomcat.connection-timeout)으로 그 연결들이 끊길 때까지 다른 구독자의 전송도 늦어진다.
+ * 구독자가 없는 사용자의 변경은 트랜잭션에 아무것도 등록하지 않는다.
+ */
+@Slf4j
+@Service
+public class AccountEventHub {
+
+    private static final String EVENT_NAME = "account";
+
+    private final Map<Long, Set<AccountSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final int maxSubscriptionsPerUser;
+    private final long timeoutMillis;
+
+    @Autowired
+    public AccountEventHub(@Value("${account-stream.dispatch-threads}") int dispatchThreads,
+                           @Value("${account-stream.buffer-size}") int bufferSize,
+                           @Value("${account-stream.max-subscriptions-per-user}") int maxSubscriptionsPerUser,
+                           @Value("${account-stream.timeout}") long timeoutMillis) {
+        this(Executors.newFixedThreadPool(dispatchThreads,
+                        new CustomizableThreadFactory("account-stream-")),
+                bufferSize, maxSubscriptionsPerUser, timeoutMillis);
+    }
+
+    AccountEventHub(ExecutorService dispatcher, int bufferSize, int maxSubscriptionsPerUser,
+                    long timeoutMillis) {
+        this.dispatcher = dispatcher;
+        this.bufferSize = bufferSize;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 사용자(accountNumber 가 있으면 그 계좌)의 변경을 받는 SSE 연결을 연다.
+     * 구독을 먼저 등록한 뒤 현재 계좌 정보(snapshot)를 읽으므로, 그 사이에 커밋된 변경도 빠지지 않는다.
+     * 현재 계좌 정보를 먼저 보내고 등록 후 쌓인 변경을 이어서 보낸다.
+     * @throws AccountException TOO_MANY_REQUESTS, snapshot 을 읽을 때 나는 예외
+     */
+    public SseEmitter subscribe(Long userId, String accountNumber,
+                                Supplier<List<AccountInfo>> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AccountSubscription subscription = new AccountSubscription(userId, accountNumber,
+                new EmitterSender(emitter), bufferSize);
+        register(subscription);
+
+        List<AccountInfo> current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException e) {
+            unregister(subscription);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        start(subscription, current);
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 구독자에게 보낸다. 구독자가 없으면 아무것도 하지 않는다.
+     */
+    public void publishAfterCommit(Long userId, AccountInfo accountInfo) {
+        if (!hasSubscribers(userId))
+            return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(userId, accountInfo);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userId, accountInfo);
+            }
+        });
+    }
+
+    void publish(Long userId, AccountInfo accountInfo) {
+        Set<AccountSubscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null)
+            return;
+        for (AccountSubscription subscription : userSubscriptions)
+            if (subscription.accepts(accountInfo))
+                offer(subscription, accountInfo);
+    }
+
+    /**
+     * 프록시나 로드 밸런서가 유휴 연결을 끊지 않게 하고, 끊어진 연결을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${account-stream.heartbeat-interval}")
+    public void heartbeat() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions
+                .forEach(subscription -> {
+                    if (!subscription.heartbeat())
+                        unregister(subscription);
+                }));
+    }
+
+    int subscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    void register(AccountSubscription subscription) {
+        subscriptions.compute(subscription.getUserId(), (userId, userSubscriptions) -> {
+            Set<AccountSubscription> updated = userSubscriptions != null
+                    ? userSubscriptions
+                    : ConcurrentHashMap.newKeySet();
+            if (updated.size() >= maxSubscriptionsPerUser)
+                throw new AccountException(ErrorCode.TOO_MANY_REQUESTS);
+            updated.add(subscription);
+            return updated;
+        });
+    }
+
+    private void unregister(AccountSubscription subscription) {
+        subscription.close();
+        subscriptions.computeIfPresent(subscription.getUserId(), (userId, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+
+    void start(AccountSubscription subscription, List<AccountInfo> snapshot) {
+        if (subscription.start(snapshot))
+            dispatch(subscription);
+    }
+
+    private void offer(AccountSubscription subscription, AccountInfo accountInfo) {
+        if (subscription.offer(accountInfo))
+            dispatch(subscription);
+    }
+
+    private void dispatch(AccountSubscription subscription) {
+        try {
+            dispatcher.execute(() -> {
+                if (!subscription.drain())
+                    unregister(subscription);
+            });
+        } catch (RejectedExecutionException e) {
+            unregister(subscription);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(userSubscriptions ->
+                userSubscriptions.forEach(AccountSubscription::close));
+        dispatcher.shutdown();
+    }
+
+    private static class EmitterSender implements AccountSubscription.Sender {
+
+        private final SseEmitter emitter;
+
+        EmitterSender(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(AccountInfo accountInfo) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(accountInfo, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 끝난 연결
+                log.debug("Account stream already completed");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.account.service;
+
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌 번호 발급기
+ * 다음에 발급할 계좌 번호를 Redis 에 두고 compare-and-set 으로 count 개를 한 번에 예약하므로,
+ * 대량 생성과 단건 생성이 동시에 실행돼도 서로 다른 연속 구간을 받는다.
+ * 예약한 뒤 롤백된 번호는 다시 쓰지 않는다. (계좌 번호에 빈 번호가 생길 수 있다)
+ */
+@Component
+public class AccountNumberAllocator {
+
+    static final String NEXT_ACCOUNT_NUMBER = "ACCOUNT:NEXT_NUMBER";
+
+    private final RAtomicLong next;
+
+    public AccountNumberAllocator(RedissonClient redissonClient) {
+        this(redissonClient.getAtomicLong(NEXT_ACCOUNT_NUMBER));
+    }
+
+    AccountNumberAllocator(RAtomicLong next) {
+        this.next = next;
+    }
+
+    /**
+     * @param floor DB 의 마지막 계좌 다음 번호, Redis 에 값이 없거나 이보다 작으면 (Redis 초기화) 여기부터 발급한다.
+     * @param count 예약할 계좌 번호 수
+     * @return 예약한 첫 계좌 번호, 여기부터 count 개가 이 호출의 것이다.
+     */
+    public long reserve(long floor, int count) {
+        while (true) {
+            long current = next.get();
+            long first = Math.max(current, floor);
+            if (next.compareAndSet(current, first + count))
+                return first;
+        }
+    }
+}
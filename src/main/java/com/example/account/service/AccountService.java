@@ -2,6 +2,10 @@ package com.example.account.service;
 
 import com.example.account.domain.Account;
 import com.example.account.dto.AccountDto;
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.BulkCreateAccount;
+import com.example.account.dto.CreateAccount;
+import com.example.account.dto.UserAccountCount;
 import com.example.account.exception.AccountException;
 import com.example.account.domain.AccountUser;
 import com.example.account.repository.AccountRepository;
@@ -11,9 +15,13 @@ import com.example.account.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.example.account.type.ErrorCode.*;
@@ -23,8 +31,19 @@ import static com.example.account.type.ErrorCode.*;
 public class AccountService {
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final EntityManager entityManager;
+    private final BalanceSlotService balanceSlotService;
+    private final BalanceCache balanceCache;
+    private final AccountEventHub accountEventHub;
+    private final AccountNumberAllocator accountNumberAllocator;
 
-    private static final String INITIAL_ACCOUNT_NUMBER = "1000000000";
+    static final String INITIAL_ACCOUNT_NUMBER = "1000000000";
+    private static final int MAX_ACCOUNT_SIZE = 10;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int SINGLE_FLIGHT_MAX_KEYS = 10_000;
+
+    private final SingleFlight<Long, List<AccountDto>> accountInfoFlight =
+            new SingleFlight<>(SINGLE_FLIGHT_MAX_KEYS);
 
     /**
      * id에 해당하는 사용자를 조회
@@ -42,11 +61,100 @@ public class AccountService {
 
         validateCreateAccount(user);
 
-        return AccountDto.fromEntity(accountRepository
-                .save(
-                        Account.createAccount(user,
-                                initialBalance,
-                                createAccountNumber())));
+        Account account = accountRepository.save(
+                Account.createAccount(user, initialBalance, createAccountNumber()));
+        balanceCache.updateAfterCommit(account);
+        publishAccount(account);
+
+        return AccountDto.fromEntity(account);
+    }
+
+    /**
+     * 여러 사용자의 계좌를 한 번에 생성한다.
+     * 사용자와 사용자별 보유 계좌 수를 묶음 단위로 한 번씩 조회해 검증하고,
+     * 검증을 통과한 건 수만큼 연속된 계좌 번호를 AccountNumberAllocator 에서 먼저 예약한 뒤
+     * 묶음 단위로 저장하므로 동시에 생성되는 다른 계좌와 번호가 겹치지 않는다.
+     * 검증에 실패한 건은 나머지 건에 영향을 주지 않고 결과에 errorCode 로 남는다.
+     *
+     * @param requests 사용자 아이디와 초기 잔액 목록
+     * @return 요청 순서와 같은 순서의 건별 결과
+     */
+    @Transactional
+    public List<BulkCreateAccount.Item> createAccounts(List<CreateAccount.Request> requests) {
+        List<Long> userIds = requests.stream()
+                .map(CreateAccount.Request::getUserId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, AccountUser> users = new HashMap<>();
+        Map<Long, Long> accountCounts = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from,
+                    Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            accountUserRepository.findAllById(chunk)
+                    .forEach(user -> users.put(user.getId(), user));
+            accountRepository.countByAccountUserIds(chunk)
+                    .forEach(count -> accountCounts.put(count.getUserId(), count.getAccountCount()));
+        }
+
+        List<BulkCreateAccount.Item> results = new ArrayList<>(requests.size());
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (CreateAccount.Request request : requests) {
+            AccountUser user = users.get(request.getUserId());
+            if (user == null) {
+                results.add(BulkCreateAccount.Item.fail(request.getUserId(), USER_NOT_FOUND));
+                continue;
+            }
+            long count = accountCounts.getOrDefault(user.getId(), 0L);
+            if (count >= MAX_ACCOUNT_SIZE) {
+                results.add(BulkCreateAccount.Item.fail(request.getUserId(), EXCEED_MAX_ACCOUNT_SIZE));
+                continue;
+            }
+            accountCounts.put(user.getId(), count + 1);
+            acceptedIndexes.add(results.size());
+            results.add(null);
+        }
+        if (acceptedIndexes.isEmpty())
+            return results;
+
+        long accountNumber = reserveAccountNumbers(acceptedIndexes.size());
+        List<Account> pending = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Integer> pendingIndexes = new ArrayList<>(BULK_CHUNK_SIZE);
+        for (Integer index : acceptedIndexes) {
+            CreateAccount.Request request = requests.get(index);
+            pending.add(Account.createAccount(users.get(request.getUserId()),
+                    request.getInitialBalance(), String.valueOf(accountNumber++)));
+            pendingIndexes.add(index);
+
+            if (pending.size() == BULK_CHUNK_SIZE)
+                flushAccounts(pending, pendingIndexes, results);
+        }
+        flushAccounts(pending, pendingIndexes, results);
+
+        return results;
+    }
+
+    /**
+     * 저장 후 결과 자리를 채우고 영속성 컨텍스트를 비워 대량 생성 시 메모리 사용을 제한한다.
+     */
+    private void flushAccounts(List<Account> pending, List<Integer> pendingIndexes,
+                               List<BulkCreateAccount.Item> results) {
+        if (pending.isEmpty())
+            return;
+
+        List<Account> saved = accountRepository.saveAll(pending);
+        entityManager.flush();
+
+        for (int i = 0; i < saved.size(); i++) {
+            results.set(pendingIndexes.get(i),
+                    BulkCreateAccount.Item.success(AccountDto.fromEntity(saved.get(i))));
+            balanceCache.updateAfterCommit(saved.get(i));
+            publishAccount(saved.get(i));
+        }
+
+        entityManager.clear();
+        pending.clear();
+        pendingIndexes.clear();
     }
 
     @Transactional
@@ -79,16 +187,64 @@ public class AccountService {
         validateUnRegisterAccount(accountUser, account);
 
         account.unRegister();
+        balanceCache.updateAfterCommit(account);
+        publishAccount(account);
 
         return AccountDto.fromEntity(account);
     }
 
+    /**
+     * 거래가 몰리는 계좌의 잔액을 slotCount 개의 슬롯으로 나눈다.
+     * 나눈 뒤에는 잔액 사용/취소가 계좌 락 대신 슬롯 한 행만 잠그므로 같은 계좌의 요청을 동시에 처리할 수 있다.
+     * 호출자는 해당 계좌의 락을 잡고 호출한다.
+     * @throws AccountException USER_NOT_FOUND, ACCOUNT_NOT_FOUND, ACCOUNT_OWNER_UN_MATCH,
+     * ACCOUNT_ALREADY_UNREGISTERED, INVALID_REQUEST
+     */
+    @Transactional
+    public AccountDto splitAccountBalance(Long userId, String accountNumber, int slotCount) {
+        AccountUser accountUser = findUserOrElseThrow(userId);
+        Account account = findAccountByAccountNumberOrElseThrow(accountNumber);
+        if (!account.getAccountUser().getId().equals(accountUser.getId()))
+            throw new AccountException(ACCOUNT_OWNER_UN_MATCH);
+
+        long balance = account.splitBalance(slotCount);
+        balanceSlotService.createSlots(account, balance);
+        balanceCache.updateAfterCommit(account);
+
+        return AccountDto.fromEntity(account, balance);
+    }
+
+    /**
+     * 같은 사용자의 동시 조회는 한 번의 DB 조회로 합친다. 반환 목록은 수정할 수 없다.
+     * @throws AccountException USER_NOT_FOUND
+     */
     public List<AccountDto> getAllAccountInfo(Long userId) {
+        return accountInfoFlight.execute(userId, () -> loadAllAccountInfo(userId));
+    }
+
+    /**
+     * 진행 중인 조회에 합치지 않고 항상 새로 조회한다.
+     * 조회 시작 이후의 변경을 놓치면 안 되는 곳(변경 스트림 구독 직후의 스냅샷)에서 쓴다.
+     * @throws AccountException USER_NOT_FOUND
+     */
+    public List<AccountDto> loadAllAccountInfo(Long userId) {
         AccountUser user = findUserOrElseThrow(userId);
-        return accountRepository.findByAccountUser(user)
-                .stream()
-                .map(AccountDto::fromEntity)
-                .collect(Collectors.toList());
+        List<Account> accounts = accountRepository.findByAccountUser(user);
+        Map<Long, Long> slotBalances = balanceSlotService.totalBalances(accounts);
+        return accounts.stream()
+                .map(account -> AccountDto.fromEntity(account,
+                        slotBalances.getOrDefault(account.getId(), account.getBalance())))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 잔액을 나누지 않은 계좌(생성, 해지)의 변경을 구독자에게 커밋 후 보낸다.
+     */
+    private void publishAccount(Account account) {
+        accountEventHub.publishAfterCommit(account.getAccountUser().getId(), AccountInfo.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .build());
     }
 
     private Account findAccountByAccountNumberOrElseThrow(String accountNumber) {
@@ -99,22 +255,41 @@ public class AccountService {
     private void validateUnRegisterAccount(AccountUser accountUser, Account account) {
         if(!account.getAccountUser().getId().equals(accountUser.getId()))
             throw new AccountException(ACCOUNT_OWNER_UN_MATCH);
-        if(account.getBalance() > 0)
+        if(account.getBalance() > 0
+                || (account.isBalanceSplit() && balanceSlotService.totalBalance(account) > 0))
             throw new AccountException(BALANCE_REMAIN);
         if(account.getAccountStatus().equals(AccountStatus.UNREGISTERED))
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
     }
 
     private void validateCreateAccount(AccountUser user) {
-        if(accountRepository.countByAccountUser(user) >= 10)
+        if(accountRepository.countByAccountUser(user) >= MAX_ACCOUNT_SIZE)
             throw new AccountException(ErrorCode.EXCEED_MAX_ACCOUNT_SIZE);
     }
 
     private String createAccountNumber() {
 
-        return accountRepository.findFirstByOrderByIdDesc()
-                .map(account -> (Integer.parseInt(account.getAccountNumber())+1+""))
-                .orElse(INITIAL_ACCOUNT_NUMBER);
+        return String.valueOf(reserveAccountNumbers(1));
+    }
+
+    /**
+     * @return count 개의 연속된 계좌 번호 중 첫 번호
+     */
+    private long reserveAccountNumbers(int count) {
+        String floor = nextAccountNumber(accountRepository.findFirstByOrderByIdDesc()
+                .map(Account::getAccountNumber)
+                .orElse(null));
+        return accountNumberAllocator.reserve(Long.parseLong(floor), count);
+    }
+
+    /**
+     * @param lastAccountNumber 마지막으로 발급된 계좌 번호, 없으면 null
+     * @return 다음 계좌 번호
+     */
+    static String nextAccountNumber(String lastAccountNumber) {
+        if (lastAccountNumber == null)
+            return INITIAL_ACCOUNT_NUMBER;
+        return String.valueOf(Long.parseLong(lastAccountNumber) + 1);
     }
 
     private AccountUser findUserOrElseThrow(Long id) {
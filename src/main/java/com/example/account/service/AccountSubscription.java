@@ -0,0 +1,145 @@
+package com.example.account.service;
+
+import com.example.account.dto.AccountInfo;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * 계좌 변경 스트림 구독자 하나
+ * 보낼 계좌 정보를 크기가 제한된 버퍼에 쌓고, 가득 차면 가장 오래된 것을 버린다.
+ * 같은 구독자의 전송은 한 번에 한 스레드만 하므로 한 구독자의 변경이 여러 전송 스레드를 차지하지는 않는다.
+ * 다만 전송은 블로킹 쓰기라서, 읽지 않는 구독자는 컨테이너의 쓰기 타임아웃까지 전송 스레드 하나를 붙잡는다.
+ * 시작(start) 전에 들어온 변경은 보내지 않고 쌓아 두었다가 현재 계좌 정보 뒤에 보낸다.
+ */
+class AccountSubscription {
+
+    interface Sender {
+        void send(AccountInfo accountInfo) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    @Getter
+    private final Long userId;
+    // null 이면 사용자의 모든 계좌
+    private final String accountNumber;
+    private final Sender sender;
+    private final int capacity;
+
+    private final ArrayDeque<AccountInfo> buffer;
+    private boolean draining;
+    private boolean started;
+    private long droppedCount;
+    private volatile boolean closed;
+
+    AccountSubscription(Long userId, String accountNumber, Sender sender, int capacity) {
+        this.userId = userId;
+        this.accountNumber = accountNumber;
+        this.sender = sender;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+    }
+
+    boolean accepts(AccountInfo accountInfo) {
+        return accountNumber == null || accountNumber.equals(accountInfo.getAccountNumber());
+    }
+
+    /**
+     * @return 전송을 시작해야 하면 true (이미 다른 스레드가 전송 중이면 false)
+     */
+    synchronized boolean offer(AccountInfo accountInfo) {
+        if (closed)
+            return false;
+        if (buffer.size() == capacity) {
+            buffer.pollFirst();
+            droppedCount++;
+        }
+        buffer.addLast(accountInfo);
+        if (draining || !started)
+            return false;
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 현재 계좌 정보(snapshot)를 구독 후 쌓인 변경보다 앞에 넣고 전송을 허용한다.
+     * 쌓인 변경은 snapshot 이전에 커밋됐을 수도 있지만 계좌마다 마지막으로 받는 값은 항상 최신이다.
+     * @return 전송을 시작해야 하면 true
+     */
+    synchronized boolean start(List<AccountInfo> snapshot) {
+        if (closed || started)
+            return false;
+        started = true;
+        for (int i = snapshot.size() - 1; i >= 0; i--)
+            buffer.addFirst(snapshot.get(i));
+        if (buffer.isEmpty())
+            return false;
+        draining = true;
+        return true;
+    }
+
+    /**
+     * 버퍼가 빌 때까지 보낸다. 전송에 실패하면 구독을 닫는다.
+     * @return 구독이 열려 있으면 true
+     */
+    boolean drain() {
+        while (true) {
+            AccountInfo next;
+            synchronized (this) {
+                next = buffer.pollFirst();
+                if (next == null || closed) {
+                    draining = false;
+                    return !closed;
+                }
+            }
+            try {
+                sender.send(next);
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return 구독이 열려 있으면 true
+     */
+    boolean heartbeat() {
+        if (closed)
+            return false;
+        try {
+            sender.heartbeat();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close();
+            return false;
+        }
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            buffer.clear();
+        }
+        sender.close();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    synchronized int buffered() {
+        return buffer.size();
+    }
+}
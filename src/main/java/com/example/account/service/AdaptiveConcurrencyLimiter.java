@@ -0,0 +1,112 @@
+package com.example.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 요청의 동시 처리 수 한도를 응답 시간에 맞춰 조절한다. (AIMD)
+ * 응답 시간이 기준 이내이고 한도의 절반 이상을 쓰고 있으면 한도를 1 늘리고,
+ * 기준을 넘거나 실패하면 한도를 backoffRatio 배로 줄인다.
+ * 감소는 latencyThreshold 마다 한 번만 적용해 느린 요청이 한꺼번에 끝날 때 한도가 바닥까지 떨어지지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private volatile int limit;
+    private long lastDecreasedAt;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(@Value("${admission.initial-limit}") int initialLimit,
+                                      @Value("${admission.min-limit}") int minLimit,
+                                      @Value("${admission.max-limit}") int maxLimit,
+                                      @Value("${admission.latency-threshold}") Duration latencyThreshold,
+                                      @Value("${admission.backoff-ratio}") double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                               Duration latencyThreshold, double backoffRatio,
+                               LongSupplier nanoClock) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.lastDecreasedAt = nanoClock.getAsLong() - latencyThresholdNanos;
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청 수를 늘리고 true, 한도를 넘으면 false 를 반환한다.
+     * true 를 받은 호출자는 처리가 끝나면 반드시 release 를 호출해야 한다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejectedCount.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    /**
+     * @param latencyNanos 요청 처리 시간
+     * @param dropped 5xx 또는 처리 중 예외 여부
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (dropped || latencyNanos > latencyThresholdNanos)
+            decrease();
+        else if (inFlightBefore * 2 >= limit && limit < maxLimit)
+            increase();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    private synchronized void increase() {
+        if (limit < maxLimit)
+            limit++;
+    }
+
+    private synchronized void decrease() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreasedAt < latencyThresholdNanos)
+            return;
+        lastDecreasedAt = now;
+        int decreased = Math.max(minLimit, (int) (limit * backoffRatio));
+        if (decreased != limit)
+            log.info("Admission limit decreased : {} -> {}", limit, decreased);
+        limit = decreased;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 스레드를 점유하지 않는 계좌 락
+ * LockService 와 같은 키와 대기/점유 시간을 쓰지만 Redisson 의 비동기 API 로 대기하므로
+ * 락을 기다리는 동안 요청 스레드나 작업 풀 스레드가 묶이지 않는다.
+ * 락을 잡은 스레드와 푸는 스레드가 다를 수 있어 요청마다 음수의 소유자 ID 를 발급해 사용한다.
+ * 동시에 대기 중인 락 요청 수는 max-pending 으로 제한하고 넘치면 SERVER_BUSY 로 즉시 실패한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "web.mode", havingValue = "async")
+public class AsyncLockService {
+
+    private static final AtomicLong OWNER_IDS = new AtomicLong();
+
+    private final RedissonClient redissonClient;
+    private final Duration waitTime;
+    private final Duration leaseTime;
+    private final Semaphore pendingLocks;
+
+    public AsyncLockService(RedissonClient redissonClient,
+                            @Value("${web.async.lock.wait-time}") Duration waitTime,
+                            @Value("${web.async.lock.lease-time}") Duration leaseTime,
+                            @Value("${web.async.lock.max-pending}") int maxPending) {
+        this.redissonClient = redissonClient;
+        this.waitTime = waitTime;
+        this.leaseTime = leaseTime;
+        this.pendingLocks = new Semaphore(maxPending);
+    }
+
+    /**
+     * 계좌 락을 잡은 뒤 action 을 실행하고, action 의 결과와 상관없이 락을 해제한다.
+     * @throws AccountException ACCOUNT_TRANSACTION_LOCK, SERVER_BUSY (future 의 실패로 전달)
+     */
+    public <T> CompletableFuture<T> withLock(String accountNumber,
+                                             Supplier<CompletableFuture<T>> action) {
+        return lock(accountNumber)
+                .thenCompose(ownerId -> action.get()
+                        .whenComplete((result, e) -> unlock(accountNumber, ownerId)));
+    }
+
+    private CompletableFuture<Long> lock(String accountNumber) {
+        if (!pendingLocks.tryAcquire()) {
+            log.warn("Too many pending lock requests");
+            return CompletableFuture.failedFuture(new AccountException(ErrorCode.SERVER_BUSY));
+        }
+
+        long ownerId = OWNER_IDS.decrementAndGet();
+        log.debug("Trying async lock for accountNumber : {}", accountNumber);
+        return getLock(accountNumber)
+                .tryLockAsync(waitTime.toMillis(), leaseTime.toMillis(),
+                        TimeUnit.MILLISECONDS, ownerId)
+                .toCompletableFuture()
+                .handle((locked, e) -> {
+                    pendingLocks.release();
+                    if (e != null)
+                        log.error("Redis lock failed", e);
+                    if (e != null || !Boolean.TRUE.equals(locked)) {
+                        log.debug("======Lock acquisition failed=====");
+                        throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                    }
+                    return ownerId;
+                });
+    }
+
+    private void unlock(String accountNumber, long ownerId) {
+        log.debug("Unlock for accountNumber : {}", accountNumber);
+        getLock(accountNumber).unlockAsync(ownerId)
+                .whenComplete((result, e) -> {
+                    if (e != null)
+                        log.error("Redis unlock failed", e);
+                });
+    }
+
+    private RLock getLock(String accountNumber) {
+        return redissonClient.getLock(LockService.LOCK_PREFIX + accountNumber);
+    }
+}
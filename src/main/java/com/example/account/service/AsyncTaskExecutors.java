@@ -0,0 +1,72 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 컨트롤러 모드에서 사용하는 작업 풀
+ * 쓰기(잔액 변경, 계좌 생성/해지)와 조회를 서로 다른 고정 크기 풀에서 실행해
+ * 한쪽이 밀려도 다른 쪽이 막히지 않게 한다.
+ * 대기열이 가득 차면 기다리지 않고 SERVER_BUSY 로 즉시 실패한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "web.mode", havingValue = "async")
+public class AsyncTaskExecutors {
+
+    private final ThreadPoolExecutor writeExecutor;
+    private final ThreadPoolExecutor readExecutor;
+
+    public AsyncTaskExecutors(
+            @Value("${web.async.write.threads}") int writeThreads,
+            @Value("${web.async.write.queue-capacity}") int writeQueueCapacity,
+            @Value("${web.async.read.threads}") int readThreads,
+            @Value("${web.async.read.queue-capacity}") int readQueueCapacity) {
+        this.writeExecutor = newExecutor("async-write-", writeThreads, writeQueueCapacity);
+        this.readExecutor = newExecutor("async-read-", readThreads, readQueueCapacity);
+    }
+
+    public <T> CompletableFuture<T> supplyWrite(Supplier<T> task) {
+        return supply(writeExecutor, task);
+    }
+
+    public <T> CompletableFuture<T> supplyRead(Supplier<T> task) {
+        return supply(readExecutor, task);
+    }
+
+    private static <T> CompletableFuture<T> supply(ThreadPoolExecutor executor, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Async executor saturated : {}", executor.getQueue().size());
+            return CompletableFuture.failedFuture(new AccountException(ErrorCode.SERVER_BUSY));
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(String prefix, int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(prefix),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+        readExecutor.shutdown();
+    }
+}
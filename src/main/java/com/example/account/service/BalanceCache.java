@@ -0,0 +1,27 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+
+/**
+ * 계좌 번호로 찾는 소유자, 상태 캐시
+ * 캐시에 있는 계좌는 DB 를 조회하지 않고 소유자와 해지 여부를 검사한다.
+ * 잔액은 다른 노드에서 바뀌어도 알 수 없으므로 캐시로 거절하지 않고 DB 에서 검사한다.
+ * 항목은 커밋된 계좌 상태로만 갱신되며, 호출자는 해당 계좌의 락을 잡고 갱신한다.
+ */
+public interface BalanceCache {
+
+    /**
+     * 캐시에 있는 계좌면 Account.validateUseBalance 의 규칙 중 소유자와 해지 여부만 검사한다.
+     * 캐시에 없거나 갱신 중인 계좌는 검사하지 않는다.
+     * @throws com.example.account.exception.AccountException ACCOUNT_OWNER_UN_MATCH,
+     * ACCOUNT_ALREADY_UNREGISTERED
+     */
+    void validateUseBalance(String accountNumber, Long userId, Long amount);
+
+    /**
+     * 현재 트랜잭션이 커밋되면 계좌의 그 시점 상태로 항목을 갱신한다.
+     */
+    void updateAfterCommit(Account account);
+
+    void invalidate(String accountNumber);
+}
@@ -0,0 +1,115 @@
+package com.example.account.service;
+
+import com.example.account.dto.BalanceHoldDto;
+import com.example.account.exception.AccountException;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 승인 만료 타이머
+ * 승인마다 스케줄 작업을 만들지 않고 해시 타이머 휠(HashedWheelTimer) 하나에 만료 시각을 건다.
+ * 등록과 취소는 O(1) 이고, 휠 스레드는 틱마다 만료된 승인 번호만 꺼내 만료 처리 스레드로 넘긴다.
+ * 계좌 락을 잡지 못하면 retry-delay 뒤에 다시 건다.
+ * 휠은 메모리에만 있으므로 재시작 전이나 다른 노드에서 승인한 건은 sweep 이 주기적으로 DB 에서 찾아 만료한다.
+ */
+@Slf4j
+@Component
+public class BalanceHoldExpiryTimer {
+
+    private final BalanceHoldService balanceHoldService;
+    private final LockService lockService;
+    private final Timer wheel;
+    private final ExecutorService expirer;
+    private final long retryDelayMillis;
+    private final int sweepBatchSize;
+
+    @Autowired
+    public BalanceHoldExpiryTimer(BalanceHoldService balanceHoldService,
+                                  LockService lockService,
+                                  @Value("${balance-hold.wheel.tick}") Duration tick,
+                                  @Value("${balance-hold.wheel.ticks-per-wheel}") int ticksPerWheel,
+                                  @Value("${balance-hold.retry-delay}") Duration retryDelay,
+                                  @Value("${balance-hold.sweep-batch-size}") int sweepBatchSize) {
+        this(balanceHoldService, lockService,
+                new HashedWheelTimer(new CustomizableThreadFactory("hold-expiry-wheel-"),
+                        tick.toMillis(), TimeUnit.MILLISECONDS, ticksPerWheel),
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("hold-expiry-")),
+                retryDelay.toMillis(), sweepBatchSize);
+    }
+
+    BalanceHoldExpiryTimer(BalanceHoldService balanceHoldService, LockService lockService,
+                           Timer wheel, ExecutorService expirer,
+                           long retryDelayMillis, int sweepBatchSize) {
+        this.balanceHoldService = balanceHoldService;
+        this.lockService = lockService;
+        this.wheel = wheel;
+        this.expirer = expirer;
+        this.retryDelayMillis = retryDelayMillis;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 커밋된 승인의 만료 시각에 만료 처리를 건다.
+     */
+    public void schedule(BalanceHoldDto hold) {
+        long delay = Math.max(0L,
+                Duration.between(LocalDateTime.now(), hold.getExpiresAt()).toMillis());
+        schedule(hold.getHoldId(), hold.getAccountNumber(), delay);
+    }
+
+    private void schedule(String holdId, String accountNumber, long delayMillis) {
+        wheel.newTimeout(timeout -> {
+            try {
+                expirer.execute(() -> expire(holdId, accountNumber));
+            } catch (RejectedExecutionException e) {
+                log.debug("Hold expiry rejected on shutdown : {}", holdId);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 계좌 락을 잡고 승인을 만료한다.
+     */
+    void expire(String holdId, String accountNumber) {
+        try {
+            lockService.lock(accountNumber);
+        } catch (AccountException e) {
+            schedule(holdId, accountNumber, retryDelayMillis);
+            return;
+        }
+
+        try {
+            balanceHoldService.expire(holdId);
+        } catch (Exception e) {
+            log.error("Failed to expire hold : {}", holdId, e);
+        } finally {
+            lockService.unlock(accountNumber);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${balance-hold.sweep-interval}")
+    public void sweep() {
+        for (BalanceHoldDto hold : balanceHoldService.findExpiredHolds(sweepBatchSize))
+            expire(hold.getHoldId(), hold.getAccountNumber());
+    }
+
+    @PreDestroy
+    public void close() {
+        wheel.stop();
+        expirer.shutdown();
+    }
+}
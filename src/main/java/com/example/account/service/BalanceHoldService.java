@@ -0,0 +1,163 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.BalanceHold;
+import com.example.account.dto.BalanceHoldDto;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.BalanceHoldRepository;
+import com.example.account.type.HoldStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.example.account.type.ErrorCode.*;
+
+/**
+ * 두 단계 잔액 사용 (승인 -> 매입/취소)
+ * 승인은 사용할 수 있는 잔액에서 금액을 Account.heldBalance 로 묶어 두기만 하고,
+ * 매입은 묶어 둔 금액을 차감해 잔액 사용 거래로 기록하며, 취소와 만료는 다시 풀어 준다.
+ * 각 단계는 계좌 한 행과 승인 한 행만 바꾸므로 계좌 락은 단계마다 짧게만 잡고,
+ * 승인과 매입 사이(외부 승인 응답 대기 등)에는 잡지 않는다.
+ * 승인 상태는 AUTHORIZED 일 때만 바꾸는 조건부 갱신으로 바꾸므로 매입, 취소, 만료 중 하나만 성공한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class BalanceHoldService {
+
+    private final BalanceHoldRepository balanceHoldRepository;
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final TransactionService transactionService;
+    private final BalanceCache balanceCache;
+    private final Duration expireAfter;
+
+    public BalanceHoldService(BalanceHoldRepository balanceHoldRepository,
+                              AccountRepository accountRepository,
+                              AccountUserRepository accountUserRepository,
+                              TransactionService transactionService,
+                              BalanceCache balanceCache,
+                              @Value("${balance-hold.expire-after}") Duration expireAfter) {
+        this.balanceHoldRepository = balanceHoldRepository;
+        this.accountRepository = accountRepository;
+        this.accountUserRepository = accountUserRepository;
+        this.transactionService = transactionService;
+        this.balanceCache = balanceCache;
+        this.expireAfter = expireAfter;
+    }
+
+    /**
+     * 잔액 사용과 같은 규칙으로 검증한 뒤 amount 를 expire-after 동안 묶어 둔다.
+     * @throws AccountException USER_NOT_FOUND, ACCOUNT_NOT_FOUND, ACCOUNT_OWNER_UN_MATCH,
+     * ACCOUNT_ALREADY_UNREGISTERED, AMOUNT_EXCEED_BALANCE, INVALID_REQUEST (잔액을 나눈 계좌)
+     */
+    public BalanceHoldDto authorize(Long userId, String accountNumber, Long amount) {
+        AccountUser user = accountUserRepository.findById(userId)
+                .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+        balanceCache.validateUseBalance(accountNumber, user.getId(), amount);
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        account.validateUseBalance(user.getId(), amount);
+        account.holdBalance(amount);
+        balanceCache.updateAfterCommit(account);
+
+        return BalanceHoldDto.fromEntity(balanceHoldRepository.save(
+                BalanceHold.authorize(account, amount, LocalDateTime.now().plus(expireAfter))));
+    }
+
+    /**
+     * 묶어 둔 금액을 차감하고 잔액 사용 거래로 기록한다.
+     * @throws AccountException HOLD_NOT_FOUND, ACCOUNT_NOT_FOUND, TRANSACTION_ACCOUNT_UN_MATCH,
+     * TRANSACTION_AMOUNT_UN_MATCH, HOLD_ALREADY_FINISHED, HOLD_EXPIRED
+     */
+    public TransactionDto capture(String holdId, String accountNumber, Long amount) {
+        BalanceHold hold = getHoldOrElseThrow(holdId);
+        Account account = getAccountOrElseThrow(accountNumber);
+        LocalDateTime now = LocalDateTime.now();
+
+        hold.validateFinish(account);
+        if (!hold.getAmount().equals(amount))
+            throw new AccountException(TRANSACTION_AMOUNT_UN_MATCH);
+        if (hold.isExpired(now))
+            throw new AccountException(HOLD_EXPIRED);
+
+        finish(hold, HoldStatus.CAPTURED, now);
+        return transactionService.captureHeldBalance(account, amount);
+    }
+
+    /**
+     * 묶어 둔 금액을 다시 사용할 수 있는 잔액으로 돌린다.
+     * @throws AccountException HOLD_NOT_FOUND, ACCOUNT_NOT_FOUND, TRANSACTION_ACCOUNT_UN_MATCH,
+     * HOLD_ALREADY_FINISHED
+     */
+    public BalanceHoldDto voidHold(String holdId, String accountNumber) {
+        BalanceHold hold = getHoldOrElseThrow(holdId);
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        hold.validateFinish(account);
+
+        finish(hold, HoldStatus.VOIDED, LocalDateTime.now());
+        release(account, hold.getAmount());
+        return BalanceHoldDto.fromEntity(hold, HoldStatus.VOIDED);
+    }
+
+    /**
+     * 만료 시각이 지난 승인을 풀어 준다. 호출자는 계좌 락을 잡고 호출한다.
+     * @return 이미 끝났거나 없는 승인이면 false
+     */
+    public boolean expire(String holdId) {
+        BalanceHold hold = balanceHoldRepository.findByHoldId(holdId).orElse(null);
+        if (hold == null || hold.getHoldStatus() != HoldStatus.AUTHORIZED)
+            return false;
+        if (balanceHoldRepository.updateHoldStatus(hold.getId(), HoldStatus.AUTHORIZED,
+                HoldStatus.EXPIRED, LocalDateTime.now()) == 0)
+            return false;
+
+        release(hold.getAccount(), hold.getAmount());
+        log.debug("Hold expired : {}", holdId);
+        return true;
+    }
+
+    /**
+     * 만료 시각이 지났는데 아직 AUTHORIZED 인 승인을 만료 시각 순으로 limit 건 조회한다.
+     */
+    public List<BalanceHoldDto> findExpiredHolds(int limit) {
+        return balanceHoldRepository.findExpired(HoldStatus.AUTHORIZED, LocalDateTime.now(),
+                        PageRequest.of(0, limit))
+                .stream()
+                .map(BalanceHoldDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    private void finish(BalanceHold hold, HoldStatus holdStatus, LocalDateTime now) {
+        if (balanceHoldRepository.updateHoldStatus(hold.getId(), HoldStatus.AUTHORIZED,
+                holdStatus, now) == 0)
+            throw new AccountException(HOLD_ALREADY_FINISHED);
+    }
+
+    private void release(Account account, Long amount) {
+        account.releaseHeldBalance(amount);
+        balanceCache.updateAfterCommit(account);
+    }
+
+    private BalanceHold getHoldOrElseThrow(String holdId) {
+        return balanceHoldRepository.findByHoldId(holdId)
+                .orElseThrow(() -> new AccountException(HOLD_NOT_FOUND));
+    }
+
+    private Account getAccountOrElseThrow(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
+}
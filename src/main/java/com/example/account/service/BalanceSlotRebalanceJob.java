@@ -0,0 +1,31 @@
+package com.example.account.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotRebalanceJob {
+
+    private final BalanceSlotService balanceSlotService;
+    private final BalanceSlotRegistry balanceSlotRegistry;
+
+    @Value("${balance-slot.rebalance-threshold}")
+    private double threshold;
+
+    @Scheduled(fixedDelayString = "${balance-slot.rebalance-interval}")
+    public void run() {
+        for (Long accountId : balanceSlotRegistry.getSplitAccounts().values()) {
+            try {
+                if (balanceSlotService.needsRebalance(accountId, threshold))
+                    balanceSlotService.rebalance(accountId, threshold);
+            } catch (RuntimeException e) {
+                log.warn("Balance slot rebalance failed : accountId={}", accountId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잔액을 나눈 계좌 번호 목록
+ * LockAopAspect 는 여기 등록된 계좌의 계좌 락을 건너뛰고 슬롯 행 잠금만으로 동시 사용을 처리한다.
+ * 등록은 나누기가 커밋된 뒤에만 하므로, 등록되지 않은 계좌가 계좌 락을 잡는 것은 항상 안전하다.
+ * 다른 노드에서 나눈 계좌는 주기적으로 DB 에서 다시 읽어 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotRegistry {
+
+    private final AccountRepository accountRepository;
+
+    private final Map<String, Long> splitAccounts = new ConcurrentHashMap<>();
+
+    public boolean isSplit(String accountNumber) {
+        return splitAccounts.containsKey(accountNumber);
+    }
+
+    public void register(String accountNumber, Long accountId) {
+        splitAccounts.put(accountNumber, accountId);
+    }
+
+    public Map<String, Long> getSplitAccounts() {
+        return splitAccounts;
+    }
+
+    @Scheduled(fixedDelayString = "${balance-slot.refresh-interval}")
+    public void refresh() {
+        for (Account account : accountRepository.findByBalanceSlotCountGreaterThan(1))
+            splitAccounts.putIfAbsent(account.getAccountNumber(), account.getId());
+    }
+}
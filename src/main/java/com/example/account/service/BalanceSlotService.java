@@ -0,0 +1,174 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountBalanceSlot;
+import com.example.account.dto.AccountSlotBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountBalanceSlotRepository;
+import com.example.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 잔액을 나눈 계좌(Account.isBalanceSplit)의 슬롯 잔액 처리
+ * 사용은 임의의 슬롯부터 잔액이 충분한 슬롯 하나를 조건부 UPDATE 로 차감하므로
+ * 같은 계좌의 요청도 서로 다른 슬롯을 고르면 동시에 처리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSlotService {
+
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final BalanceSlotRegistry balanceSlotRegistry;
+
+    /**
+     * 나눈 상태로 바뀐 계좌의 잔액을 슬롯에 고르게 나눠 담는다.
+     * 커밋된 뒤에 BalanceSlotRegistry 에 등록해 이후 요청이 계좌 락 없이 처리되게 한다.
+     */
+    @Transactional
+    public void createSlots(Account account, long balance) {
+        int slotCount = account.getBalanceSlotCount();
+        List<AccountBalanceSlot> slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(AccountBalanceSlot.builder()
+                    .accountId(account.getId())
+                    .slotIndex(i)
+                    .balance(evenShare(balance, slotCount, i))
+                    .build());
+        }
+        accountBalanceSlotRepository.saveAll(slots);
+
+        String accountNumber = account.getAccountNumber();
+        Long accountId = account.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            balanceSlotRegistry.register(accountNumber, accountId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                balanceSlotRegistry.register(accountNumber, accountId);
+            }
+        });
+    }
+
+    /**
+     * 잔액이 충분한 슬롯 하나에서 차감한다.
+     * 어느 슬롯에도 혼자 감당할 잔액이 없으면 모든 슬롯을 잠그고 여러 슬롯에서 나눠 차감한다.
+     * @return 차감한 슬롯 번호, 여러 슬롯에서 나눠 차감했으면 0 (이때는 모든 슬롯을 잠근 상태)
+     * @throws AccountException AMOUNT_EXCEED_BALANCE
+     */
+    @Transactional
+    public int debit(Account account, Long amount) {
+        int slotCount = account.getBalanceSlotCount();
+        int start = ThreadLocalRandom.current().nextInt(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int slotIndex = (start + i) % slotCount;
+            if (accountBalanceSlotRepository.debit(account.getId(), slotIndex, amount) > 0)
+                return slotIndex;
+        }
+
+        List<AccountBalanceSlot> slots = accountBalanceSlotRepository.findForUpdate(account.getId());
+        long total = slots.stream().mapToLong(AccountBalanceSlot::getBalance).sum();
+        if (total < amount)
+            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+
+        long remaining = amount;
+        for (AccountBalanceSlot slot : slots) {
+            long taken = Math.min(slot.getBalance(), remaining);
+            slot.withdraw(taken);
+            remaining -= taken;
+            if (remaining == 0)
+                break;
+        }
+        return 0;
+    }
+
+    /**
+     * @return 더한 슬롯 번호
+     */
+    @Transactional
+    public int credit(Account account, Long amount) {
+        if (amount < 0)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        int slotIndex = ThreadLocalRandom.current().nextInt(account.getBalanceSlotCount());
+        accountBalanceSlotRepository.credit(account.getId(), slotIndex, amount);
+        return slotIndex;
+    }
+
+    /**
+     * 나눈 계좌는 슬롯 잔액의 합, 그 외 계좌는 balance 를 반환한다.
+     */
+    public Long totalBalance(Account account) {
+        if (!account.isBalanceSplit())
+            return account.getBalance();
+        return accountBalanceSlotRepository.sumBalance(account.getId());
+    }
+
+    /**
+     * @return 나눈 계좌의 id 별 슬롯 잔액 합 (나누지 않은 계좌는 포함하지 않는다)
+     */
+    public Map<Long, Long> totalBalances(List<Account> accounts) {
+        List<Long> splitIds = accounts.stream()
+                .filter(Account::isBalanceSplit)
+                .map(Account::getId)
+                .collect(Collectors.toList());
+        if (splitIds.isEmpty())
+            return Collections.emptyMap();
+
+        return accountBalanceSlotRepository.sumBalanceByAccountIds(splitIds)
+                .stream()
+                .collect(Collectors.toMap(AccountSlotBalance::getAccountId,
+                        AccountSlotBalance::getBalance));
+    }
+
+    /**
+     * 잠그지 않고 슬롯 잔액을 읽어 다시 나눌 필요가 있는지 본다.
+     */
+    public boolean needsRebalance(Long accountId, double threshold) {
+        return isSkewed(accountBalanceSlotRepository.findByAccountIdOrderBySlotIndex(accountId),
+                threshold);
+    }
+
+    /**
+     * 가장 적은 슬롯의 잔액이 평균의 threshold 배보다 작으면 모든 슬롯을 잠그고 고르게 다시 나눈다.
+     * 한 슬롯에 요청이 몰려 슬롯 하나로 처리할 수 있는 사용이 줄어드는 것을 막는다.
+     * @return 다시 나눴으면 true
+     */
+    @Transactional
+    public boolean rebalance(Long accountId, double threshold) {
+        List<AccountBalanceSlot> slots = accountBalanceSlotRepository.findForUpdate(accountId);
+        if (!isSkewed(slots, threshold))
+            return false;
+
+        long total = slots.stream().mapToLong(AccountBalanceSlot::getBalance).sum();
+        for (int i = 0; i < slots.size(); i++)
+            slots.get(i).changeBalance(evenShare(total, slots.size(), i));
+        log.debug("Rebalanced balance slots : accountId={}, total={}", accountId, total);
+        return true;
+    }
+
+    private static boolean isSkewed(List<AccountBalanceSlot> slots, double threshold) {
+        if (slots.size() < 2)
+            return false;
+        long total = slots.stream().mapToLong(AccountBalanceSlot::getBalance).sum();
+        long min = slots.stream().mapToLong(AccountBalanceSlot::getBalance).min().orElse(0L);
+        return min < (double) total / slots.size() * threshold;
+    }
+
+    private static long evenShare(long total, int slotCount, int slotIndex) {
+        return total / slotCount + (slotIndex < total % slotCount ? 1 : 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.account.service;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 잔액 사용
+ * 요청을 계좌 번호별로 묶어 계좌마다 락을 한 번만 잡고 한 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTransactionService {
+
+    private final LockService lockService;
+    private final TransactionService transactionService;
+
+    /**
+     * @return 요청과 같은 순서의 건별 결과, 계좌 락 획득이나 계좌 조회에 실패한 건은
+     * 거래 번호 없이 실패(F)로 반환한다.
+     */
+    public List<TransactionDto> useBalanceBatch(List<UseBalance.Request> requests) {
+        Map<String, List<Integer>> indexesByAccount = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++)
+            indexesByAccount
+                    .computeIfAbsent(requests.get(i).getAccountNumber(), k -> new ArrayList<>())
+                    .add(i);
+
+        TransactionDto[] results = new TransactionDto[requests.size()];
+        indexesByAccount.forEach((accountNumber, indexes) -> {
+            List<UseBalance.Request> accountRequests = indexes.stream()
+                    .map(requests::get)
+                    .collect(Collectors.toList());
+
+            List<TransactionDto> accountResults = useBalanceForAccount(accountNumber, accountRequests);
+            for (int i = 0; i < indexes.size(); i++)
+                results[indexes.get(i)] = accountResults.get(i);
+        });
+        return Arrays.asList(results);
+    }
+
+    private List<TransactionDto> useBalanceForAccount(String accountNumber,
+                                                      List<UseBalance.Request> requests) {
+        try {
+            lockService.lock(accountNumber);
+        } catch (AccountException e) {
+            log.info("Failed to lock account in batch : {}", e.getErrorCode());
+            return failedResults(requests);
+        }
+
+        try {
+            return transactionService.useBalanceGroup(accountNumber, requests);
+        } catch (AccountException e) {
+            log.info("Failed to use balance in batch : {}", e.getErrorCode());
+            return failedResults(requests);
+        } finally {
+            lockService.unlock(accountNumber);
+        }
+    }
+
+    private List<TransactionDto> failedResults(List<UseBalance.Request> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        return requests.stream()
+                .map(request -> TransactionDto.builder()
+                        .accountNumber(request.getAccountNumber())
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.F)
+                        .amount(request.getAmount())
+                        .transactedAt(now)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
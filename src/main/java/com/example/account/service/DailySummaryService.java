@@ -0,0 +1,94 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.DailyTransactionSummary;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.DailySummaryDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.DailyTransactionSummaryRepository;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.example.account.type.ErrorCode.INVALID_REQUEST;
+
+@Service
+@RequiredArgsConstructor
+public class DailySummaryService {
+
+    private static final long MAX_SUMMARY_DAYS = 366;
+
+    private final DailyTransactionSummaryRepository dailyTransactionSummaryRepository;
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+
+    /**
+     * 저장된 거래를 일일 집계에 반영한다.
+     * 거래를 저장하는 트랜잭션 안에서 호출되며, 실패(F) 거래는 집계하지 않는다.
+     * 집계 행은 (계좌, 일자, 거래 종류, 슬롯) 마다 하나다. 나누지 않은 계좌는 계좌 락으로,
+     * 나눈 계좌는 같은 트랜잭션이 잡고 있는 잔액 슬롯 행 잠금(Transaction.summarySlot)으로
+     * 같은 집계 행을 쓰는 거래가 직렬화되므로, 당일 첫 거래의 행 생성이 경합하지 않고
+     * 나눈 계좌의 집계 갱신도 슬롯 수만큼 나뉜다.
+     */
+    @Transactional
+    public void record(Transaction transaction) {
+        if (transaction.getTransactionResultType() != TransactionResultType.S)
+            return;
+
+        Account account = transaction.getAccount();
+        LocalDate summaryDate = transaction.getTransactedAt().toLocalDate();
+
+        int updated = dailyTransactionSummaryRepository.increment(account.getId(),
+                summaryDate, transaction.getTransactionType(), transaction.getSummarySlot(),
+                transaction.getAmount());
+        if (updated > 0)
+            return;
+
+        dailyTransactionSummaryRepository.save(DailyTransactionSummary.builder()
+                .accountId(account.getId())
+                .userId(account.getAccountUser().getId())
+                .summaryDate(summaryDate)
+                .transactionType(transaction.getTransactionType())
+                .slotIndex(transaction.getSummarySlot())
+                .totalAmount(transaction.getAmount())
+                .transactionCount(1L)
+                .build());
+    }
+
+    /**
+     * @throws AccountException ACCOUNT_NOT_FOUND, INVALID_REQUEST
+     */
+    public List<DailySummaryDto> getAccountSummaries(String accountNumber,
+                                                     LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        return dailyTransactionSummaryRepository.sumByAccountId(account.getId(), from, to);
+    }
+
+    /**
+     * 사용자의 모든 계좌 집계를 일자, 거래 종류별로 합산한다.
+     * @throws AccountException USER_NOT_FOUND, INVALID_REQUEST
+     */
+    public List<DailySummaryDto> getUserSummaries(Long userId, LocalDate from, LocalDate to) {
+        validatePeriod(from, to);
+        if (!accountUserRepository.existsById(userId))
+            throw new AccountException(ErrorCode.USER_NOT_FOUND);
+
+        return dailyTransactionSummaryRepository.sumByUserId(userId, from, to);
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_SUMMARY_DAYS)
+            throw new AccountException(INVALID_REQUEST);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.account.service;
+
+import com.example.account.aop.AccountLockId;
+import com.example.account.dto.StoredResponse;
+import com.example.account.exception.AccountException;
+import com.example.account.exception.ErrorResponse;
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 최초 결과(성공 응답 또는 ErrorResponse)를 저장하고,
+ * 같은 키로 재시도된 요청에는 계좌 락이나 DB 를 거치지 않고 저장된 응답을 그대로 돌려준다.
+ * 같은 키라도 요청 본문(userId 포함)이 최초 요청과 다르면 IDEMPOTENCY_KEY_REUSED 로 거절한다.
+ * 요청 한도(RateLimitAspect) 다음, 계좌 락보다 먼저 실행된다.
+ * 비동기 컨트롤러(web.mode=async)처럼 CompletableFuture 를 반환하는 메서드는
+ * future 가 끝날 때 결과를 저장하고, 재시도에는 저장된 응답을 완료된 future 로 돌려준다.
+ */
+@Aspect
+@Component
+@Slf4j
+@Order(1)
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY_PREFIX = "IDEM:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl}")
+    private Duration ttl;
+
+    @Value("${idempotency.pending-ttl}")
+    private Duration pendingTtl;
+
+    @Around("@annotation(com.example.account.aop.Idempotent) && args(request)")
+    public Object aroundMethod(ProceedingJoinPoint pjp,
+                               AccountLockId request)
+            throws Throwable {
+        HttpServletRequest httpRequest = currentRequest();
+        String idempotencyKey = httpRequest == null
+                ? null
+                : httpRequest.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank())
+            return pjp.proceed();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+
+        // 계좌는 한 사용자에게만 속하므로 계좌 번호로 범위를 나누면 사용자 간 키 충돌이 없다.
+        String requestUri = httpRequest.getRequestURI();
+        String key = KEY_PREFIX + requestUri + ":"
+                + request.getAccountNumber() + ":" + idempotencyKey;
+
+        String fingerprint = fingerprint(request);
+        Optional<StoredResponse> stored = idempotencyStore.reserve(key,
+                StoredResponse.pending(fingerprint), pendingTtl);
+        if (stored.isPresent()) {
+            if (!stored.get().matches(fingerprint))
+                throw new AccountException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            if (stored.get().isPending())
+                throw new AccountException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            log.debug("Replay stored response for idempotency key : {}", idempotencyKey);
+            ResponseEntity<String> replayed = replay(stored.get());
+            return returnsFuture(pjp)
+                    ? CompletableFuture.completedFuture(replayed)
+                    : replayed;
+        }
+
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            completeFailure(key, fingerprint, requestUri, t);
+            throw t;
+        }
+
+        if (result instanceof CompletableFuture) {
+            // 요청 스레드는 이미 반환되었으므로 저장 실패는 응답에 섞지 않고 키만 풀어 재시도를 허용한다.
+            return ((CompletableFuture<?>) result).whenComplete((value, e) -> {
+                try {
+                    if (e == null)
+                        completeSuccess(key, fingerprint, value);
+                    else
+                        completeFailure(key, fingerprint, requestUri, unwrap(e));
+                } catch (Exception storeError) {
+                    log.error("Failed to store idempotent response", storeError);
+                    idempotencyStore.release(key);
+                }
+            });
+        }
+        completeSuccess(key, fingerprint, result);
+        return result;
+    }
+
+    private void completeSuccess(String key, String fingerprint, Object result)
+            throws JsonProcessingException {
+        if (result instanceof ResponseEntity) {
+            ResponseEntity<?> response = (ResponseEntity<?>) result;
+            idempotencyStore.complete(key, new StoredResponse(
+                    response.getStatusCodeValue(), fingerprint,
+                    objectMapper.writeValueAsString(response.getBody())), ttl);
+        } else {
+            idempotencyStore.release(key);
+        }
+    }
+
+    private void completeFailure(String key, String fingerprint,
+                                 String requestUri, Throwable t)
+            throws JsonProcessingException {
+        if (!(t instanceof AccountException) || isTransient((AccountException) t)) {
+            // 락 경합 등 일시적인 실패는 저장하지 않고 재시도가 다시 처리될 수 있게 한다.
+            idempotencyStore.release(key);
+            return;
+        }
+        AccountException e = (AccountException) t;
+        idempotencyStore.complete(key, new StoredResponse(
+                e.getErrorCode().getHttpStatus().value(), fingerprint,
+                objectMapper.writeValueAsString(ErrorResponse
+                        .createErrorResponse(e, requestUri))), ttl);
+    }
+
+    private static boolean isTransient(AccountException e) {
+        return e.getErrorCode() == ErrorCode.ACCOUNT_TRANSACTION_LOCK
+                || e.getErrorCode() == ErrorCode.SERVER_BUSY;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null
+                ? e.getCause()
+                : e;
+    }
+
+    private static boolean returnsFuture(ProceedingJoinPoint pjp) {
+        return pjp.getSignature() instanceof MethodSignature
+                && CompletableFuture.class.isAssignableFrom(
+                        ((MethodSignature) pjp.getSignature()).getReturnType());
+    }
+
+    /**
+     * 역직렬화된 요청 객체(userId 가 있는 요청은 userId 포함)를 JSON 으로 다시 써서 해시한다.
+     * 필드 순서나 공백만 다른 본문은 같은 요청으로 본다.
+     */
+    private String fingerprint(AccountLockId request) throws JsonProcessingException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResponseEntity<String> replay(StoredResponse stored) {
+        return ResponseEntity.status(stored.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.getBody());
+    }
+
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes)
+            return ((ServletRequestAttributes) attributes).getRequest();
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.account.service;
+
+import com.example.account.dto.StoredResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /**
+     * 키가 비어 있으면 처리 중 표시(pending)를 남기고 Optional.empty() 를 반환한다.
+     * 이미 키가 있으면 저장된 응답(처리 중 표시 포함)을 반환한다.
+     * 키를 남길 수 없으면 멱등 처리 없이 진행되지 않도록 예외를 던진다.
+     */
+    Optional<StoredResponse> reserve(String key, StoredResponse pending, Duration pendingTtl);
+
+    void complete(String key, StoredResponse response, Duration ttl);
+
+    void release(String key);
+}
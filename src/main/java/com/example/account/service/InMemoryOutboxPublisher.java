@@ -0,0 +1,35 @@
+package com.example.account.service;
+
+import com.example.account.dto.TransactionDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 프로세스 안에 발행된 거래를 쌓아 두는 발행기 (테스트, 로컬 확인용)
+ */
+@Service
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final ConcurrentLinkedQueue<TransactionDto> published = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(List<TransactionDto> transactions) {
+        published.addAll(transactions);
+    }
+
+    /**
+     * 지금까지 발행된 거래를 발행 순서대로 꺼낸다.
+     */
+    public List<TransactionDto> drain() {
+        List<TransactionDto> drained = new ArrayList<>();
+        TransactionDto transaction;
+        while ((transaction = published.poll()) != null)
+            drained.add(transaction);
+        return drained;
+    }
+}
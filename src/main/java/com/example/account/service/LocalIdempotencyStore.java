@@ -0,0 +1,84 @@
+package com.example.account.service;
+
+import com.example.account.dto.StoredResponse;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 멱등 응답 저장소
+ * max-entries 에 닿으면 만료된 키를 바로 정리하고, 그래도 가득 차 있으면
+ * 멱등 처리 없이 진행하지 않고 SERVER_BUSY 로 거절한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "local", matchIfMissing = true)
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public LocalIdempotencyStore(@Value("${idempotency.local.max-entries}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @throws AccountException SERVER_BUSY
+     */
+    @Override
+    public Optional<StoredResponse> reserve(String key, StoredResponse response,
+                                            Duration pendingTtl) {
+        long now = System.nanoTime();
+        Entry existing = entries.get(key);
+        if (existing == null && entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                log.warn("Idempotency store is full, reject keyed request");
+                throw new AccountException(ErrorCode.SERVER_BUSY);
+            }
+        }
+
+        Entry pending = new Entry(response, now + pendingTtl.toNanos());
+        Entry current = entries.compute(key,
+                (k, old) -> old == null || old.isExpired(now) ? pending : old);
+        return current == pending ? Optional.empty() : Optional.of(current.response);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Duration ttl) {
+        entries.put(key, new Entry(response, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.local.cleanup-interval}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private static class Entry {
+        private final StoredResponse response;
+        private final long expiresAt;
+
+        Entry(StoredResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
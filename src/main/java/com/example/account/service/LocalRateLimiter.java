@@ -0,0 +1,77 @@
+package com.example.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 단일 노드용 요청 한도
+ * 키마다 다음 요청이 허용되는 이론상 시각(TAT) 하나만 AtomicLong 으로 두고 CAS 로 갱신한다. (GCRA)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public LocalRateLimiter(@Value("${rate-limit.local.max-keys}") int maxKeys) {
+        this(maxKeys, System::nanoTime);
+    }
+
+    LocalRateLimiter(int maxKeys, LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long permitsPerSecond, int burst) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys)
+                evictExpired();
+            if (buckets.size() >= maxKeys) {
+                // 만료된 키를 지워도 가득 차 있으면 새 키는 한도를 알 수 없으므로 거절한다.
+                log.warn("Rate limit buckets are full, reject new key");
+                return false;
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        long tolerance = interval * burst;
+        while (true) {
+            long current = tat.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            if (next - now > tolerance)
+                return false;
+            if (tat.compareAndSet(current, next))
+                return true;
+        }
+    }
+
+    /**
+     * TAT 가 지난 키는 버킷이 가득 찬 상태와 같으므로 지워도 결과가 달라지지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.local.cleanup-interval}")
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
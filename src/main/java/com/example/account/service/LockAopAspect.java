@@ -1,6 +1,7 @@
 package com.example.account.service;
 
 import com.example.account.aop.AccountLockId;
+import com.example.account.aop.AccountLockIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -8,6 +9,9 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Aspect
 @Component
 @Slf4j
@@ -15,11 +19,19 @@ import org.springframework.stereotype.Component;
 public class LockAopAspect {
 
     private final LockService lockService;
+    private final BalanceSlotRegistry balanceSlotRegistry;
 
     @Around("@annotation(com.example.account.aop.AccountLock) && args(request)")
     public Object aroundMethod(ProceedingJoinPoint pjp,
                                AccountLockId request)
             throws Throwable {
+        if (request instanceof AccountLockIds)
+            return aroundAccounts(pjp, (AccountLockIds) request);
+
+        // 잔액을 나눈 계좌는 슬롯 행 잠금으로 처리하므로 계좌 락을 잡지 않는다.
+        if (balanceSlotRegistry.isSplit(request.getAccountNumber()))
+            return pjp.proceed();
+
         // lock 획득 시도
         try{
             // before
@@ -32,5 +44,23 @@ public class LockAopAspect {
 
     }
 
+    /**
+     * 이체처럼 여러 계좌를 바꾸는 요청은 관련 계좌의 락을 한 번에 잡는다.
+     */
+    private Object aroundAccounts(ProceedingJoinPoint pjp, AccountLockIds request)
+            throws Throwable {
+        List<String> accountNumbers = request.getAccountNumbers().stream()
+                .distinct()
+                .filter(accountNumber -> !balanceSlotRegistry.isSplit(accountNumber))
+                .collect(Collectors.toList());
+        if (accountNumbers.isEmpty())
+            return pjp.proceed();
 
+        lockService.lockAll(accountNumbers);
+        try {
+            return pjp.proceed();
+        } finally {
+            lockService.unlockAll(accountNumbers);
+        }
+    }
 }
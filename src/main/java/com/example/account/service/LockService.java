@@ -8,6 +8,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -23,7 +24,7 @@ public class LockService {
         try {
             boolean isLock = lock.tryLock(1, 5, TimeUnit.SECONDS);
             if (!isLock) {
-                log.error("======Lock acquisition failed=====");
+                log.debug("======Lock acquisition failed=====");
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
             }
         } catch (AccountException e) {
@@ -40,6 +41,39 @@ public class LockService {
 
     }
 
+    /**
+     * 여러 계좌의 락을 Redisson MultiLock 으로 모두 잡거나 하나도 잡지 않는다.
+     * 계좌 번호 순으로 잡으므로 겹치는 계좌 묶음을 잡는 요청끼리 서로 기다리며 멈추지 않는다.
+     */
+    public void lockAll(Collection<String> accountNumbers) {
+        RLock lock = getMultiLock(accountNumbers);
+        log.debug("Trying lock for accountNumbers : {}", accountNumbers);
+        try {
+            boolean isLock = lock.tryLock(1, 5, TimeUnit.SECONDS);
+            if (!isLock) {
+                log.debug("======Lock acquisition failed=====");
+                throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+            }
+        } catch (AccountException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis lock failed", e);
+        }
+    }
+
+    public void unlockAll(Collection<String> accountNumbers) {
+        log.debug("Unlock for accountNumbers : {}", accountNumbers);
+        getMultiLock(accountNumbers).unlock();
+    }
+
+    private RLock getMultiLock(Collection<String> accountNumbers) {
+        return redissonClient.getMultiLock(accountNumbers.stream()
+                .distinct()
+                .sorted()
+                .map(accountNumber -> redissonClient.getLock(getLockKey(accountNumber)))
+                .toArray(RLock[]::new));
+    }
+
     private String getLockKey(String accountNumber) {
         return LOCK_PREFIX + accountNumber;
     }
@@ -0,0 +1,253 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.BalanceCacheEpoch;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.BalanceCacheEpochRepository;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메모리 매핑 파일에 둔 계좌 캐시 (balance-cache.enabled=true, web.mode=blocking/async)
+ * 계좌 번호는 INITIAL_ACCOUNT_NUMBER 부터 1 씩 증가하는 숫자이므로 (계좌 번호 - 첫 계좌 번호)를 슬롯 번호로 쓴다.
+ * 슬롯은 힙 밖(파일)에 있어 계좌 수와 관계없이 GC 대상이 아니며, 재시작해도 파일에 남는다.
+ * 파일을 열 때 헤더의 epoch 가 DB 의 BalanceCacheEpoch 와 다르면 (DB 를 새로 만들었거나,
+ * 마지막 기동 이전 시점으로 복원했으면) 처음부터 다시 채우고, 새 epoch 를 헤더와 DB 에 쓴다.
+ *
+ * 파일은 노드마다 따로 있어 다른 노드(또는 리액티브 앱)의 변경을 받지 못하므로, 다른 곳에서 바뀌어도
+ * 틀려지지 않는 소유자와 해지 여부(해지는 되돌릴 수 없다)만 두고 잔액은 캐시하지 않는다.
+ *
+ * 파일 = 헤더 (HEADER_SIZE : magic, capacity, epoch) + 슬롯 (SLOT_SIZE * capacity)
+ * 슬롯 (native order, 16 bytes)
+ * - state : version << 8 | status (0 : 없음, 1 : IN_USE, 2 : UNREGISTERED)
+ * - userId : 8
+ *
+ * 갱신은 state 를 CAS 로 홀수 버전으로 바꿔 선점한 뒤 값을 쓰고 다음 짝수 버전으로 내려놓는다. (seqlock)
+ * 읽기는 락 없이 state 를 앞뒤로 읽어 버전이 홀수이거나 바뀌었으면 캐시에 없는 것으로 본다.
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression(MappedBalanceCache.ENABLED)
+public class MappedBalanceCache implements BalanceCache {
+
+    // 잔액을 DB 밖에서 반영하는 engine, redis 모드에서는 쓰지 않는다.
+    static final String ENABLED = "${balance-cache.enabled:false} and " +
+            "('${web.mode:blocking}' == 'blocking' or '${web.mode:blocking}' == 'async')";
+
+    static final int SLOT_SIZE = 16;
+    private static final int HEADER_SIZE = 4096;
+    private static final long MAGIC = 0x42414c43_00000003L;
+    // 매핑 하나는 2GB 를 넘을 수 없으므로 슬롯을 구간으로 나눠 매핑한다.
+    private static final int SLOTS_PER_SEGMENT = 1 << 22;
+    private static final long FIRST_ACCOUNT_NUMBER =
+            Long.parseLong(AccountService.INITIAL_ACCOUNT_NUMBER);
+
+    private static final int STATE = 0;
+    private static final int USER_ID = 8;
+    private static final long STATUS_MASK = 0xFF;
+    private static final long VERSION_ONE = 1L << 8;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final long capacity;
+    private final long epoch;
+
+    @Autowired
+    public MappedBalanceCache(@Value("${balance-cache.path}") String path,
+                              @Value("${balance-cache.capacity}") long capacity,
+                              BalanceCacheEpochRepository balanceCacheEpochRepository) {
+        this(Paths.get(path), capacity,
+                balanceCacheEpochRepository.findFirstByOrderByIdAsc()
+                        .map(BalanceCacheEpoch::getEpoch)
+                        .orElse(0L),
+                ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+
+        // 헤더를 먼저 쓰므로 여기까지 오지 못하고 종료되면 다음 기동에서 epoch 가 달라 다시 채운다.
+        BalanceCacheEpoch stored = balanceCacheEpochRepository.findFirstByOrderByIdAsc()
+                .orElseGet(() -> BalanceCacheEpoch.builder().build());
+        stored.changeEpoch(epoch);
+        balanceCacheEpochRepository.save(stored);
+    }
+
+    /**
+     * @param storedEpoch DB 에 저장된 epoch, 없으면 0
+     * @param epoch 이번에 헤더에 쓸 새 epoch
+     */
+    MappedBalanceCache(Path path, long capacity, long storedEpoch, long epoch) {
+        this.capacity = capacity;
+        this.epoch = epoch;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null)
+                Files.createDirectories(parent);
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            boolean reuse = header.getLong(0) == MAGIC && header.getLong(8) == capacity
+                    && storedEpoch != 0 && header.getLong(16) == storedEpoch;
+            if (!reuse) {
+                // 형식이나 용량, DB 가 다른 파일은 처음부터 다시 채운다.
+                log.info("Reset balance cache file : {}", path);
+                channel.truncate(HEADER_SIZE);
+            }
+
+            int segmentCount = (int) ((capacity + SLOTS_PER_SEGMENT - 1) / SLOTS_PER_SEGMENT);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long slots = Math.min(SLOTS_PER_SEGMENT, capacity - (long) i * SLOTS_PER_SEGMENT);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + (long) i * SLOTS_PER_SEGMENT * SLOT_SIZE,
+                        slots * SLOT_SIZE);
+            }
+
+            if (!reuse) {
+                header.putLong(0, MAGIC);
+                header.putLong(8, capacity);
+            }
+            header.putLong(16, epoch);
+            header.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void validateUseBalance(String accountNumber, Long userId, Long amount) {
+        long slot = slotOf(accountNumber);
+        if (slot < 0)
+            return;
+        MappedByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+
+        long state = (long) LONGS.getAcquire(segment, offset + STATE);
+        if (isWriting(state) || status(state) == 0)
+            return;
+        long owner = (long) LONGS.getAcquire(segment, offset + USER_ID);
+        if ((long) LONGS.getAcquire(segment, offset + STATE) != state)
+            return;
+
+        if (userId != owner)
+            throw new AccountException(ErrorCode.ACCOUNT_OWNER_UN_MATCH);
+        if (status(state) != statusOf(AccountStatus.IN_USE))
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+    }
+
+    @Override
+    public void updateAfterCommit(Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(account);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(account);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(String accountNumber) {
+        long slot = slotOf(accountNumber);
+        if (slot >= 0)
+            write(slot, 0, 0L);
+    }
+
+    /**
+     * 커밋된 계좌 상태로 슬롯을 덮어쓴다.
+     */
+    void update(Account account) {
+        long slot = slotOf(account.getAccountNumber());
+        if (slot < 0)
+            return;
+        write(slot, statusOf(account.getAccountStatus()), account.getAccountUser().getId());
+    }
+
+    private void write(long slot, int status, long userId) {
+        MappedByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+
+        long state;
+        long claimed;
+        do {
+            state = (long) LONGS.getVolatile(segment, offset + STATE);
+            // 갱신 도중 종료되어 홀수로 남은 버전은 다음 홀수 버전으로 넘겨 선점한다.
+            claimed = ((state | VERSION_ONE) + (isWriting(state) ? 2 * VERSION_ONE : 0))
+                    & ~STATUS_MASK;
+        } while (!LONGS.compareAndSet(segment, offset + STATE, state, claimed));
+
+        LONGS.setRelease(segment, offset + USER_ID, userId);
+        LONGS.setRelease(segment, offset + STATE, (claimed + VERSION_ONE) | status);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        for (MappedByteBuffer segment : segments)
+            segment.force();
+        channel.close();
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return 슬롯 번호, 숫자가 아니거나 용량 밖의 계좌 번호면 -1
+     */
+    private long slotOf(String accountNumber) {
+        long number;
+        try {
+            number = Long.parseLong(accountNumber);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        long slot = number - FIRST_ACCOUNT_NUMBER;
+        return slot < 0 || slot >= capacity ? -1 : slot;
+    }
+
+    private MappedByteBuffer segment(long slot) {
+        return segments[(int) (slot / SLOTS_PER_SEGMENT)];
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot % SLOTS_PER_SEGMENT) * SLOT_SIZE;
+    }
+
+    private static boolean isWriting(long state) {
+        return (state & VERSION_ONE) != 0;
+    }
+
+    private static int status(long state) {
+        return (int) (state & STATUS_MASK);
+    }
+
+    private static int statusOf(AccountStatus accountStatus) {
+        return accountStatus.ordinal() + 1;
+    }
+}
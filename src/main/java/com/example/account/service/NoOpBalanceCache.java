@@ -0,0 +1,25 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캐시를 쓰지 않는 기본 구현, 모든 검사는 DB 에서 읽은 계좌로 한다.
+ */
+@Service
+@ConditionalOnExpression("!(" + MappedBalanceCache.ENABLED + ")")
+public class NoOpBalanceCache implements BalanceCache {
+
+    @Override
+    public void validateUseBalance(String accountNumber, Long userId, Long amount) {
+    }
+
+    @Override
+    public void updateAfterCommit(Account account) {
+    }
+
+    @Override
+    public void invalidate(String accountNumber) {
+    }
+}
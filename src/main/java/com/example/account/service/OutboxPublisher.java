@@ -0,0 +1,14 @@
+package com.example.account.service;
+
+import com.example.account.dto.TransactionDto;
+
+import java.util.List;
+
+public interface OutboxPublisher {
+
+    /**
+     * 거래를 주어진 순서대로 발행한다. 예외 없이 반환하면 모두 발행된 것으로 본다.
+     * 발행 뒤 outbox 삭제 전에 실패하면 같은 거래가 다시 발행될 수 있으므로 소비자는 거래 번호로 중복을 거른다.
+     */
+    void publish(List<TransactionDto> transactions);
+}
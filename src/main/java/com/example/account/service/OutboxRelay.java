@@ -0,0 +1,81 @@
+package com.example.account.service;
+
+import com.example.account.domain.TransactionOutbox;
+import com.example.account.repository.TransactionOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 에 쌓인 거래를 id 순서대로 묶어서 발행하고 지운다.
+ * 같은 계좌의 거래는 계좌 락 안에서 id 가 발급되므로 id 순서가 계좌별 처리 순서이며,
+ * 한 노드만 락을 잡고 발행하고 실패하면 그 묶음부터 다시 시작하므로 계좌별 순서가 유지된다.
+ * 락은 lease 없이 잡아 Redisson watchdog 이 발행하는 동안 연장하고, 묶음마다 락을 아직 가지고 있는지
+ * 확인해 연장에 실패한 노드가 다른 노드와 같은 구간을 발행하지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final String RELAY_LOCK = "OUTBOX:RELAY";
+
+    private final TransactionOutboxRepository transactionOutboxRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+
+    public OutboxRelay(TransactionOutboxRepository transactionOutboxRepository,
+                       OutboxPublisher outboxPublisher,
+                       RedissonClient redissonClient,
+                       @Value("${outbox.batch-size}") int batchSize) {
+        this.transactionOutboxRepository = transactionOutboxRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK);
+        if (!lock.tryLock())
+            return;
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize && lock.isHeldByCurrentThread());
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retry on next run", e);
+        } finally {
+            if (lock.isHeldByCurrentThread())
+                lock.unlock();
+        }
+    }
+
+    /**
+     * @return 발행한 거래 수
+     */
+    int relayBatch() {
+        List<TransactionOutbox> batch = transactionOutboxRepository
+                .findByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty())
+            return 0;
+
+        outboxPublisher.publish(batch.stream()
+                .map(TransactionOutbox::toTransactionDto)
+                .collect(Collectors.toList()));
+        transactionOutboxRepository.deleteAllByIdInBatch(batch.stream()
+                .map(TransactionOutbox::getId)
+                .collect(Collectors.toList()));
+        return batch.size();
+    }
+}
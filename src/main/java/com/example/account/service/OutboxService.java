@@ -0,0 +1,42 @@
+package com.example.account.service;
+
+import com.example.account.domain.Transaction;
+import com.example.account.domain.TransactionOutbox;
+import com.example.account.repository.TransactionOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class OutboxService {
+
+    private final TransactionOutboxRepository transactionOutboxRepository;
+    private final boolean enabled;
+
+    public OutboxService(TransactionOutboxRepository transactionOutboxRepository,
+                         @Value("${outbox.enabled}") boolean enabled) {
+        this.transactionOutboxRepository = transactionOutboxRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 저장된 거래를 발행 대기열(outbox)에 넣는다.
+     * 거래를 저장하는 트랜잭션 안에서 호출되므로 거래가 롤백되면 함께 롤백되고, 발행은 OutboxRelay 가 한다.
+     */
+    @Transactional
+    public void record(Transaction transaction) {
+        if (enabled)
+            transactionOutboxRepository.save(TransactionOutbox.from(transaction));
+    }
+
+    @Transactional
+    public void recordAll(List<Transaction> transactions) {
+        if (enabled)
+            transactionOutboxRepository.saveAll(transactions.stream()
+                    .map(TransactionOutbox::from)
+                    .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.account.service;
+
+import com.example.account.aop.AccountLockId;
+import com.example.account.aop.AccountUserId;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별, 계좌별 요청 한도를 넘은 요청을 멱등 저장소, 계좌 락, DB 를 거치기 전에 거절한다.
+ * 거절된 요청은 멱등 응답으로 저장되지 않으므로 같은 멱등키로 다시 시도할 수 있다.
+ * 잔액을 나눈 계좌는 동시 사용을 받으려고 나눈 것이므로 계좌별 한도를 적용하지 않는다.
+ */
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitAspect {
+
+    private static final String USER_KEY_PREFIX = "USER:";
+    private static final String ACCOUNT_KEY_PREFIX = "ACCOUNT:";
+
+    private final RateLimiter rateLimiter;
+    private final BalanceSlotRegistry balanceSlotRegistry;
+
+    @Value("${rate-limit.user.permits-per-second}")
+    private long userPermitsPerSecond;
+
+    @Value("${rate-limit.user.burst}")
+    private int userBurst;
+
+    @Value("${rate-limit.account.permits-per-second}")
+    private long accountPermitsPerSecond;
+
+    @Value("${rate-limit.account.burst}")
+    private int accountBurst;
+
+    @Around("@annotation(com.example.account.aop.RateLimited) && args(request)")
+    public Object aroundMethod(ProceedingJoinPoint pjp,
+                               AccountLockId request)
+            throws Throwable {
+        if (request instanceof AccountUserId) {
+            Long userId = ((AccountUserId) request).getUserId();
+            if (!rateLimiter.tryAcquire(USER_KEY_PREFIX + userId,
+                    userPermitsPerSecond, userBurst))
+                throw new AccountException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        if (!balanceSlotRegistry.isSplit(request.getAccountNumber())
+                && !rateLimiter.tryAcquire(ACCOUNT_KEY_PREFIX + request.getAccountNumber(),
+                accountPermitsPerSecond, accountBurst))
+            throw new AccountException(ErrorCode.TOO_MANY_REQUESTS);
+
+        return pjp.proceed();
+    }
+}
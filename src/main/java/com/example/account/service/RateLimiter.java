@@ -0,0 +1,10 @@
+package com.example.account.service;
+
+public interface RateLimiter {
+
+    /**
+     * 키별로 초당 permitsPerSecond 개의 요청을 허용하고, 최대 burst 개까지 몰아서 허용한다.
+     * 허용하면 한 개를 소비하고 true, 한도를 넘으면 아무것도 소비하지 않고 false 를 반환한다.
+     */
+    boolean tryAcquire(String key, long permitsPerSecond, int burst);
+}
@@ -0,0 +1,31 @@
+package com.example.account.service;
+
+import com.example.account.dto.ReconciliationReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reconciliation.enabled", havingValue = "true")
+public class ReconciliationJob {
+
+    private final ReconciliationService reconciliationService;
+
+    @Scheduled(cron = "${reconciliation.cron}")
+    public void run() {
+        log.info("Balance reconciliation started");
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        log.info("Balance reconciliation finished : accounts={}, transactions={}, " +
+                        "mismatches={}, failedPartitions={}, elapsed={}ms, throughput={} tx/s",
+                report.getAccountsChecked(), report.getTransactionsChecked(),
+                report.getMismatchCount(), report.getFailedPartitions(),
+                report.getElapsedMillis(), (long) report.getTransactionsPerSecond());
+        report.getMismatches()
+                .forEach(mismatch -> log.warn("Balance mismatch : {}", mismatch));
+    }
+}
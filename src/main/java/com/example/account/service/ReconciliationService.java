@@ -0,0 +1,116 @@
+package com.example.account.service;
+
+import com.example.account.dto.ReconciliationReport;
+import com.example.account.dto.ReconciliationReport.Mismatch;
+import com.example.account.repository.AccountRepository;
+import com.example.account.service.ReconciliationWorker.PartitionResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 계좌 잔액 대사
+ * 계좌 ID 를 partition-size 단위 구간으로 나누어 제한된 크기의 스레드 풀에서 병렬로 검증하고
+ * 구간별 결과를 합쳐 불일치 목록과 처리량을 보고한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private final AccountRepository accountRepository;
+    private final ReconciliationWorker reconciliationWorker;
+
+    @Value("${reconciliation.threads}")
+    private int threads;
+
+    @Value("${reconciliation.partition-size}")
+    private int partitionSize;
+
+    @Value("${reconciliation.max-mismatches}")
+    private int maxMismatches;
+
+    public ReconciliationReport reconcile() {
+        long startedAt = System.nanoTime();
+
+        Long minId = accountRepository.findMinId();
+        Long maxId = accountRepository.findMaxId();
+        if (minId == null || maxId == null)
+            return report(List.of(), 0, startedAt);
+
+        // 큐가 가득 차면 호출 스레드가 직접 구간을 처리하여 대기 작업 수를 제한한다.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                new CustomizableThreadFactory("reconciliation-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        List<Future<PartitionResult>> futures = new ArrayList<>();
+        try {
+            for (long fromId = minId; fromId <= maxId; fromId += partitionSize) {
+                long from = fromId;
+                long to = Math.min(fromId + partitionSize - 1, maxId);
+                futures.add(executor.submit(() ->
+                        reconciliationWorker.reconcile(from, to, maxMismatches)));
+            }
+
+            List<PartitionResult> results = new ArrayList<>(futures.size());
+            int failedPartitions = 0;
+            for (Future<PartitionResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    failedPartitions++;
+                    log.error("Reconciliation partition failed", e.getCause());
+                }
+            }
+            return report(results, failedPartitions, startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconciliation interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ReconciliationReport report(List<PartitionResult> results,
+                                        int failedPartitions, long startedAt) {
+        long accountsChecked = 0;
+        long transactionsChecked = 0;
+        long mismatchCount = 0;
+        List<Mismatch> mismatches = new ArrayList<>();
+        for (PartitionResult result : results) {
+            accountsChecked += result.getAccountsChecked();
+            transactionsChecked += result.getTransactionsChecked();
+            mismatchCount += result.getMismatchCount();
+            for (Mismatch mismatch : result.getMismatches()) {
+                if (mismatches.size() >= maxMismatches)
+                    break;
+                mismatches.add(mismatch);
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return ReconciliationReport.builder()
+                .accountsChecked(accountsChecked)
+                .transactionsChecked(transactionsChecked)
+                .mismatchCount(mismatchCount)
+                .failedPartitions(failedPartitions)
+                .elapsedMillis(elapsedMillis)
+                .transactionsPerSecond(elapsedMillis == 0
+                        ? transactionsChecked
+                        : transactionsChecked * 1000.0 / elapsedMillis)
+                .mismatches(mismatches)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.dto.AccountSlotBalance;
+import com.example.account.dto.LedgerEntry;
+import com.example.account.dto.ReconciliationReport.Mismatch;
+import com.example.account.repository.AccountBalanceSlotRepository;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.account.type.ReconciliationMismatchType.BALANCE;
+import static com.example.account.type.ReconciliationMismatchType.SNAPSHOT;
+
+/**
+ * 계좌 ID 구간 하나의 잔액을 원장과 대조한다.
+ * 각 구간은 자신의 트랜잭션 안에서 원장을 스트리밍하므로 구간끼리 병렬로 실행할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconciliationWorker {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    /**
+     * 계좌별로 다음을 확인한다.
+     * 1. 거래마다 balanceSnapshot 이 직전 잔액에 거래 금액(S 거래만)을 반영한 값과 같은지
+     * 2. 최종 잔액이 초기 잔액에 S 거래 금액 합을 반영한 값과 같은지
+     * 초기 잔액이 저장되지 않은 계좌는 첫 거래의 snapshot 에서 역산한다.
+     * 잔액을 나눈 계좌는 슬롯별로 동시에 거래되어 snapshot 이 거래 순서를 따르지 않으므로
+     * 1 은 건너뛰고 2 만 슬롯 잔액의 합으로 확인한다.
+     * @param maxMismatches 보고서에 담을 불일치 최대 건수 (건수 집계는 계속한다)
+     */
+    @Transactional
+    public PartitionResult reconcile(Long fromId, Long toId, int maxMismatches) {
+        Map<Long, Account> accounts = new LinkedHashMap<>();
+        for (Account account : accountRepository.findByIdBetweenOrderById(fromId, toId))
+            accounts.put(account.getId(), account);
+
+        Map<Long, Long> slotBalances = slotBalances(accounts.values());
+
+        PartitionResult result = new PartitionResult(maxMismatches);
+        Set<Long> accountsWithLedger = new HashSet<>();
+
+        try (Stream<LedgerEntry> entries =
+                     transactionRepository.streamLedgerEntries(fromId, toId)) {
+            Iterator<LedgerEntry> iterator = entries.iterator();
+            AccountLedger ledger = null;
+            while (iterator.hasNext()) {
+                LedgerEntry entry = iterator.next();
+                if (ledger == null || !ledger.accountId.equals(entry.getAccountId())) {
+                    if (ledger != null)
+                        ledger.finish(result);
+                    ledger = new AccountLedger(entry.getAccountId(),
+                            accounts.get(entry.getAccountId()), slotBalances);
+                    accountsWithLedger.add(entry.getAccountId());
+                }
+                ledger.apply(entry, result);
+            }
+            if (ledger != null)
+                ledger.finish(result);
+        }
+
+        for (Account account : accounts.values()) {
+            result.accountsChecked++;
+            if (accountsWithLedger.contains(account.getId())
+                    || account.getInitialBalance() == null)
+                continue;
+            Long balance = slotBalances.getOrDefault(account.getId(), account.getBalance());
+            if (!Objects.equals(account.getInitialBalance(), balance))
+                result.add(new Mismatch(account.getAccountNumber(), BALANCE, null,
+                        account.getInitialBalance(), balance));
+        }
+        return result;
+    }
+
+    private Map<Long, Long> slotBalances(Collection<Account> accounts) {
+        List<Long> splitIds = accounts.stream()
+                .filter(Account::isBalanceSplit)
+                .map(Account::getId)
+                .collect(Collectors.toList());
+        if (splitIds.isEmpty())
+            return Collections.emptyMap();
+
+        return accountBalanceSlotRepository.sumBalanceByAccountIds(splitIds)
+                .stream()
+                .collect(Collectors.toMap(AccountSlotBalance::getAccountId,
+                        AccountSlotBalance::getBalance));
+    }
+
+    static long signedAmount(LedgerEntry entry) {
+        if (entry.getTransactionResultType() != TransactionResultType.S)
+            return 0L;
+        return entry.getTransactionType() == TransactionType.USE
+                || entry.getTransactionType() == TransactionType.TRANSFER_OUT
+                ? -entry.getAmount()
+                : entry.getAmount();
+    }
+
+    private static class AccountLedger {
+        private final Long accountId;
+        private final Account account;
+        private final Long balance;
+        private final boolean checkSnapshot;
+        private Long runningBalance;
+
+        AccountLedger(Long accountId, Account account, Map<Long, Long> slotBalances) {
+            this.accountId = accountId;
+            this.account = account;
+            this.balance = account == null ? null
+                    : slotBalances.getOrDefault(accountId, account.getBalance());
+            this.checkSnapshot = account == null || !account.isBalanceSplit();
+            this.runningBalance = account == null ? null : account.getInitialBalance();
+        }
+
+        void apply(LedgerEntry entry, PartitionResult result) {
+            result.transactionsChecked++;
+            long signedAmount = signedAmount(entry);
+            if (runningBalance == null)
+                runningBalance = entry.getBalanceSnapshot() - signedAmount;
+
+            runningBalance += signedAmount;
+            if (checkSnapshot && !runningBalance.equals(entry.getBalanceSnapshot())) {
+                result.add(new Mismatch(accountNumber(), SNAPSHOT,
+                        entry.getTransactionId(), runningBalance, entry.getBalanceSnapshot()));
+                // 한 번 끊긴 체인이 이후 거래를 모두 불일치로 만들지 않도록 기록된 값으로 맞춘다.
+                runningBalance = entry.getBalanceSnapshot();
+            }
+        }
+
+        void finish(PartitionResult result) {
+            if (balance == null)
+                return;
+            if (!balance.equals(runningBalance))
+                result.add(new Mismatch(accountNumber(), BALANCE, null,
+                        runningBalance, balance));
+        }
+
+        private String accountNumber() {
+            return account == null ? null : account.getAccountNumber();
+        }
+    }
+
+    @Getter
+    public static class PartitionResult {
+        private final int maxMismatches;
+        private final List<Mismatch> mismatches = new ArrayList<>();
+        private long accountsChecked;
+        private long transactionsChecked;
+        private long mismatchCount;
+
+        PartitionResult(int maxMismatches) {
+            this.maxMismatches = maxMismatches;
+        }
+
+        void add(Mismatch mismatch) {
+            mismatchCount++;
+            if (mismatches.size() < maxMismatches)
+                mismatches.add(mismatch);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.account.service;
+
+import com.example.account.dto.StoredResponse;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터용 멱등 응답 저장소
+ * 항목별 TTL 을 지원하는 Redis 해시(RMapCache)에 응답을 저장한다.
+ */
+@Service
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    public static final String MAP_NAME = "IDEM";
+
+    private final RMapCache<String, String> responses;
+
+    public RedisIdempotencyStore(RedissonClient redissonClient) {
+        this.responses = redissonClient.getMapCache(MAP_NAME, StringCodec.INSTANCE);
+    }
+
+    @Override
+    public Optional<StoredResponse> reserve(String key, StoredResponse pending,
+                                            Duration pendingTtl) {
+        String existing = responses.putIfAbsent(key, pending.serialize(),
+                pendingTtl.toMillis(), TimeUnit.MILLISECONDS);
+        return Optional.ofNullable(existing).map(StoredResponse::deserialize);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response, Duration ttl) {
+        responses.fastPut(key, response.serialize(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void release(String key) {
+        responses.fastRemove(key);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.account.service;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터용 요청 한도
+ * LocalRateLimiter 와 같은 GCRA 를 Lua 스크립트로 실행해 읽기와 갱신을 원자적으로 처리한다.
+ * 현재 시각은 애플리케이션 노드에서 넘기므로 노드 간 시계 차이만큼 한도가 흔들릴 수 있다.
+ */
+@Service
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "RATE:";
+
+    // ARGV : 현재 시각, 요청 간격, 허용 오차 (모두 마이크로초)
+    private static final String GCRA_SCRIPT =
+            "local now = tonumber(ARGV[1]) "
+            + "local tat = tonumber(redis.call('GET', KEYS[1]) or now) "
+            + "if tat < now then tat = now end "
+            + "local new_tat = tat + tonumber(ARGV[2]) "
+            + "if new_tat - now > tonumber(ARGV[3]) then return 0 end "
+            + "redis.call('SET', KEYS[1], string.format('%d', new_tat), "
+            + "'PX', math.ceil((new_tat - now) / 1000)) "
+            + "return 1";
+
+    private final RScript script;
+
+    public RedisRateLimiter(RedissonClient redissonClient) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, long permitsPerSecond, int burst) {
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        long interval = TimeUnit.SECONDS.toMicros(1) / permitsPerSecond;
+        Long allowed = script.eval(KEY_PREFIX + key, RScript.Mode.READ_WRITE, GCRA_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Collections.singletonList(KEY_PREFIX + key),
+                String.valueOf(now), String.valueOf(interval), String.valueOf(interval * burst));
+        return allowed != null && allowed == 1L;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.account.service;
+
+import com.example.account.dto.TransactionDto;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래를 Redis 스트림에 발행한다. 한 묶음을 파이프라인 한 번으로 보내며,
+ * 스트림은 대략 max-length 개까지만 유지한다.
+ */
+@Service
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "redis", matchIfMissing = true)
+public class RedisStreamOutboxPublisher implements OutboxPublisher {
+
+    private final RedissonClient redissonClient;
+    private final String streamName;
+    private final int maxLength;
+
+    public RedisStreamOutboxPublisher(RedissonClient redissonClient,
+                                      @Value("${outbox.stream.name}") String streamName,
+                                      @Value("${outbox.stream.max-length}") int maxLength) {
+        this.redissonClient = redissonClient;
+        this.streamName = streamName;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void publish(List<TransactionDto> transactions) {
+        RBatch batch = redissonClient.createBatch();
+        RStreamAsync<String, String> stream = batch.getStream(streamName, StringCodec.INSTANCE);
+        for (TransactionDto transaction : transactions)
+            stream.addAsync(StreamAddArgs.entries(toFields(transaction))
+                    .trimNonStrict().maxLen(maxLength).noLimit());
+        batch.execute();
+    }
+
+    private static Map<String, String> toFields(TransactionDto transaction) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("transactionId", transaction.getTransactionId());
+        fields.put("accountNumber", transaction.getAccountNumber());
+        fields.put("transactionType", transaction.getTransactionType().name());
+        fields.put("transactionResultType", transaction.getTransactionResultType().name());
+        fields.put("amount", String.valueOf(transaction.getAmount()));
+        fields.put("balanceSnapshot", String.valueOf(transaction.getBalanceSnapshot()));
+        fields.put("transactedAt", transaction.getTransactedAt().toString());
+        return fields;
+    }
+}
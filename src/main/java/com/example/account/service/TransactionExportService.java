@@ -0,0 +1,166 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static com.example.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+
+/**
+ * 계좌 원장 내보내기
+ * 거래를 List 로 모으지 않고 DB 커서에서 읽는 즉시 응답 스트림에 기록하며,
+ * 일정 건수마다 영속성 컨텍스트를 비워 거래 건수와 관계없이 메모리 사용량을 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답을 쓰기 시작하기 전에 계좌 존재 여부를 확인한다.
+     * @throws AccountException ACCOUNT_NOT_FOUND
+     */
+    public Long getAccountId(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(Account::getId)
+                .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * @return 기록한 거래 건수
+     */
+    @Transactional
+    public long exportTransactions(Long accountId, ExportFormat format,
+                                   OutputStream outputStream) throws IOException {
+        LedgerWriter writer = format == ExportFormat.CSV
+                ? new CsvLedgerWriter(outputStream)
+                : new NdjsonLedgerWriter(outputStream, objectMapper);
+
+        long count = 0;
+        try (Stream<Transaction> transactions =
+                     transactionRepository.streamByAccountId(accountId)) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                writer.write(TransactionDto.fromEntity(iterator.next()));
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+
+        log.debug("Exported {} transactions of account {}", count, accountId);
+        return count;
+    }
+
+    private interface LedgerWriter {
+        void write(TransactionDto dto) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static class NdjsonLedgerWriter implements LedgerWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+
+        NdjsonLedgerWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이의 기본 구분자(공백) 대신 줄바꿈을 직접 기록한다.
+            this.generator.setRootValueSeparator(null);
+            this.objectWriter = objectMapper.writerFor(TransactionDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(TransactionDto dto) throws IOException {
+            objectWriter.writeValue(generator, dto);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvLedgerWriter implements LedgerWriter {
+        private static final String HEADER = "accountNumber,transactionType,transactionResultType," +
+                "amount,balanceSnapshot,transactionId,transactedAt\n";
+
+        private final Writer writer;
+
+        CsvLedgerWriter(OutputStream outputStream) throws IOException {
+            this.writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+        }
+
+        @Override
+        public void write(TransactionDto dto) throws IOException {
+            writeField(dto.getAccountNumber());
+            writer.write(',');
+            writeField(dto.getTransactionType());
+            writer.write(',');
+            writeField(dto.getTransactionResultType());
+            writer.write(',');
+            writeField(dto.getAmount());
+            writer.write(',');
+            writeField(dto.getBalanceSnapshot());
+            writer.write(',');
+            writeField(dto.getTransactionId());
+            writer.write(',');
+            writeField(dto.getTransactedAt());
+            writer.write('\n');
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null)
+                return;
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.ExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장 내보내기 응답 스트림
+ * 내보내기 요청에만 긴 비동기 타임아웃(transaction-export.timeout)을 주기 위해
+ * ResponseBodyEmitter 에 타임아웃을 지정하고, 원장은 전용 작업 풀에서 청크 단위로 보낸다.
+ * 타임아웃이 지나면 다음 청크 전송이 실패하면서 내보내기도 멈춘다.
+ * 작업 풀과 대기열이 가득 차면 응답을 쓰기 전에 SERVER_BUSY 로 거절한다.
+ */
+@Slf4j
+@Component
+public class TransactionExportStreamer {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final TransactionExportService transactionExportService;
+    private final ExecutorService exporter;
+    private final long timeoutMillis;
+
+    @Autowired
+    public TransactionExportStreamer(TransactionExportService transactionExportService,
+                                     @Value("${transaction-export.threads}") int threads,
+                                     @Value("${transaction-export.queue-capacity}") int queueCapacity,
+                                     @Value("${transaction-export.timeout}") Duration timeout) {
+        this(transactionExportService,
+                new ThreadPoolExecutor(threads, threads,
+                        0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("transaction-export-"),
+                        new ThreadPoolExecutor.AbortPolicy()),
+                timeout.toMillis());
+    }
+
+    TransactionExportStreamer(TransactionExportService transactionExportService,
+                              ExecutorService exporter, long timeoutMillis) {
+        this.transactionExportService = transactionExportService;
+        this.exporter = exporter;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @throws AccountException SERVER_BUSY
+     */
+    public ResponseBodyEmitter export(Long accountId, ExportFormat format) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        try {
+            exporter.execute(() -> {
+                try {
+                    transactionExportService.exportTransactions(accountId, format,
+                            new EmitterOutputStream(emitter, format.getMediaType()));
+                    emitter.complete();
+                } catch (Exception e) {
+                    log.warn("Transaction export of account {} stopped : {}",
+                            accountId, e.getMessage());
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Transaction export executor saturated");
+            throw new AccountException(ErrorCode.SERVER_BUSY);
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        exporter.shutdown();
+    }
+
+    /**
+     * 쓰인 바이트를 모아 두었다가 flush 나 CHUNK_SIZE 마다 한 청크로 emitter 에 보낸다.
+     */
+    static class EmitterOutputStream extends OutputStream {
+        private final ResponseBodyEmitter emitter;
+        private final MediaType mediaType;
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int count;
+
+        EmitterOutputStream(ResponseBodyEmitter emitter, MediaType mediaType) {
+            this.emitter = emitter;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length)
+                flush();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length)
+                    flush();
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count == 0)
+                return;
+            emitter.send(Arrays.copyOf(buffer, count), mediaType);
+            count = 0;
+        }
+    }
+}
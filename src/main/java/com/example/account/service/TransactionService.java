@@ -3,12 +3,17 @@ package com.example.account.service;
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import com.example.account.domain.Transaction;
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.BatchTransferBalance;
+import com.example.account.dto.TransactionCursor;
 import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransactionPage;
+import com.example.account.dto.TransferDto;
+import com.example.account.dto.UseBalance;
 import com.example.account.exception.AccountException;
 import com.example.account.repository.AccountRepository;
 import com.example.account.repository.AccountUserRepository;
 import com.example.account.repository.TransactionRepository;
-import com.example.account.type.AccountStatus;
 import com.example.account.type.ErrorCode;
 import com.example.account.type.TransactionResultType;
 import com.example.account.type.TransactionType;
@@ -19,8 +24,13 @@ import org.springframework.stereotype.Service;
 import javax.transaction.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.example.account.type.ErrorCode.*;
 
@@ -30,34 +40,241 @@ import static com.example.account.type.ErrorCode.*;
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int SINGLE_FLIGHT_MAX_KEYS = 10_000;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final DailySummaryService dailySummaryService;
+    private final BalanceSlotService balanceSlotService;
+    private final BalanceCache balanceCache;
+    private final OutboxService outboxService;
+    private final AccountEventHub accountEventHub;
+
+    private final SingleFlight<String, TransactionDto> queryTransactionFlight =
+            new SingleFlight<>(SINGLE_FLIGHT_MAX_KEYS);
 
     @Transactional
     public TransactionDto useBalance(Long userId, String accountNumber, Long amount) {
 
         AccountUser user = accountUserRepository.findById(userId)
                 .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+        // 캐시에 있는 계좌는 계좌를 조회하기 전에 거절할 수 있다.
+        balanceCache.validateUseBalance(accountNumber, user.getId(), amount);
         Account account = getAccountOrElseThrow(accountNumber);
 
         validateUseBalance(amount, user, account);
 
-        account.useBalance(amount);
+        int summarySlot = withdraw(account, amount);
+        balanceCache.updateAfterCommit(account);
+        publishBalance(account);
 
         return TransactionDto.fromEntity(saveTransaction(amount,
-                account, TransactionResultType.S, TransactionType.USE));
+                account, TransactionResultType.S, TransactionType.USE, summarySlot));
+    }
+
+    /**
+     * 한 계좌에 대한 여러 건의 잔액 사용을 요청 순서대로 처리한다.
+     * 호출자는 해당 계좌의 락을 한 번만 잡고 호출하며, 계좌와 사용자는 한 번씩만 조회하고
+     * 거래 내역은 한 번에 저장한다. 각 건은 useBalance 와 같은 규칙으로 검증되며
+     * 실패한 건은 나머지 건에 영향을 주지 않고 실패(F) 거래로 기록된다.
+     * @return 요청 순서와 같은 순서의 거래 결과
+     * @throws AccountException ACCOUNT_NOT_FOUND
+     */
+    @Transactional
+    public List<TransactionDto> useBalanceGroup(String accountNumber,
+                                                List<UseBalance.Request> requests) {
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        Map<Long, AccountUser> users = accountUserRepository.findAllById(requests.stream()
+                        .map(UseBalance.Request::getUserId)
+                        .distinct()
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(AccountUser::getId, Function.identity()));
+
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (UseBalance.Request request : requests) {
+            TransactionResultType resultType = TransactionResultType.S;
+            int summarySlot = 0;
+            try {
+                AccountUser user = users.get(request.getUserId());
+                if (user == null)
+                    throw new AccountException(ErrorCode.USER_NOT_FOUND);
+
+                validateUseBalance(request.getAmount(), user, account);
+                summarySlot = withdraw(account, request.getAmount());
+            } catch (AccountException e) {
+                log.debug("Failed to use balance in group : {}", e.getErrorCode());
+                resultType = TransactionResultType.F;
+            }
+            transactions.add(buildTransaction(request.getAmount(), account,
+                    resultType, TransactionType.USE, summarySlot));
+        }
+
+        balanceCache.updateAfterCommit(account);
+        publishBalance(account);
+
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        saved.forEach(dailySummaryService::record);
+        outboxService.recordAll(saved);
+
+        return saved.stream()
+                .map(TransactionDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 출금 계좌 잔액을 차감하고 입금 계좌 잔액에 더한 뒤 출금(TRANSFER_OUT), 입금(TRANSFER_IN)
+     * 거래를 같은 트랜잭션에서 기록한다.
+     * 호출자는 두 계좌의 락을 함께(LockService.lockAll) 잡고 호출한다.
+     * @throws AccountException INVALID_REQUEST (같은 계좌), USER_NOT_FOUND, ACCOUNT_NOT_FOUND,
+     * ACCOUNT_OWNER_UN_MATCH, ACCOUNT_ALREADY_UNREGISTERED, AMOUNT_EXCEED_BALANCE
+     */
+    @Transactional
+    public TransferDto transferBalance(Long userId, String accountNumber,
+                                       String toAccountNumber, Long amount) {
+        if (accountNumber.equals(toAccountNumber))
+            throw new AccountException(INVALID_REQUEST);
+
+        AccountUser user = accountUserRepository.findById(userId)
+                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+        balanceCache.validateUseBalance(accountNumber, user.getId(), amount);
+        Account account = getAccountOrElseThrow(accountNumber);
+        Account toAccount = getAccountOrElseThrow(toAccountNumber);
+
+        validateUseBalance(amount, user, account);
+        toAccount.validateDeposit();
+
+        int withdrawalSlot = withdraw(account, amount);
+        int depositSlot = deposit(toAccount, amount);
+        Transaction withdrawal = buildTransaction(amount, account,
+                TransactionResultType.S, TransactionType.TRANSFER_OUT, withdrawalSlot);
+        Transaction depositTransaction = buildTransaction(amount, toAccount,
+                TransactionResultType.S, TransactionType.TRANSFER_IN, depositSlot);
+        saveTransactions(List.of(withdrawal, depositTransaction));
+
+        for (Account changed : List.of(account, toAccount)) {
+            balanceCache.updateAfterCommit(changed);
+            publishBalance(changed);
+        }
+        return TransferDto.fromEntities(toAccountNumber, withdrawal, depositTransaction);
+    }
+
+    /**
+     * 한 출금 계좌에서 여러 계좌로 요청 순서대로 이체한다.
+     * 호출자는 출금 계좌와 모든 입금 계좌의 락을 한 번에 잡고 호출하며, 계좌는 한 번씩만 조회하고
+     * 거래 내역은 한 번에 저장한다. 각 건은 transferBalance 와 같은 규칙으로 검증되며
+     * 실패한 건은 나머지 건에 영향을 주지 않고 출금 계좌의 실패(F) 거래로 기록된다.
+     * @return 요청 순서와 같은 순서의 이체 결과
+     * @throws AccountException USER_NOT_FOUND, ACCOUNT_NOT_FOUND (출금 계좌)
+     */
+    @Transactional
+    public List<TransferDto> transferBalanceBatch(Long userId, String accountNumber,
+                                                  List<BatchTransferBalance.Item> items) {
+        AccountUser user = accountUserRepository.findById(userId)
+                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        Map<String, Account> toAccounts = accountRepository.findByAccountNumberIn(items.stream()
+                        .map(BatchTransferBalance.Item::getToAccountNumber)
+                        .distinct()
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<Transaction> transactions = new ArrayList<>(items.size() * 2);
+        Map<Long, Account> changed = new LinkedHashMap<>();
+        List<Transaction[]> pairs = new ArrayList<>(items.size());
+        for (BatchTransferBalance.Item item : items) {
+            Account toAccount = toAccounts.get(item.getToAccountNumber());
+            Transaction withdrawal;
+            Transaction depositTransaction = null;
+            try {
+                if (toAccount == null)
+                    throw new AccountException(ErrorCode.ACCOUNT_NOT_FOUND);
+                if (toAccount.getId().equals(account.getId()))
+                    throw new AccountException(INVALID_REQUEST);
+
+                validateUseBalance(item.getAmount(), user, account);
+                toAccount.validateDeposit();
+                int withdrawalSlot = withdraw(account, item.getAmount());
+                int depositSlot = deposit(toAccount, item.getAmount());
+
+                withdrawal = buildTransaction(item.getAmount(), account,
+                        TransactionResultType.S, TransactionType.TRANSFER_OUT, withdrawalSlot);
+                depositTransaction = buildTransaction(item.getAmount(), toAccount,
+                        TransactionResultType.S, TransactionType.TRANSFER_IN, depositSlot);
+                changed.put(toAccount.getId(), toAccount);
+            } catch (AccountException e) {
+                log.debug("Failed to transfer balance in batch : {}", e.getErrorCode());
+                withdrawal = buildTransaction(item.getAmount(), account,
+                        TransactionResultType.F, TransactionType.TRANSFER_OUT);
+            }
+            transactions.add(withdrawal);
+            if (depositTransaction != null)
+                transactions.add(depositTransaction);
+            pairs.add(new Transaction[]{withdrawal, depositTransaction});
+        }
+        changed.put(account.getId(), account);
+
+        saveTransactions(transactions);
+        for (Account changedAccount : changed.values()) {
+            balanceCache.updateAfterCommit(changedAccount);
+            publishBalance(changedAccount);
+        }
+
+        List<TransferDto> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++)
+            results.add(TransferDto.fromEntities(items.get(i).getToAccountNumber(),
+                    pairs.get(i)[0], pairs.get(i)[1]));
+        return results;
     }
 
     private void validateUseBalance(Long amount, AccountUser user, Account account) {
-        if(!user.getId().equals(account.getAccountUser().getId()))
-            throw new AccountException(ErrorCode.ACCOUNT_OWNER_UN_MATCH);
-        if(account.getAccountStatus() != AccountStatus.IN_USE)
-            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
-        if(account.getBalance() < amount)
-            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        account.validateUseBalance(user.getId(), amount);
     }
 
+    /**
+     * 잔액을 나눈 계좌는 슬롯 하나에서, 그 외 계좌는 계좌 잔액에서 차감한다.
+     * @return 일일 집계를 반영할 슬롯 (Transaction.summarySlot)
+     */
+    private int withdraw(Account account, Long amount) {
+        if (account.isBalanceSplit())
+            return balanceSlotService.debit(account, amount);
+        account.useBalance(amount);
+        return 0;
+    }
+
+    private int deposit(Account account, Long amount) {
+        if (account.isBalanceSplit())
+            return balanceSlotService.credit(account, amount);
+        account.cancelBalance(amount);
+        return 0;
+    }
+
+    /**
+     * 계좌 소유자의 잔액 변경 구독자에게 커밋 후 잔액을 보낸다.
+     */
+    private void publishBalance(Account account) {
+        Long userId = account.getAccountUser().getId();
+        if (!accountEventHub.hasSubscribers(userId))
+            return;
+        accountEventHub.publishAfterCommit(userId, AccountInfo.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(account.isBalanceSplit()
+                        ? balanceSlotService.totalBalance(account)
+                        : account.getBalance())
+                .build());
+    }
+
+    @Transactional
+    public void saveFailedTransferTransaction(String accountNumber, Long amount) {
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        saveTransaction(amount, account, TransactionResultType.F, TransactionType.TRANSFER_OUT);
+    }
 
     @Transactional
     public void saveFailedUseTransaction(String accountNumber, Long amount) {
@@ -69,17 +286,62 @@ public class TransactionService {
     private Transaction saveTransaction(Long amount, Account account,
                                         TransactionResultType resultType,
                                         TransactionType transactionType) {
-        return transactionRepository.save(
-                Transaction.builder()
-                        .transactionType(transactionType)
-                        .transactionResultType(resultType)
-                        .account(account)
-                        .amount(amount)
-                        .balanceSnapshot(account.getBalance())
-                        .transactedAt(LocalDateTime.now())
-                        .transactionId(UUID.randomUUID().toString().replace("-", ""))
-                        .build()
-        );
+        return saveTransaction(amount, account, resultType, transactionType, 0);
+    }
+
+    private Transaction saveTransaction(Long amount, Account account,
+                                        TransactionResultType resultType,
+                                        TransactionType transactionType,
+                                        int summarySlot) {
+        Transaction transaction = transactionRepository.save(
+                buildTransaction(amount, account, resultType, transactionType, summarySlot));
+        dailySummaryService.record(transaction);
+        outboxService.record(transaction);
+        return transaction;
+    }
+
+    private void saveTransactions(List<Transaction> transactions) {
+        transactionRepository.saveAll(transactions);
+        transactions.forEach(dailySummaryService::record);
+        outboxService.recordAll(transactions);
+    }
+
+    private Transaction buildTransaction(Long amount, Account account,
+                                         TransactionResultType resultType,
+                                         TransactionType transactionType) {
+        return buildTransaction(amount, account, resultType, transactionType, 0);
+    }
+
+    private Transaction buildTransaction(Long amount, Account account,
+                                         TransactionResultType resultType,
+                                         TransactionType transactionType,
+                                         int summarySlot) {
+        return Transaction.builder()
+                .transactionType(transactionType)
+                .transactionResultType(resultType)
+                .account(account)
+                .amount(amount)
+                .balanceSnapshot(account.isBalanceSplit()
+                        ? balanceSlotService.totalBalance(account)
+                        : account.getBalance())
+                .transactedAt(LocalDateTime.now())
+                .transactionId(Transaction.newTransactionId())
+                .summarySlot(summarySlot)
+                .build();
+    }
+
+    /**
+     * 승인(BalanceHold)해 둔 금액을 잔액에서 차감하고 잔액 사용 거래로 기록한다.
+     * 호출자는 계좌 락을 잡고, 같은 트랜잭션에서 승인을 CAPTURED 로 바꾼 뒤 호출한다.
+     * @throws AccountException INVALID_REQUEST
+     */
+    public TransactionDto captureHeldBalance(Account account, Long amount) {
+        account.captureHeldBalance(amount);
+        balanceCache.updateAfterCommit(account);
+        publishBalance(account);
+
+        return TransactionDto.fromEntity(saveTransaction(amount,
+                account, TransactionResultType.S, TransactionType.USE));
     }
 
     public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
@@ -90,9 +352,12 @@ public class TransactionService {
 
         validateCancelBalance(amount, transaction, account);
 
-        account.cancelBalance(amount);
+        int summarySlot = deposit(account, amount);
+        balanceCache.updateAfterCommit(account);
+        publishBalance(account);
 
-        return TransactionDto.fromEntity(saveTransaction(amount, account, TransactionResultType.S, TransactionType.CANCEL));
+        return TransactionDto.fromEntity(saveTransaction(amount, account,
+                TransactionResultType.S, TransactionType.CANCEL, summarySlot));
     }
 
     private Account getAccountOrElseThrow(String accountNumber) {
@@ -101,14 +366,7 @@ public class TransactionService {
     }
 
     private void validateCancelBalance(Long amount, Transaction transaction, Account account) {
-        if(!transaction.getAccount().getId().equals(account.getId()))
-            throw new AccountException(TRANSACTION_ACCOUNT_UN_MATCH);
-        if(!transaction.getAmount().equals(amount))
-            throw new AccountException(TRANSACTION_AMOUNT_UN_MATCH);
-        if(transaction.getTransactedAt().plusYears(1).isBefore(LocalDateTime.now()))
-            throw new AccountException(TOO_OLD_TRANSACTION_TO_CANCEL);
-        if(amount < 0)
-            throw new AccountException(INVALID_REQUEST);
+        transaction.validateCancel(account, amount);
     }
 
     public void saveFailedCancelTransaction(String accountNumber, Long amount) {
@@ -117,9 +375,53 @@ public class TransactionService {
         saveTransaction(amount, account, TransactionResultType.F, TransactionType.CANCEL);
     }
 
+    /**
+     * 같은 거래 번호의 동시 조회는 한 번의 DB 조회로 합친다.
+     * @throws AccountException TRANSACTION_NOT_FOUND
+     */
     public TransactionDto queryTransaction(String transactionId) {
-        return TransactionDto.fromEntity(
+        return queryTransactionFlight.execute(transactionId, () -> TransactionDto.fromEntity(
                 transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND))));
+    }
+
+    /**
+     * 계좌의 거래 내역을 최신순으로 조회한다.
+     * OFFSET 대신 마지막 거래의 (transactedAt, id)를 커서로 사용하여
+     * 페이지 위치와 관계없이 일정한 비용으로 조회한다.
+     * @param accountNumber 계좌 번호
+     * @param transactionType 거래 종류 필터, null 이면 전체
+     * @param transactionResultType 거래 결과 필터, null 이면 전체
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기 (1 ~ 100)
+     * @throws AccountException ACCOUNT_NOT_FOUND, INVALID_REQUEST
+     */
+    public TransactionPage getTransactionHistory(String accountNumber,
+                                                 TransactionType transactionType,
+                                                 TransactionResultType transactionResultType,
+                                                 String cursor,
+                                                 int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE)
+            throw new AccountException(INVALID_REQUEST);
+
+        Account account = getAccountOrElseThrow(accountNumber);
+
+        // 한 건을 더 조회해서 다음 페이지 존재 여부를 판단한다.
+        List<Transaction> transactions = transactionRepository.findHistory(account,
+                transactionType, transactionResultType,
+                TransactionCursor.decode(cursor), size + 1);
+
+        boolean hasNext = transactions.size() > size;
+        if (hasNext)
+            transactions = transactions.subList(0, size);
+
+        return TransactionPage.builder()
+                .transactions(transactions.stream()
+                        .map(TransactionDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext
+                        ? TransactionCursor.of(transactions.get(size - 1)).encode()
+                        : null)
+                .build();
     }
 }
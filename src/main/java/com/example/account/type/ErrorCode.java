@@ -22,7 +22,23 @@ public enum ErrorCode {
 
     EXCEED_MAX_ACCOUNT_SIZE("계좌 보유량 한도를 초과했습니다.", HttpStatus.BAD_REQUEST),
 
-    AMOUNT_EXCEED_BALANCE("거래 금액이 잔액보다 큽니다", HttpStatus.BAD_REQUEST)
+    AMOUNT_EXCEED_BALANCE("거래 금액이 잔액보다 큽니다", HttpStatus.BAD_REQUEST),
+
+    IDEMPOTENT_REQUEST_IN_PROGRESS("같은 멱등키의 요청이 처리 중입니다.", HttpStatus.CONFLICT),
+
+    SERVER_BUSY("처리 중인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+
+    TOO_MANY_REQUESTS("요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
+
+    HOLD_NOT_FOUND("입력한 승인 번호에 해당하는 승인이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
+    HOLD_ALREADY_FINISHED("이미 매입, 취소 또는 만료된 승인입니다.", HttpStatus.BAD_REQUEST),
+    HOLD_EXPIRED("승인 유효 기간이 지났습니다.", HttpStatus.BAD_REQUEST),
+
+    UNSUPPORTED_IN_WEB_MODE("현재 잔액 처리 모드에서 지원하지 않는 요청입니다.", HttpStatus.CONFLICT),
+
+    IDEMPOTENCY_KEY_REUSED("같은 멱등키로 다른 요청을 보냈습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+
+    RESULT_UNKNOWN("처리 결과를 알 수 없습니다. 거래를 확인한 뒤 다시 요청해 주세요.", HttpStatus.INTERNAL_SERVER_ERROR)
 
 
     ;
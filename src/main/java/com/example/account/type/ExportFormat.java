@@ -0,0 +1,16 @@
+package com.example.account.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), ".ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), ".csv")
+    ;
+
+    private final MediaType mediaType;
+    private final String extension;
+}
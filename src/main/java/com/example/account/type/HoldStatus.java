@@ -0,0 +1,8 @@
+package com.example.account.type;
+
+public enum HoldStatus {
+    AUTHORIZED,
+    CAPTURED,
+    VOIDED,
+    EXPIRED
+}
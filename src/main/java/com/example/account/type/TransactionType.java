@@ -1,5 +1,8 @@
 package com.example.account.type;
 
+/**
+ * 바이너리 프로토콜과 엔진 저널이 순서(ordinal)로 기록하므로 값은 뒤에만 추가한다.
+ */
 public enum TransactionType {
-    USE,CANCEL
+    USE,CANCEL,TRANSFER_OUT,TRANSFER_IN
 }
@@ -0,0 +1,197 @@
+package com.example.account.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 요청 처리량 측정용 부하 발생기
+ * 실행 중인 서버에 동시 요청 수를 단계적으로 늘려 가며 닫힌 루프(closed loop)로 요청을 보내고
+ * 단계별 처리량, 지연 시간, 오류율을 출력한다.
+ * 같은 조건에서 web.virtual-threads.enabled=false / true 로 서버를 띄워 두 번 실행하고
+ * 오류율과 p99 기준을 만족하는 가장 큰 동시 요청 수를 비교한다.
+ *
+ * 실행 : ./gradlew loadTest -Dbenchmark.scenario=use -Dbenchmark.levels=200,1000,5000,20000
+ *
+ * scenario
+ * - read : GET /account?user_id= (JDBC 조회)
+ * - use  : POST /transaction/use (계좌 락 대기 + JDBC 쓰기), 시작 전에 테스트 계좌를 만든다.
+ */
+public class ConcurrencyLoadDriver {
+
+    private static final int USERS = 3;
+    private static final int ACCOUNTS_PER_USER = 10;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String scenario;
+    private final List<String> accountNumbers = new ArrayList<>();
+
+    public ConcurrencyLoadDriver(String baseUrl, String scenario) {
+        this.baseUrl = baseUrl;
+        this.scenario = scenario;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("benchmark.base-url", "http://localhost:8080");
+        String scenario = System.getProperty("benchmark.scenario", "read");
+        int[] levels = Arrays.stream(System.getProperty("benchmark.levels", "100,500,1000,5000,10000,20000")
+                        .split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = Duration.parse(System.getProperty("benchmark.duration", "PT20S"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("benchmark.max-error-rate", "0.01"));
+        long maxP99Millis = Long.parseLong(System.getProperty("benchmark.max-p99-ms", "2000"));
+
+        ConcurrencyLoadDriver driver = new ConcurrencyLoadDriver(baseUrl, scenario);
+        if ("use".equals(scenario))
+            driver.createAccounts();
+
+        System.out.printf("%-10s %10s %10s %8s %8s %8s %8s%n",
+                "inflight", "completed", "rps", "p50(ms)", "p99(ms)", "errors", "status");
+        int maxSustainable = 0;
+        for (int level : levels) {
+            Result result = driver.run(level, duration);
+            boolean sustainable = result.errorRate() <= maxErrorRate && result.p99Millis() <= maxP99Millis;
+            if (sustainable)
+                maxSustainable = level;
+            System.out.printf("%-10d %10d %10.0f %8d %8d %8d %8s%n",
+                    level, result.completed, result.completed / (double) duration.toSeconds(),
+                    result.p50Millis(), result.p99Millis(), result.errors,
+                    sustainable ? "OK" : "FAIL");
+        }
+        System.out.println("max sustainable in-flight requests : " + maxSustainable);
+    }
+
+    private void createAccounts() throws Exception {
+        StringBuilder items = new StringBuilder();
+        for (int user = 1; user <= USERS; user++) {
+            for (int i = 0; i < ACCOUNTS_PER_USER; i++) {
+                if (items.length() > 0)
+                    items.append(',');
+                items.append("{\"userId\":").append(user)
+                        .append(",\"initialBalance\":1000000000}");
+            }
+        }
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder()
+                        .uri(URI.create(baseUrl + "/account/bulk"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[" + items + "]}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // 응답의 results 순서는 요청 순서와 같으므로 userId 순서대로 계좌 번호를 모은다.
+        String body = response.body();
+        int index = 0;
+        while ((index = body.indexOf("\"accountNumber\":\"", index)) >= 0) {
+            index += "\"accountNumber\":\"".length();
+            accountNumbers.add(body.substring(index, body.indexOf('"', index)));
+        }
+        if (accountNumbers.isEmpty())
+            throw new IllegalStateException("Failed to create benchmark accounts : " + body);
+    }
+
+    private Result run(int inflight, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Result result = new Result();
+        AtomicLong sequence = new AtomicLong();
+
+        List<CompletableFuture<Void>> loops = new ArrayList<>(inflight);
+        for (int i = 0; i < inflight; i++)
+            loops.add(loop(deadline, sequence, result));
+        CompletableFuture.allOf(loops.toArray(new CompletableFuture[0])).join();
+        return result;
+    }
+
+    /**
+     * 응답을 받으면 바로 다음 요청을 보내 동시 요청 수를 inflight 로 유지한다.
+     */
+    private CompletableFuture<Void> loop(long deadline, AtomicLong sequence, Result result) {
+        if (System.nanoTime() >= deadline)
+            return CompletableFuture.completedFuture(null);
+
+        long startedAt = System.nanoTime();
+        return client.sendAsync(nextRequest(sequence.getAndIncrement()),
+                        HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    result.record(System.nanoTime() - startedAt,
+                            e != null || response.statusCode() >= 500);
+                    return null;
+                })
+                .thenCompose(ignored -> loop(deadline, sequence, result));
+    }
+
+    private HttpRequest nextRequest(long sequence) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(30));
+        if ("use".equals(scenario)) {
+            int account = (int) (sequence % accountNumbers.size());
+            long userId = account / ACCOUNTS_PER_USER + 1;
+            return builder.uri(URI.create(baseUrl + "/transaction/use"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"userId\":" + userId
+                                    + ",\"accountNumber\":\"" + accountNumbers.get(account)
+                                    + "\",\"amount\":10}"))
+                    .build();
+        }
+        return builder.uri(URI.create(baseUrl + "/account?user_id=" + (sequence % USERS + 1)))
+                .GET()
+                .build();
+    }
+
+    private static class Result {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errorCount = new AtomicLong();
+        private long completed;
+        private long errors;
+        private long[] sorted;
+
+        void record(long latencyNanos, boolean error) {
+            latencies.add(latencyNanos);
+            if (error)
+                errorCount.incrementAndGet();
+        }
+
+        double errorRate() {
+            summarize();
+            return completed == 0 ? 1.0 : errors / (double) completed;
+        }
+
+        long p50Millis() {
+            return percentileMillis(0.50);
+        }
+
+        long p99Millis() {
+            return percentileMillis(0.99);
+        }
+
+        private long percentileMillis(double percentile) {
+            summarize();
+            if (sorted.length == 0)
+                return 0;
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+        }
+
+        private void summarize() {
+            if (sorted != null)
+                return;
+            sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            completed = sorted.length;
+            errors = errorCount.get();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.account.controller;
+
+import com.example.account.dto.UnRegisterAccount;
+import com.example.account.service.AccountService;
+import com.example.account.service.LockService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = AccountController.class, properties = "web.mode=engine")
+class AccountControllerEngineModeTest {
+    @MockBean
+    private AccountService accountService;
+
+    @MockBean
+    private LockService lockService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("엔진 모드에서는 계좌 해지 요청을 거절한다")
+    void unregisterAccount_RejectedInEngineMode() throws Exception {
+        //given
+        //when
+        //then
+        mockMvc.perform(delete("/account")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper
+                                .writeValueAsString(new UnRegisterAccount
+                                        .Request(1L, "1000000000"))))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorName").value("UNSUPPORTED_IN_WEB_MODE"));
+        verify(accountService, never()).unRegisterAccount(anyLong(), anyString());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.account.controller;
+
+import com.example.account.dto.BatchUseBalance;
+import com.example.account.dto.UseBalance;
+import com.example.account.service.BatchTransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BatchTransactionController.class, properties = "web.mode=engine")
+class BatchTransactionControllerEngineModeTest {
+    @MockBean
+    private BatchTransactionService batchTransactionService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("엔진 모드에서는 대량 잔액 사용 요청을 거절한다")
+    void useBalanceBatch_RejectedInEngineMode() throws Exception {
+        //given
+        //when
+        //then
+        mockMvc.perform(post("/transaction/use/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchUseBalance.Request(
+                                List.of(new UseBalance.Request(1L, "1000000000", 1000L))))))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorName").value("UNSUPPORTED_IN_WEB_MODE"));
+        verify(batchTransactionService, never()).useBalanceBatch(any());
+    }
+}
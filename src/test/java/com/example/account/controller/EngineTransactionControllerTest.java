@@ -0,0 +1,97 @@
+package com.example.account.controller;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.UseBalance;
+import com.example.account.engine.TransactionEngine;
+import com.example.account.service.IdempotencyAspect;
+import com.example.account.service.LocalIdempotencyStore;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EngineTransactionControllerTest {
+
+    @Mock
+    private TransactionEngine transactionEngine;
+
+    private EngineTransactionController controller;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        IdempotencyAspect idempotencyAspect =
+                new IdempotencyAspect(new LocalIdempotencyStore(100), objectMapper);
+        ReflectionTestUtils.setField(idempotencyAspect, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(idempotencyAspect, "pendingTtl", Duration.ofSeconds(30));
+
+        AspectJProxyFactory factory =
+                new AspectJProxyFactory(new EngineTransactionController(transactionEngine));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(idempotencyAspect);
+        controller = factory.getProxy();
+
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest("POST", "/transaction/use");
+        httpRequest.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpRequest));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 재시도된 잔액 사용은 엔진에 다시 발행하지 않음")
+    void useBalance_ReplayDoesNotPublishAgain() {
+        //given
+        given(transactionEngine.useBalance(anyLong(), anyString(), anyLong()))
+                .willReturn(CompletableFuture.completedFuture(TransactionDto.builder()
+                        .accountNumber("1000000000")
+                        .transactionType(TransactionType.USE)
+                        .transactionResultType(TransactionResultType.S)
+                        .amount(1000L)
+                        .transactionId("transactionId")
+                        .transactedAt(LocalDateTime.now())
+                        .build()));
+        UseBalance.Request request = new UseBalance.Request(1L, "1000000000", 1000L);
+
+        //when
+        controller.useBalance(request).join();
+        ResponseEntity<?> replayed = controller.useBalance(request).join();
+
+        //then
+        verify(transactionEngine, times(1)).useBalance(1L, "1000000000", 1000L);
+        assertThat(replayed.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER))
+                .isEqualTo("true");
+        assertThat((String) replayed.getBody()).contains("\"transactionId\":\"transactionId\"");
+    }
+}
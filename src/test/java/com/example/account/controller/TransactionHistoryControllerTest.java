@@ -0,0 +1,73 @@
+package com.example.account.controller;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransactionPage;
+import com.example.account.service.TransactionExportService;
+import com.example.account.service.TransactionExportStreamer;
+import com.example.account.service.TransactionService;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = TransactionHistoryController.class)
+class TransactionHistoryControllerTest {
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @MockBean
+    private TransactionExportService transactionExportService;
+
+    @MockBean
+    private TransactionExportStreamer transactionExportStreamer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void successGetTransactionHistory() throws Exception {
+        //given
+        given(transactionService.getTransactionHistory(anyString(), any(), any(), any(), anyInt()))
+                .willReturn(TransactionPage.builder()
+                        .transactions(List.of(
+                                TransactionDto.builder()
+                                        .accountNumber("1000000000")
+                                        .transactionType(TransactionType.USE)
+                                        .transactionResultType(TransactionResultType.S)
+                                        .amount(1000L)
+                                        .transactedAt(LocalDateTime.now())
+                                        .transactionId("transactionId")
+                                        .build()))
+                        .nextCursor("nextCursor")
+                        .build());
+
+        //when
+        //then
+        mockMvc.perform(get("/account/1000000000/transactions?transaction_type=USE&size=1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.size()").value(1))
+                .andExpect(jsonPath("$.transactions[0].transactionId").value("transactionId"))
+                .andExpect(jsonPath("$.transactions[0].transactionType").value("USE"))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        verify(transactionService).getTransactionHistory(
+                "1000000000", TransactionType.USE, null, null, 1);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.account.engine;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessLogicHandlerTest {
+
+    private final Map<String, TransactionDto> pendingTransactions = new ConcurrentHashMap<>();
+    private final BusinessLogicHandler handler = new BusinessLogicHandler(pendingTransactions);
+
+    private final AccountSnapshot account =
+            new AccountSnapshot(7L, "1000000012", 1L, 10000L, 0L, true, false);
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 성공")
+    void useSuccess() {
+        //given
+        EngineCommand command = use(1L, 1000L, account);
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isNull();
+        assertThat(command.getAccountId()).isEqualTo(7L);
+        assertThat(command.getResult().getTransactionResultType())
+                .isEqualTo(TransactionResultType.S);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(9000L);
+        assertThat(pendingTransactions)
+                .containsKey(command.getResult().getTransactionId());
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 두 번째 명령부터는 메모리 잔액 사용")
+    void useTwice() {
+        //given
+        handler.onEvent(use(1L, 1000L, account), 0L, true);
+        EngineCommand second = use(1L, 2000L, null);
+
+        //when
+        handler.onEvent(second, 1L, true);
+
+        //then
+        assertThat(second.getResult().getBalanceSnapshot()).isEqualTo(7000L);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 잔액 초과 시 실패 거래")
+    void useFail_AMOUNT_EXCEED_BALANCE() {
+        //given
+        EngineCommand command = use(1L, 10001L, account);
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isEqualTo(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        assertThat(command.getResult().getTransactionResultType())
+                .isEqualTo(TransactionResultType.F);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 승인으로 묶인 금액은 쓸 수 없음")
+    void useFail_HeldBalance() {
+        //given
+        EngineCommand command = use(1L, 2000L,
+                new AccountSnapshot(7L, "1000000012", 1L, 10000L, 9000L, true, false));
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isEqualTo(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 소유자 불일치")
+    void useFail_ACCOUNT_OWNER_UN_MATCH() {
+        //given
+        EngineCommand command = use(2L, 1000L, account);
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_OWNER_UN_MATCH);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 - 계좌 없음, 거래를 남기지 않음")
+    void useFail_ACCOUNT_NOT_FOUND() {
+        //given
+        EngineCommand command = use(1L, 1000L, null);
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+        assertThat(command.hasTransaction()).isFalse();
+        assertThat(pendingTransactions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 취소 - 성공")
+    void cancelSuccess() {
+        //given
+        EngineCommand used = use(1L, 1000L, account);
+        handler.onEvent(used, 0L, true);
+        EngineCommand command = cancel(used.getResult(), "1000000012", 1000L);
+
+        //when
+        handler.onEvent(command, 1L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isNull();
+        assertThat(command.getResult().getTransactionType())
+                .isEqualTo(TransactionType.CANCEL);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 취소 - 금액 불일치")
+    void cancelFail_TRANSACTION_AMOUNT_UN_MATCH() {
+        //given
+        EngineCommand used = use(1L, 1000L, account);
+        handler.onEvent(used, 0L, true);
+        EngineCommand command = cancel(used.getResult(), "1000000012", 500L);
+
+        //when
+        handler.onEvent(command, 1L, true);
+
+        //then
+        assertThat(command.getErrorCode())
+                .isEqualTo(ErrorCode.TRANSACTION_AMOUNT_UN_MATCH);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(9000L);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 취소 - 1년 지난 거래")
+    void cancelFail_TOO_OLD_TRANSACTION_TO_CANCEL() {
+        //given
+        TransactionDto old = TransactionDto.builder()
+                .accountNumber("1000000012")
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now().minusYears(1).minusDays(1))
+                .build();
+        EngineCommand command = new EngineCommand();
+        command.prepareCancel(old, null, "1000000012", 1000L, account,
+                new CompletableFuture<>());
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode())
+                .isEqualTo(ErrorCode.TOO_OLD_TRANSACTION_TO_CANCEL);
+    }
+
+    @Test
+    @DisplayName("엔진 잔액 사용 취소 - 이체 거래는 취소할 수 없음")
+    void cancelFail_TransferLeg() {
+        //given
+        TransactionDto transfer = TransactionDto.builder()
+                .accountNumber("1000000012")
+                .transactionType(TransactionType.TRANSFER_OUT)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .transactionId("transactionId")
+                .transactedAt(LocalDateTime.now())
+                .build();
+        EngineCommand command = new EngineCommand();
+        command.prepareCancel(transfer, null, "1000000012", 1000L, account,
+                new CompletableFuture<>());
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        assertThat(command.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST);
+        assertThat(command.getResult().getTransactionResultType())
+                .isEqualTo(TransactionResultType.F);
+        assertThat(command.getResult().getBalanceSnapshot()).isEqualTo(10000L);
+    }
+
+    private static EngineCommand use(Long userId, Long amount, AccountSnapshot loaded) {
+        EngineCommand command = new EngineCommand();
+        command.prepareUse(userId, "1000000012", amount, loaded, new CompletableFuture<>());
+        return command;
+    }
+
+    private static EngineCommand cancel(TransactionDto original, String accountNumber,
+                                        Long amount) {
+        EngineCommand command = new EngineCommand();
+        command.prepareCancel(original, null, accountNumber, amount, null,
+                new CompletableFuture<>());
+        return command;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.account.engine;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.repository.LedgerJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseWriteHandlerTest {
+
+    @Mock
+    private LedgerJdbcRepository ledgerJdbcRepository;
+
+    private final Map<String, TransactionDto> pendingTransactions = new ConcurrentHashMap<>();
+    private final AtomicBoolean halted = new AtomicBoolean();
+
+    @Test
+    @DisplayName("엔진 DB 반영 - 재시도 횟수를 넘기면 새 명령을 막고, 반영될 때까지 버리지 않음")
+    void flush_HaltsUntilPersisted() throws Exception {
+        //given
+        EngineCommand command = new EngineCommand();
+        command.prepareUse(1L, "1000000012", 1000L,
+                new AccountSnapshot(7L, "1000000012", 1L, 10000L, 0L, true, false),
+                new CompletableFuture<>());
+        new BusinessLogicHandler(pendingTransactions).onEvent(command, 0L, true);
+
+        AtomicBoolean haltedBeforeSuccess = new AtomicBoolean();
+        willAnswer(invocation -> {
+            throw new DataAccessResourceFailureException("db down");
+        }).willAnswer(invocation -> {
+            throw new DataAccessResourceFailureException("db down");
+        }).willAnswer(invocation -> {
+            haltedBeforeSuccess.set(halted.get());
+            return null;
+        }).given(ledgerJdbcRepository).write(anyList());
+        DatabaseWriteHandler handler = new DatabaseWriteHandler(ledgerJdbcRepository,
+                pendingTransactions, halted, 500, 1);
+
+        //when
+        handler.onEvent(command, 0L, true);
+
+        //then
+        verify(ledgerJdbcRepository, times(3)).write(anyList());
+        assertThat(haltedBeforeSuccess).isTrue();
+        assertThat(halted).isFalse();
+        assertThat(pendingTransactions).isEmpty();
+    }
+}
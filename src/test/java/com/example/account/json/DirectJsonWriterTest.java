@@ -0,0 +1,119 @@
+package com.example.account.json;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.QueryTransactionResponse;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.exception.ErrorResponse;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectJsonWriterTest {
+
+    // 스프링 부트 기본 ObjectMapper 와 같은 설정
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    @DisplayName("잔액 사용 응답 - Jackson 과 같은 JSON")
+    void useResponse() throws Exception {
+        for (LocalDateTime transactedAt : List.of(
+                LocalDateTime.of(2022, 6, 1, 12, 30, 15, 123_456_789),
+                LocalDateTime.of(2022, 6, 1, 12, 30, 15, 120_000_000),
+                LocalDateTime.of(2022, 6, 1, 12, 30, 0),
+                LocalDateTime.of(999, 1, 2, 3, 4, 5, 1))) {
+            UseBalance.Response response = new UseBalance.Response("1000000000",
+                    TransactionResultType.S, "5fc371d3d0ff455aa8b1c5d30d23f28c",
+                    1000L, transactedAt);
+
+            DirectJsonWriter writer = DirectJsonWriter.acquire();
+            TransactionJsonSerializer.write(writer, response);
+
+            assertThat(written(writer)).isEqualTo(objectMapper.writeValueAsString(response));
+        }
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 응답 - 널 필드")
+    void cancelResponse_NullFields() throws Exception {
+        CancelBalance.Response response = new CancelBalance.Response("1000000000",
+                TransactionResultType.F, null, null, null);
+
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer, response);
+
+        assertThat(written(writer)).isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("거래 확인 응답 - 이스케이프가 필요한 문자열")
+    void queryResponse_Escape() throws Exception {
+        QueryTransactionResponse response = new QueryTransactionResponse("\"계좌\"\\\n\t\u0001😀",
+                TransactionType.CANCEL, TransactionResultType.S, "id",
+                Long.MIN_VALUE, LocalDateTime.of(2022, 12, 31, 23, 59, 59, 999_999_999));
+
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer, response);
+
+        assertThat(written(writer)).isEqualTo(objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("계좌 목록 응답")
+    void accountInfoList() throws Exception {
+        List<AccountInfo> accounts = List.of(
+                new AccountInfo("1000000000", 0L),
+                new AccountInfo("1000000001", -1234567890123L));
+
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer, accounts);
+
+        assertThat(written(writer)).isEqualTo(objectMapper.writeValueAsString(accounts));
+        assertThat(written(emptyList())).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("에러 응답 - 미리 만든 본문과 직접 만든 본문")
+    void errorResponse() throws Exception {
+        for (ErrorResponse response : List.of(
+                ErrorResponse.createErrorResponse(
+                        new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE), "/transaction/use"),
+                ErrorResponse.builder()
+                        .timeStamp(LocalDateTime.of(2022, 6, 1, 0, 0))
+                        .httpStatus(HttpStatus.BAD_REQUEST)
+                        .errorName(ErrorCode.INVALID_REQUEST.name())
+                        .errorMessage("custom \"message\"")
+                        .path(null)
+                        .build())) {
+            DirectJsonWriter writer = DirectJsonWriter.acquire();
+            ErrorResponseJsonSerializer.write(writer, response);
+
+            assertThat(written(writer)).isEqualTo(objectMapper.writeValueAsString(response));
+        }
+    }
+
+    private static DirectJsonWriter emptyList() {
+        DirectJsonWriter writer = DirectJsonWriter.acquire();
+        TransactionJsonSerializer.write(writer, List.of());
+        return writer;
+    }
+
+    private static String written(DirectJsonWriter writer) {
+        return new String(writer.buffer(), 0, writer.size(), StandardCharsets.UTF_8);
+    }
+}
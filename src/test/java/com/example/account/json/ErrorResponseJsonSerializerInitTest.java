@@ -0,0 +1,82 @@
+package com.example.account.json;
+
+import com.example.account.exception.AccountException;
+import com.example.account.exception.ErrorResponse;
+import com.example.account.type.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseJsonSerializerInitTest {
+
+    private static final String PACKAGE_PREFIX = "com.example.account.";
+
+    @Test
+    @DisplayName("에러 응답 직렬화 - 쓰는 도중 클래스가 처음 초기화되어도 올바른 JSON")
+    void firstWriteInitializesPrebuiltBodies() throws Exception {
+        //given
+        // 이미 로드된 클래스와 섞이지 않도록 새 클래스 로더에서 처음부터 초기화한다.
+        ClassLoader isolated = new IsolatedClassLoader(getClass().getClassLoader());
+        Class<?> probe = isolated.loadClass(Probe.class.getName());
+
+        //when
+        String json = (String) probe.getMethod("writeFirstError").invoke(null);
+
+        //then
+        JsonNode node = new ObjectMapper().readTree(json);
+        assertThat(node.get("errorName").asText()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND.name());
+        assertThat(node.get("path").asText()).isEqualTo("/transaction/use");
+        assertThat(node.get("httpStatus").asText()).isEqualTo("NOT_FOUND");
+    }
+
+    /**
+     * 새 클래스 로더에서 실행된다. DirectJsonHttpMessageConverter 처럼 현재 스레드의 writer 를 받은 뒤
+     * ErrorResponseJsonSerializer 를 처음 사용한다.
+     */
+    public static class Probe {
+        public static String writeFirstError() {
+            DirectJsonWriter writer = DirectJsonWriter.acquire();
+            ErrorResponseJsonSerializer.write(writer, ErrorResponse.createErrorResponse(
+                    new AccountException(ErrorCode.ACCOUNT_NOT_FOUND), "/transaction/use"));
+            return new String(writer.buffer(), 0, writer.size(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class IsolatedClassLoader extends ClassLoader {
+
+        IsolatedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PACKAGE_PREFIX))
+                return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    String resource = name.replace('.', '/') + ".class";
+                    try (InputStream in = getParent().getResourceAsStream(resource)) {
+                        if (in == null)
+                            throw new ClassNotFoundException(name);
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                if (resolve)
+                    resolveClass(loaded);
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.account.protocol;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryProtocolServerTest {
+
+    @Mock
+    private BinaryProtocolHandler handler;
+
+    private BinaryProtocolServer server;
+    private Socket socket;
+    private DataInputStream in;
+    private DataOutputStream out;
+
+    private final byte[] frame = new byte[BinaryCodec.MAX_FRAME_LENGTH];
+    private final ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.MAX_FRAME_LENGTH);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new BinaryProtocolServer(handler, 0, 2);
+        server.start();
+        socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        socket.close();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 잔액 사용 성공")
+    void useBalanceSuccess() throws Exception {
+        //given
+        LocalDateTime transactedAt = LocalDateTime.of(2022, 6, 1, 12, 30, 15, 123_000_000);
+        given(handler.handle(any()))
+                .willAnswer(invocation -> {
+                    BinaryRequest request = invocation.getArgument(0);
+                    assertThat(request.getOpCode()).isEqualTo(BinaryCodec.OP_USE);
+                    assertThat(request.getUserId()).isEqualTo(1L);
+                    return TransactionDto.builder()
+                            .accountNumber(request.getAccountNumber())
+                            .transactionType(TransactionType.USE)
+                            .transactionResultType(TransactionResultType.S)
+                            .amount(request.getAmount())
+                            .balanceSnapshot(900L)
+                            .transactionId("5fc371d3d0ff455aa8b1c5d30d23f28c")
+                            .transactedAt(transactedAt)
+                            .build();
+                });
+
+        //when
+        send(useRequest(7L, "1000000000", 100L));
+        BinaryResponse response = receive();
+
+        //then
+        assertThat(response.isOk()).isTrue();
+        assertThat(response.getRequestId()).isEqualTo(7L);
+        assertThat(response.getTransactionType()).isEqualTo(TransactionType.USE);
+        assertThat(response.getTransactionResultType()).isEqualTo(TransactionResultType.S);
+        assertThat(response.getAccountNumber()).isEqualTo("1000000000");
+        assertThat(response.getAmount()).isEqualTo(100L);
+        assertThat(response.getBalanceSnapshot()).isEqualTo(900L);
+        assertThat(response.getTransactionId()).isEqualTo("5fc371d3d0ff455aa8b1c5d30d23f28c");
+        assertThat(response.getTransactedAt()).isEqualTo(transactedAt);
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 실패 응답과 연속 요청")
+    void useBalanceFail_Pipelined() throws Exception {
+        //given
+        given(handler.handle(any()))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        //when
+        send(useRequest(1L, "1000000000", 100L));
+        send(useRequest(2L, "1000000000", 200L));
+        BinaryResponse first = receive();
+        BinaryResponse second = receive();
+
+        //then
+        assertThat(first.isOk()).isFalse();
+        assertThat(first.getRequestId()).isEqualTo(1L);
+        assertThat(first.getErrorCode()).isEqualTo(ErrorCode.AMOUNT_EXCEED_BALANCE.name());
+        assertThat(second.getRequestId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 예상하지 못한 예외는 RESULT_UNKNOWN 으로 응답하고 연결 유지")
+    void unexpectedException_KeepsConnection() throws Exception {
+        //given
+        given(handler.handle(any()))
+                .willThrow(new IllegalStateException("redis down"))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        //when
+        send(useRequest(1L, "1000000000", 100L));
+        send(useRequest(2L, "1000000000", 200L));
+        BinaryResponse first = receive();
+        BinaryResponse second = receive();
+
+        //then
+        assertThat(first.getRequestId()).isEqualTo(1L);
+        assertThat(first.getErrorCode()).isEqualTo(ErrorCode.RESULT_UNKNOWN.name());
+        assertThat(second.getRequestId()).isEqualTo(2L);
+        assertThat(second.getErrorCode()).isEqualTo(ErrorCode.AMOUNT_EXCEED_BALANCE.name());
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 잘못된 프레임 길이면 앞선 응답을 보낸 뒤 연결을 끊는다")
+    void invalidFrameLength_FlushesEarlierResponses() throws Exception {
+        //given
+        given(handler.handle(any()))
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        //when
+        // 앞선 요청과 잘못된 프레임을 한 번에 보내 응답이 버퍼에 남아 있는 상태에서 끊기게 한다.
+        BinaryCodec.writeRequest(out, buffer, useRequest(1L, "1000000000", 100L));
+        out.writeInt(BinaryCodec.MAX_FRAME_LENGTH + 1);
+        out.flush();
+
+        //then
+        assertThat(receive().getRequestId()).isEqualTo(1L);
+        assertThat(BinaryCodec.readResponse(in, frame, new BinaryResponse())).isFalse();
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 잘못된 프레임 길이면 연결을 끊는다")
+    void invalidFrameLength() throws Exception {
+        //given
+        //when
+        out.writeInt(BinaryCodec.MAX_FRAME_LENGTH + 1);
+        out.flush();
+
+        //then
+        assertThat(BinaryCodec.readResponse(in, frame, new BinaryResponse())).isFalse();
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 - 잔액의 원본이 DB 가 아닌 모드에서는 시작하지 않는다")
+    void rejectedWhenBalanceOutsideDb() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> new BinaryProtocolServer(handler, 0, 2, "engine"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new BinaryProtocolServer(handler, 0, 2, "redis"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private BinaryRequest useRequest(long requestId, String accountNumber, long amount) {
+        BinaryRequest request = new BinaryRequest();
+        request.setOpCode(BinaryCodec.OP_USE);
+        request.setRequestId(requestId);
+        request.setUserId(1L);
+        request.setAccountNumber(accountNumber);
+        request.setAmount(amount);
+        return request;
+    }
+
+    private void send(BinaryRequest request) throws Exception {
+        BinaryCodec.writeRequest(out, buffer, request);
+        out.flush();
+    }
+
+    private BinaryResponse receive() throws Exception {
+        BinaryResponse response = new BinaryResponse();
+        assertThat(BinaryCodec.readResponse(in, frame, response)).isTrue();
+        return response;
+    }
+}
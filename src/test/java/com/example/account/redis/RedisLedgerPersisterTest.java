@@ -0,0 +1,121 @@
+package com.example.account.redis;
+
+import com.example.account.repository.LedgerJdbcRepository;
+import com.example.account.type.TransactionResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.Codec;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLedgerPersisterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RStream<String, String> stream;
+
+    @Mock
+    private LedgerJdbcRepository ledgerJdbcRepository;
+
+    private RedisLedgerPersister persister;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.<String, String>getStream(anyString(), any(Codec.class)))
+                .willReturn(stream);
+        persister = new RedisLedgerPersister(redissonClient, ledgerJdbcRepository,
+                "node-1", 10);
+    }
+
+    @Test
+    @DisplayName("거래 스트림 저장 - 이미 저장된 거래는 건너뛰고 모두 ack")
+    @SuppressWarnings("unchecked")
+    void persistBatch() {
+        //given
+        Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+        messages.put(new StreamMessageId(1L, 0L), fields("transactionId1", "9000"));
+        messages.put(new StreamMessageId(2L, 0L), fields("transactionId2", "8000"));
+        given(stream.readGroup("ledger-persister", "node-1", 10, StreamMessageId.ALL))
+                .willReturn(messages);
+        given(ledgerJdbcRepository.findExistingTransactionIds(anyCollection()))
+                .willReturn(Set.of("transactionId1"));
+        ArgumentCaptor<List<RedisLedgerRecord>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        int read = persister.persistBatch(StreamMessageId.ALL);
+
+        //then
+        assertThat(read).isEqualTo(2);
+        verify(ledgerJdbcRepository).write(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        RedisLedgerRecord record = captor.getValue().get(0);
+        assertThat(record.getAccountId()).isEqualTo(7L);
+        assertThat(record.getOwnerId()).isEqualTo(1L);
+        assertThat(record.isSucceeded()).isTrue();
+        assertThat(record.getResult().getTransactionId()).isEqualTo("transactionId2");
+        assertThat(record.getResult().getBalanceSnapshot()).isEqualTo(8000L);
+        verify(stream).ack("ledger-persister",
+                new StreamMessageId(1L, 0L), new StreamMessageId(2L, 0L));
+        verify(stream).remove(new StreamMessageId(1L, 0L), new StreamMessageId(2L, 0L));
+    }
+
+    @Test
+    @DisplayName("거래 스트림 저장 - DB 저장에 실패하면 ack 하지 않음")
+    void persistBatch_WriteFailed() {
+        //given
+        Map<StreamMessageId, Map<String, String>> messages = new LinkedHashMap<>();
+        messages.put(new StreamMessageId(1L, 0L), fields("transactionId1", "9000"));
+        given(stream.readGroup("ledger-persister", "node-1", 10, StreamMessageId.NEVER_DELIVERED))
+                .willReturn(messages);
+        given(ledgerJdbcRepository.findExistingTransactionIds(anyCollection()))
+                .willReturn(Set.of());
+        willThrow(new RuntimeException("db down"))
+                .given(ledgerJdbcRepository).write(any());
+
+        //when
+        assertThatThrownBy(() -> persister.persistBatch(StreamMessageId.NEVER_DELIVERED))
+                .isInstanceOf(RuntimeException.class);
+
+        //then
+        verify(stream, never()).ack(anyString(), any());
+    }
+
+    private static Map<String, String> fields(String transactionId, String balanceSnapshot) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("transactionId", transactionId);
+        fields.put("transactionType", "USE");
+        fields.put("transactionResultType", TransactionResultType.S.name());
+        fields.put("accountId", "7");
+        fields.put("ownerId", "1");
+        fields.put("accountNumber", "1000000012");
+        fields.put("amount", "1000");
+        fields.put("balanceSnapshot", balanceSnapshot);
+        fields.put("transactedAt", "1700000000000");
+        return fields;
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.account.redis;
+
+import com.example.account.dto.AccountSnapshot;
+import com.example.account.dto.TransactionDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.LedgerJdbcRepository;
+import com.example.account.service.TransactionService;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLedgerServiceTest {
+
+    private static RedisServer redisServer;
+    private static RedissonClient redissonClient;
+
+    @Mock
+    private LedgerJdbcRepository ledgerJdbcRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    private RedisLedgerService redisLedgerService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = RedisServer.builder()
+                .port(port)
+                .setting("maxmemory 16M")
+                .build();
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://127.0.0.1:" + port);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        redisLedgerService = new RedisLedgerService(redissonClient, ledgerJdbcRepository,
+                transactionService, 86400L);
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 사용 - 승인으로 묶인 금액은 쓸 수 없음")
+    void useFail_HeldBalance() {
+        //given
+        given(ledgerJdbcRepository.findAccount("1000000012"))
+                .willReturn(Optional.of(
+                        new AccountSnapshot(7L, "1000000012", 1L, 10000L, 9000L, true, false)));
+
+        //when
+        //then
+        assertThatThrownBy(() -> redisLedgerService.useBalance(1L, "1000000012", 2000L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AMOUNT_EXCEED_BALANCE);
+        assertThat(redisLedgerService.useBalance(1L, "1000000012", 1000L)
+                .getBalanceSnapshot()).isEqualTo(9000L);
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 사용 - 잔액을 나눈 계좌는 올리지 않고 거절")
+    void useFail_SplitAccount() {
+        //given
+        given(ledgerJdbcRepository.findAccount("1000000012"))
+                .willReturn(Optional.of(
+                        new AccountSnapshot(7L, "1000000012", 1L, 0L, 0L, true, true)));
+
+        //when
+        //then
+        assertThatThrownBy(() -> redisLedgerService.useBalance(1L, "1000000012", 1000L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNSUPPORTED_IN_WEB_MODE);
+        assertThat(balance()).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 사용 취소 - 이체 거래는 취소할 수 없고 잔액도 그대로")
+    void cancelFail_TransferLeg() {
+        //given
+        givenAccount();
+        given(transactionService.queryTransaction("transferId"))
+                .willReturn(original(TransactionType.TRANSFER_IN));
+
+        //when
+        //then
+        assertThatThrownBy(() -> redisLedgerService
+                .cancelBalance("transferId", "1000000012", 1000L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        assertThat(balance()).isEqualTo("10000");
+    }
+
+    @Test
+    @DisplayName("Redis 잔액 사용 취소 - DB 에서 올린 사용 거래는 취소")
+    void cancelSuccess_LoadedFromDb() {
+        //given
+        givenAccount();
+        given(transactionService.queryTransaction("useId"))
+                .willReturn(original(TransactionType.USE));
+
+        //when
+        TransactionDto result = redisLedgerService.cancelBalance("useId", "1000000012", 1000L);
+
+        //then
+        assertThat(result.getTransactionResultType()).isEqualTo(TransactionResultType.S);
+        assertThat(result.getBalanceSnapshot()).isEqualTo(11000L);
+        assertThat(balance()).isEqualTo("11000");
+    }
+
+    private void givenAccount() {
+        given(ledgerJdbcRepository.findAccount("1000000012"))
+                .willReturn(Optional.of(
+                        new AccountSnapshot(7L, "1000000012", 1L, 10000L, 0L, true, false)));
+    }
+
+    private static TransactionDto original(TransactionType transactionType) {
+        return TransactionDto.builder()
+                .accountNumber("1000000012")
+                .transactionType(transactionType)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .transactionId("originalId")
+                .transactedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String balance() {
+        return redissonClient.<String, String>getMap("LEDGER:ACCOUNT:1000000012",
+                StringCodec.INSTANCE).get("balance");
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.account.service;
+
+import com.example.account.dto.AccountInfo;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountEventHubTest {
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final AccountEventHub hub = new AccountEventHub(dispatcher, 2, 2, 60000L);
+
+    @Test
+    @DisplayName("계좌 변경 스트림 - 버퍼가 가득 차면 가장 오래된 변경을 버림")
+    void dropOldest() {
+        //given
+        RecordingSender sender = new RecordingSender();
+        AccountSubscription subscription = new AccountSubscription(1L, null, sender, 2);
+        assertThat(subscription.start(List.of())).isFalse();
+
+        //when
+        assertThat(subscription.offer(info("1000000000", 100L))).isTrue();
+        assertThat(subscription.offer(info("1000000000", 200L))).isFalse();
+        assertThat(subscription.offer(info("1000000000", 300L))).isFalse();
+        subscription.drain();
+
+        //then
+        assertThat(sender.balances()).containsExactly(200L, 300L);
+        assertThat(subscription.getDroppedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("계좌 변경 스트림 - 사용자와 계좌가 맞는 구독자에게만 보냄")
+    void publish() throws Exception {
+        //given
+        RecordingSender allAccounts = new RecordingSender();
+        RecordingSender oneAccount = new RecordingSender();
+        RecordingSender otherUser = new RecordingSender();
+        registerStarted(new AccountSubscription(1L, null, allAccounts, 2));
+        registerStarted(new AccountSubscription(1L, "1000000001", oneAccount, 2));
+        registerStarted(new AccountSubscription(2L, null, otherUser, 2));
+
+        //when
+        hub.publishAfterCommit(1L, info("1000000000", 100L));
+        hub.publishAfterCommit(1L, info("1000000001", 200L));
+        awaitDispatcher();
+
+        //then
+        assertThat(allAccounts.balances()).containsExactly(100L, 200L);
+        assertThat(oneAccount.balances()).containsExactly(200L);
+        assertThat(otherUser.balances()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계좌 변경 스트림 - 전송에 실패한 구독자는 정리")
+    void publish_SendFailed() throws Exception {
+        //given
+        RecordingSender broken = new RecordingSender();
+        broken.fail = true;
+        AccountSubscription subscription = new AccountSubscription(1L, null, broken, 2);
+        registerStarted(subscription);
+
+        //when
+        hub.publishAfterCommit(1L, info("1000000000", 100L));
+        awaitDispatcher();
+
+        //then
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(broken.closed).isTrue();
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        assertThat(hub.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계좌 변경 스트림 - 현재 계좌 정보를 읽기 전에 커밋된 변경도 현재 정보 뒤에 보냄")
+    void start_SendsSnapshotBeforeBufferedChanges() throws Exception {
+        //given
+        RecordingSender sender = new RecordingSender();
+        AccountSubscription subscription = new AccountSubscription(1L, null, sender, 4);
+        hub.register(subscription);
+        hub.publishAfterCommit(1L, info("1000000001", 500L));
+
+        //when
+        hub.start(subscription, List.of(info("1000000000", 1000L), info("1000000001", 500L)));
+        awaitDispatcher();
+
+        //then
+        assertThat(sender.balances()).containsExactly(1000L, 500L, 500L);
+    }
+
+    @Test
+    @DisplayName("계좌 변경 스트림 - 사용자별 구독 수 초과")
+    void register_TOO_MANY_REQUESTS() {
+        //given
+        hub.register(new AccountSubscription(1L, null, new RecordingSender(), 2));
+        hub.register(new AccountSubscription(1L, null, new RecordingSender(), 2));
+
+        //when
+        //then
+        assertThatThrownBy(() -> hub.register(
+                new AccountSubscription(1L, null, new RecordingSender(), 2)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(hub.subscriberCount()).isEqualTo(2);
+    }
+
+    private void registerStarted(AccountSubscription subscription) {
+        hub.register(subscription);
+        hub.start(subscription, List.of());
+    }
+
+    private void awaitDispatcher() throws InterruptedException {
+        dispatcher.shutdown();
+        assertThat(dispatcher.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static AccountInfo info(String accountNumber, Long balance) {
+        return AccountInfo.builder()
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .build();
+    }
+
+    private static class RecordingSender implements AccountSubscription.Sender {
+
+        private final List<AccountInfo> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean fail;
+        private volatile boolean closed;
+
+        @Override
+        public void send(AccountInfo accountInfo) throws IOException {
+            if (fail)
+                throw new IOException("broken pipe");
+            sent.add(accountInfo);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<Long> balances() {
+            return sent.stream().map(AccountInfo::getBalance).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+
+    @Mock
+    private RAtomicLong next;
+
+    @Test
+    @DisplayName("계좌 번호 예약 - Redis 에 값이 없으면 DB 의 다음 번호부터 예약")
+    void reserve_FromFloor() {
+        //given
+        AccountNumberAllocator allocator = new AccountNumberAllocator(next);
+        given(next.get()).willReturn(0L);
+        given(next.compareAndSet(0L, 1000000015L)).willReturn(true);
+
+        //when
+        long first = allocator.reserve(1000000010L, 5);
+
+        //then
+        assertThat(first).isEqualTo(1000000010L);
+    }
+
+    @Test
+    @DisplayName("계좌 번호 예약 - 다른 요청이 먼저 예약하면 그 다음 구간을 다시 예약")
+    void reserve_RetryAfterConflict() {
+        //given
+        AccountNumberAllocator allocator = new AccountNumberAllocator(next);
+        given(next.get()).willReturn(1000000010L, 1000000012L);
+        given(next.compareAndSet(1000000010L, 1000000013L)).willReturn(false);
+        given(next.compareAndSet(1000000012L, 1000000015L)).willReturn(true);
+
+        //when
+        long first = allocator.reserve(1000000010L, 3);
+
+        //then
+        assertThat(first).isEqualTo(1000000012L);
+        verify(next).compareAndSet(1000000012L, 1000000015L);
+    }
+}
@@ -3,6 +3,9 @@ package com.example.account.service;
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import com.example.account.dto.AccountDto;
+import com.example.account.dto.BulkCreateAccount;
+import com.example.account.dto.CreateAccount;
+import com.example.account.dto.UserAccountCount;
 import com.example.account.exception.AccountException;
 import com.example.account.repository.AccountUserRepository;
 import com.example.account.type.AccountStatus;
@@ -16,8 +19,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +41,21 @@ class AccountServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private BalanceSlotService balanceSlotService;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private AccountEventHub accountEventHub;
+
+    @Mock
+    private AccountNumberAllocator accountNumberAllocator;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -49,6 +72,8 @@ class AccountServiceTest {
         given(accountRepository.findFirstByOrderByIdDesc())
                 .willReturn(Optional.of(Account.builder()
                         .accountNumber("10002").build()));
+        given(accountNumberAllocator.reserve(10003L, 1))
+                .willReturn(10003L);
 
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
@@ -83,6 +108,8 @@ class AccountServiceTest {
 
         given(accountRepository.findFirstByOrderByIdDesc())
                 .willReturn(Optional.empty());
+        given(accountNumberAllocator.reserve(1000000000L, 1))
+                .willReturn(1000000000L);
 
         given(accountRepository.save(any()))
                 .willReturn(Account.builder()
@@ -350,6 +377,41 @@ class AccountServiceTest {
                         AccountDto.fromEntity(account3));
     }
 
+    @Test
+    @DisplayName("계좌 조회 - 새로 조회하면 진행 중인 조회에 합치지 않음")
+    void loadAllAccountInfo_BypassesSingleFlight() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        given(accountRepository.findByAccountUser(any()))
+                .willAnswer(invocation -> {
+                    if (calls.getAndIncrement() == 0) {
+                        entered.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    return List.of();
+                });
+        CompletableFuture<List<AccountDto>> inFlight =
+                CompletableFuture.supplyAsync(() -> accountService.getAllAccountInfo(1L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        List<AccountDto> accountInfo = accountService.loadAllAccountInfo(1L);
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(accountInfo).isEmpty();
+        verify(accountRepository, times(2)).findByAccountUser(user);
+    }
+
     @DisplayName("계좌 조회 - 실패 [유저가 없는 케이스]")
     @Test
     void getAllAccount_fail_UserNotFound () throws Exception{
@@ -365,4 +427,117 @@ class AccountServiceTest {
 
     }
 
+    @Test
+    @DisplayName("계좌 대량 생성 - 성공 [연속된 계좌 번호, 건별 실패]")
+    void createAccountsSuccess() throws Exception {
+        //given
+        AccountUser kim = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        AccountUser lee = AccountUser.builder()
+                .id(2L)
+                .name("Lee")
+                .build();
+        given(accountUserRepository.findAllById(anyList()))
+                .willReturn(List.of(kim, lee));
+        given(accountRepository.countByAccountUserIds(anyList()))
+                .willReturn(List.of(accountCount(1L, 9L), accountCount(2L, 10L)));
+        given(accountRepository.findFirstByOrderByIdDesc())
+                .willReturn(Optional.of(Account.builder()
+                        .accountNumber("1000000009").build()));
+        given(accountNumberAllocator.reserve(1000000010L, 1))
+                .willReturn(1000000010L);
+        given(accountRepository.saveAll(anyList()))
+                .willAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        //when
+        List<BulkCreateAccount.Item> results = accountService.createAccounts(List.of(
+                new CreateAccount.Request(1L, 1000L),
+                new CreateAccount.Request(3L, 1000L),
+                new CreateAccount.Request(2L, 1000L),
+                new CreateAccount.Request(1L, 1000L)));
+
+        //then
+        verify(accountRepository, times(1)).saveAll(anyList());
+        assertThat(results).extracting(BulkCreateAccount.Item::getAccountNumber)
+                .containsExactly("1000000010", null, null, null);
+        assertThat(results).extracting(BulkCreateAccount.Item::getErrorCode)
+                .containsExactly(null, ErrorCode.USER_NOT_FOUND,
+                        ErrorCode.EXCEED_MAX_ACCOUNT_SIZE, ErrorCode.EXCEED_MAX_ACCOUNT_SIZE);
+    }
+
+    @Test
+    @DisplayName("계좌 대량 생성 - 첫 계좌 번호")
+    void createAccountsSuccess_FirstAccount() throws Exception {
+        //given
+        AccountUser kim = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        given(accountUserRepository.findAllById(anyList()))
+                .willReturn(List.of(kim));
+        given(accountRepository.countByAccountUserIds(anyList()))
+                .willReturn(List.of());
+        given(accountRepository.findFirstByOrderByIdDesc())
+                .willReturn(Optional.empty());
+        given(accountNumberAllocator.reserve(1000000000L, 2))
+                .willReturn(1000000000L);
+        given(accountRepository.saveAll(anyList()))
+                .willAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        //when
+        List<BulkCreateAccount.Item> results = accountService.createAccounts(List.of(
+                new CreateAccount.Request(1L, 1000L),
+                new CreateAccount.Request(1L, 2000L)));
+
+        //then
+        assertThat(results).extracting(BulkCreateAccount.Item::getAccountNumber)
+                .containsExactly("1000000000", "1000000001");
+    }
+
+    @Test
+    @DisplayName("계좌 대량 생성 - 다른 생성이 먼저 예약한 번호 다음 구간을 사용")
+    void createAccountsSuccess_ReservedBlock() throws Exception {
+        //given
+        AccountUser kim = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        given(accountUserRepository.findAllById(anyList()))
+                .willReturn(List.of(kim));
+        given(accountRepository.countByAccountUserIds(anyList()))
+                .willReturn(List.of());
+        given(accountRepository.findFirstByOrderByIdDesc())
+                .willReturn(Optional.of(Account.builder()
+                        .accountNumber("1000000009").build()));
+        given(accountNumberAllocator.reserve(1000000010L, 2))
+                .willReturn(1000000015L);
+        given(accountRepository.saveAll(anyList()))
+                .willAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        //when
+        List<BulkCreateAccount.Item> results = accountService.createAccounts(List.of(
+                new CreateAccount.Request(1L, 1000L),
+                new CreateAccount.Request(1L, 2000L)));
+
+        //then
+        assertThat(results).extracting(BulkCreateAccount.Item::getAccountNumber)
+                .containsExactly("1000000015", "1000000016");
+    }
+
+    private static UserAccountCount accountCount(Long userId, Long count) {
+        return new UserAccountCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getAccountCount() {
+                return count;
+            }
+        };
+    }
+
 }
\ No newline at end of file
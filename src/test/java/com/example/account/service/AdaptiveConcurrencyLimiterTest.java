@@ -0,0 +1,76 @@
+package com.example.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            4, 2, 5, Duration.ofMillis(200), 0.5, clock::get);
+
+    @Test
+    @DisplayName("동시 처리 한도 - 한도를 넘으면 거절")
+    void tryAcquireOverLimit() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        //when
+        boolean acquired = limiter.tryAcquire();
+
+        //then
+        assertThat(acquired).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 처리 한도 - 빠른 응답이 이어지면 최대 한도까지 증가")
+    void releaseIncrease() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        //when
+        limiter.release(FAST, false);
+        limiter.release(FAST, false);
+        limiter.release(FAST, false);
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 처리 한도 - 느린 응답이 몰려도 기준 시간마다 한 번만 감소")
+    void releaseDecrease() {
+        //given
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        //when
+        limiter.release(SLOW, false);
+        limiter.release(SLOW, false);
+        int afterBurst = limiter.getLimit();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        limiter.release(FAST, true);
+
+        //then
+        assertThat(afterBurst).isEqualTo(2);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+}
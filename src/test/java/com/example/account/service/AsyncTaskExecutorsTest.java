@@ -0,0 +1,76 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncTaskExecutorsTest {
+
+    private final AsyncTaskExecutors asyncTaskExecutors = new AsyncTaskExecutors(1, 1, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        asyncTaskExecutors.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 풀 - 성공")
+    void supplySuccess() throws Exception {
+        //given
+        //when
+        CompletableFuture<String> write = asyncTaskExecutors.supplyWrite(
+                () -> Thread.currentThread().getName());
+        CompletableFuture<String> read = asyncTaskExecutors.supplyRead(
+                () -> Thread.currentThread().getName());
+
+        //then
+        assertThat(write.get(1, TimeUnit.SECONDS)).startsWith("async-write-");
+        assertThat(read.get(1, TimeUnit.SECONDS)).startsWith("async-read-");
+    }
+
+    @Test
+    @DisplayName("작업 풀 - 대기열이 가득 차면 SERVER_BUSY")
+    void supplyFail_SERVER_BUSY() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        asyncTaskExecutors.supplyWrite(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        });
+        started.await(1, TimeUnit.SECONDS);
+        asyncTaskExecutors.supplyWrite(() -> 2);
+
+        //when
+        CompletableFuture<Integer> rejected = asyncTaskExecutors.supplyWrite(() -> 3);
+        CompletableFuture<Integer> read = asyncTaskExecutors.supplyRead(() -> 4);
+
+        //then
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AccountException.class)
+                .extracting(Throwable::getCause)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+        assertThat(read.get(1, TimeUnit.SECONDS)).isEqualTo(4);
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
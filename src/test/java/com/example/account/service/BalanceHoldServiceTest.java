@@ -0,0 +1,215 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.BalanceHold;
+import com.example.account.dto.BalanceHoldDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.BalanceHoldRepository;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.HoldStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHoldServiceTest {
+
+    private static final String HOLD_ID = "0123456789abcdef0123456789abcdef";
+
+    @Mock
+    private BalanceHoldRepository balanceHoldRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    private BalanceHoldService balanceHoldService;
+
+    private final AccountUser user = AccountUser.builder().id(1L).name("Kim").build();
+
+    @BeforeEach
+    void setUp() {
+        balanceHoldService = new BalanceHoldService(balanceHoldRepository, accountRepository,
+                accountUserRepository, transactionService, balanceCache, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("승인 - 성공 [잔액은 그대로, 사용 가능 잔액만 줄어듦]")
+    void authorizeSuccess() {
+        //given
+        Account account = account(1000L, null);
+        given(accountUserRepository.findById(1L)).willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(balanceHoldRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        ArgumentCaptor<BalanceHold> captor = ArgumentCaptor.forClass(BalanceHold.class);
+
+        //when
+        BalanceHoldDto hold = balanceHoldService.authorize(1L, "1000000000", 300L);
+
+        //then
+        verify(balanceHoldRepository).save(captor.capture());
+        assertThat(captor.getValue().getHoldStatus()).isEqualTo(HoldStatus.AUTHORIZED);
+        assertThat(hold.getHoldId()).hasSize(32);
+        assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        assertThat(account.getBalance()).isEqualTo(1000L);
+        assertThat(account.getAvailableBalance()).isEqualTo(700L);
+        verify(balanceCache).updateAfterCommit(account);
+    }
+
+    @Test
+    @DisplayName("승인 - 실패 [묶어 둔 금액을 빼면 잔액 부족]")
+    void authorizeFail_AMOUNT_EXCEED_BALANCE() {
+        //given
+        Account account = account(1000L, 800L);
+        given(accountUserRepository.findById(1L)).willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+
+        //when
+        //then
+        assertThatThrownBy(() -> balanceHoldService.authorize(1L, "1000000000", 300L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AMOUNT_EXCEED_BALANCE);
+        verify(balanceHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("매입 - 성공 [묶어 둔 금액으로 잔액 사용 거래 기록]")
+    void captureSuccess() {
+        //given
+        Account account = account(1000L, 300L);
+        BalanceHold hold = hold(account, LocalDateTime.now().plusMinutes(1));
+        given(balanceHoldRepository.findByHoldId(HOLD_ID)).willReturn(Optional.of(hold));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(balanceHoldRepository.updateHoldStatus(eq(10L), eq(HoldStatus.AUTHORIZED),
+                eq(HoldStatus.CAPTURED), any())).willReturn(1);
+
+        //when
+        balanceHoldService.capture(HOLD_ID, "1000000000", 300L);
+
+        //then
+        verify(transactionService).captureHeldBalance(account, 300L);
+    }
+
+    @Test
+    @DisplayName("매입 - 실패 [만료와 겹쳐 조건부 갱신이 0 건]")
+    void captureFail_HOLD_ALREADY_FINISHED() {
+        //given
+        Account account = account(1000L, 300L);
+        BalanceHold hold = hold(account, LocalDateTime.now().plusMinutes(1));
+        given(balanceHoldRepository.findByHoldId(HOLD_ID)).willReturn(Optional.of(hold));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(balanceHoldRepository.updateHoldStatus(anyLong(), any(), any(), any()))
+                .willReturn(0);
+
+        //when
+        //then
+        assertThatThrownBy(() -> balanceHoldService.capture(HOLD_ID, "1000000000", 300L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOLD_ALREADY_FINISHED);
+        verify(transactionService, never()).captureHeldBalance(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("매입 - 실패 [만료 시각이 지난 승인]")
+    void captureFail_HOLD_EXPIRED() {
+        //given
+        Account account = account(1000L, 300L);
+        BalanceHold hold = hold(account, LocalDateTime.now().minusSeconds(1));
+        given(balanceHoldRepository.findByHoldId(HOLD_ID)).willReturn(Optional.of(hold));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+
+        //when
+        //then
+        assertThatThrownBy(() -> balanceHoldService.capture(HOLD_ID, "1000000000", 300L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.HOLD_EXPIRED);
+        verify(balanceHoldRepository, never()).updateHoldStatus(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("승인 취소 - 성공 [묶어 둔 금액을 다시 사용 가능]")
+    void voidHoldSuccess() {
+        //given
+        Account account = account(1000L, 300L);
+        BalanceHold hold = hold(account, LocalDateTime.now().plusMinutes(1));
+        given(balanceHoldRepository.findByHoldId(HOLD_ID)).willReturn(Optional.of(hold));
+        given(accountRepository.findByAccountNumber("1000000000")).willReturn(Optional.of(account));
+        given(balanceHoldRepository.updateHoldStatus(eq(10L), eq(HoldStatus.AUTHORIZED),
+                eq(HoldStatus.VOIDED), any())).willReturn(1);
+
+        //when
+        BalanceHoldDto voided = balanceHoldService.voidHold(HOLD_ID, "1000000000");
+
+        //then
+        assertThat(voided.getHoldStatus()).isEqualTo(HoldStatus.VOIDED);
+        assertThat(account.getAvailableBalance()).isEqualTo(1000L);
+        verify(balanceCache).updateAfterCommit(account);
+    }
+
+    @Test
+    @DisplayName("만료 - 이미 매입된 승인은 그대로 둠")
+    void expire_alreadyCaptured() {
+        //given
+        Account account = account(1000L, 300L);
+        BalanceHold hold = hold(account, LocalDateTime.now().minusMinutes(1));
+        given(balanceHoldRepository.findByHoldId(HOLD_ID)).willReturn(Optional.of(hold));
+        given(balanceHoldRepository.updateHoldStatus(anyLong(), any(), any(), any()))
+                .willReturn(0);
+
+        //when
+        boolean expired = balanceHoldService.expire(HOLD_ID);
+
+        //then
+        assertThat(expired).isFalse();
+        assertThat(account.getAvailableBalance()).isEqualTo(700L);
+    }
+
+    private Account account(Long balance, Long heldBalance) {
+        return Account.builder()
+                .id(2L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(balance)
+                .heldBalance(heldBalance)
+                .build();
+    }
+
+    private static BalanceHold hold(Account account, LocalDateTime expiresAt) {
+        return BalanceHold.builder()
+                .id(10L)
+                .holdId(HOLD_ID)
+                .account(account)
+                .amount(300L)
+                .holdStatus(HoldStatus.AUTHORIZED)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
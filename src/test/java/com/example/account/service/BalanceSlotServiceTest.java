@@ -0,0 +1,151 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountBalanceSlot;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountBalanceSlotRepository;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSlotServiceTest {
+
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @Mock
+    private BalanceSlotRegistry balanceSlotRegistry;
+
+    @InjectMocks
+    private BalanceSlotService balanceSlotService;
+
+    private final Account account = Account.builder()
+            .id(1L)
+            .accountNumber("1000000000")
+            .accountStatus(AccountStatus.IN_USE)
+            .balance(0L)
+            .balanceSlotCount(3)
+            .build();
+
+    @Test
+    @DisplayName("슬롯 생성 - 잔액을 고르게 나누고 등록")
+    @SuppressWarnings("unchecked")
+    void createSlots() {
+        //given
+        ArgumentCaptor<List<AccountBalanceSlot>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        balanceSlotService.createSlots(account, 1000L);
+
+        //then
+        verify(accountBalanceSlotRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(AccountBalanceSlot::getBalance)
+                .containsExactly(334L, 333L, 333L);
+        verify(balanceSlotRegistry, times(1)).register("1000000000", 1L);
+    }
+
+    @Test
+    @DisplayName("슬롯 차감 - 잔액이 충분한 슬롯 하나에서 차감")
+    void debitSingleSlot() {
+        //given
+        given(accountBalanceSlotRepository.debit(eq(1L), anyInt(), eq(100L)))
+                .willReturn(1);
+
+        //when
+        int slotIndex = balanceSlotService.debit(account, 100L);
+
+        //then
+        ArgumentCaptor<Integer> captor = ArgumentCaptor.forClass(Integer.class);
+        verify(accountBalanceSlotRepository, times(1)).debit(eq(1L), captor.capture(), eq(100L));
+        assertThat(slotIndex).isEqualTo(captor.getValue());
+        verify(accountBalanceSlotRepository, never()).findForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("슬롯 차감 - 한 슬롯으로 부족하면 여러 슬롯에서 나눠 차감")
+    void debitAcrossSlots() {
+        //given
+        List<AccountBalanceSlot> slots = slots(300L, 300L, 300L);
+        given(accountBalanceSlotRepository.debit(eq(1L), anyInt(), eq(500L)))
+                .willReturn(0);
+        given(accountBalanceSlotRepository.findForUpdate(1L))
+                .willReturn(slots);
+
+        //when
+        balanceSlotService.debit(account, 500L);
+
+        //then
+        verify(accountBalanceSlotRepository, times(3)).debit(eq(1L), anyInt(), eq(500L));
+        assertThat(slots).extracting(AccountBalanceSlot::getBalance)
+                .containsExactly(0L, 100L, 300L);
+    }
+
+    @Test
+    @DisplayName("슬롯 차감 - 실패 [슬롯 잔액 합보다 큰 경우]")
+    void debitFail_AMOUNT_EXCEED_BALANCE() {
+        //given
+        given(accountBalanceSlotRepository.debit(eq(1L), anyInt(), eq(1000L)))
+                .willReturn(0);
+        given(accountBalanceSlotRepository.findForUpdate(1L))
+                .willReturn(slots(300L, 300L, 300L));
+
+        //when
+        //then
+        assertThatThrownBy(() -> balanceSlotService.debit(account, 1000L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+
+    @Test
+    @DisplayName("슬롯 재분배 - 치우친 슬롯만 다시 나눔")
+    void rebalance() {
+        //given
+        List<AccountBalanceSlot> skewed = slots(10L, 500L, 390L);
+        given(accountBalanceSlotRepository.findForUpdate(1L))
+                .willReturn(skewed);
+        given(accountBalanceSlotRepository.findForUpdate(2L))
+                .willReturn(slots(250L, 300L, 350L));
+
+        //when
+        boolean rebalanced = balanceSlotService.rebalance(1L, 0.25);
+        boolean balanced = balanceSlotService.rebalance(2L, 0.25);
+
+        //then
+        assertThat(rebalanced).isTrue();
+        assertThat(balanced).isFalse();
+        assertThat(skewed).extracting(AccountBalanceSlot::getBalance)
+                .containsExactly(300L, 300L, 300L);
+    }
+
+    private static List<AccountBalanceSlot> slots(Long... balances) {
+        AccountBalanceSlot[] slots = new AccountBalanceSlot[balances.length];
+        for (int i = 0; i < balances.length; i++) {
+            slots[i] = AccountBalanceSlot.builder()
+                    .accountId(1L)
+                    .slotIndex(i)
+                    .balance(balances[i])
+                    .build();
+        }
+        return List.of(slots);
+    }
+}
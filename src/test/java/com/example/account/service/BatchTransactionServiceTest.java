@@ -0,0 +1,116 @@
+package com.example.account.service;
+
+import com.example.account.dto.TransactionDto;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransactionServiceTest {
+
+    @Mock
+    private LockService lockService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @InjectMocks
+    private BatchTransactionService batchTransactionService;
+
+    @Test
+    @DisplayName("대량 잔액 사용 - 성공 [계좌별로 한 번씩 락, 요청 순서 유지]")
+    void useBalanceBatchSuccess() throws Exception {
+        //given
+        given(transactionService.useBalanceGroup(anyString(), anyList()))
+                .willAnswer(invocation -> {
+                    List<UseBalance.Request> requests = invocation.getArgument(1);
+                    return requests.stream()
+                            .map(request -> success(request))
+                            .collect(Collectors.toList());
+                });
+
+        //when
+        List<TransactionDto> results = batchTransactionService.useBalanceBatch(List.of(
+                new UseBalance.Request(1L, "1000000000", 100L),
+                new UseBalance.Request(1L, "1000000001", 200L),
+                new UseBalance.Request(1L, "1000000000", 300L)));
+
+        //then
+        verify(lockService, times(1)).lock("1000000000");
+        verify(lockService, times(1)).lock("1000000001");
+        verify(lockService, times(1)).unlock("1000000000");
+        verify(lockService, times(1)).unlock("1000000001");
+        assertThat(results).extracting(TransactionDto::getAmount)
+                .containsExactly(100L, 200L, 300L);
+        assertThat(results).extracting(TransactionDto::getAccountNumber)
+                .containsExactly("1000000000", "1000000001", "1000000000");
+    }
+
+    @Test
+    @DisplayName("대량 잔액 사용 - 락 획득 실패한 계좌만 실패")
+    void useBalanceBatchFail_LockFailed() throws Exception {
+        //given
+        willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .given(lockService).lock("1000000001");
+        given(transactionService.useBalanceGroup(eq("1000000000"), anyList()))
+                .willReturn(List.of(success(new UseBalance.Request(1L, "1000000000", 100L))));
+
+        //when
+        List<TransactionDto> results = batchTransactionService.useBalanceBatch(List.of(
+                new UseBalance.Request(1L, "1000000000", 100L),
+                new UseBalance.Request(1L, "1000000001", 200L)));
+
+        //then
+        verify(lockService, never()).unlock("1000000001");
+        verify(transactionService, never()).useBalanceGroup(eq("1000000001"), anyList());
+        assertThat(results).extracting(TransactionDto::getTransactionResultType)
+                .containsExactly(TransactionResultType.S, TransactionResultType.F);
+        assertThat(results.get(1).getTransactionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("대량 잔액 사용 - 계좌가 없으면 해당 계좌 건만 실패")
+    void useBalanceBatchFail_AccountNotFound() throws Exception {
+        //given
+        given(transactionService.useBalanceGroup(anyString(), anyList()))
+                .willThrow(new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        //when
+        List<TransactionDto> results = batchTransactionService.useBalanceBatch(List.of(
+                new UseBalance.Request(1L, "1000000000", 100L)));
+
+        //then
+        verify(lockService, times(1)).unlock("1000000000");
+        assertThat(results).extracting(TransactionDto::getTransactionResultType)
+                .containsExactly(TransactionResultType.F);
+    }
+
+    private static TransactionDto success(UseBalance.Request request) {
+        return TransactionDto.builder()
+                .accountNumber(request.getAccountNumber())
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(request.getAmount())
+                .transactionId("transactionId")
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.domain.DailyTransactionSummary;
+import com.example.account.domain.Transaction;
+import com.example.account.dto.DailySummaryDto;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.AccountUserRepository;
+import com.example.account.repository.DailyTransactionSummaryRepository;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailySummaryServiceTest {
+
+    @Mock
+    private DailyTransactionSummaryRepository dailyTransactionSummaryRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @InjectMocks
+    private DailySummaryService dailySummaryService;
+
+    @Test
+    @DisplayName("일일 집계 반영 - 기존 집계 행 증분")
+    void recordIncrementsExistingSummary() {
+        //given
+        Transaction transaction = transaction(TransactionResultType.S);
+        given(dailyTransactionSummaryRepository.increment(anyLong(), any(), any(), anyInt(), anyLong()))
+                .willReturn(1);
+
+        //when
+        dailySummaryService.record(transaction);
+
+        //then
+        verify(dailyTransactionSummaryRepository, times(1))
+                .increment(1L, LocalDate.of(2022, 6, 1), TransactionType.USE, 0, 1000L);
+        verify(dailyTransactionSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일일 집계 반영 - 당일 첫 거래면 집계 행 생성")
+    void recordCreatesSummary() {
+        //given
+        Transaction transaction = transaction(TransactionResultType.S);
+        given(dailyTransactionSummaryRepository.increment(anyLong(), any(), any(), anyInt(), anyLong()))
+                .willReturn(0);
+        ArgumentCaptor<DailyTransactionSummary> captor =
+                ArgumentCaptor.forClass(DailyTransactionSummary.class);
+
+        //when
+        dailySummaryService.record(transaction);
+
+        //then
+        verify(dailyTransactionSummaryRepository, times(1)).save(captor.capture());
+        DailyTransactionSummary summary = captor.getValue();
+        assertThat(summary.getAccountId()).isEqualTo(1L);
+        assertThat(summary.getUserId()).isEqualTo(7L);
+        assertThat(summary.getSummaryDate()).isEqualTo(LocalDate.of(2022, 6, 1));
+        assertThat(summary.getTotalAmount()).isEqualTo(1000L);
+        assertThat(summary.getTransactionCount()).isEqualTo(1L);
+        assertThat(summary.getSlotIndex()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("일일 집계 반영 - 잔액을 나눈 계좌는 거래한 슬롯의 집계 행에 반영")
+    void recordIncrementsSlotSummary() {
+        //given
+        Transaction transaction = Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .transactedAt(LocalDateTime.of(2022, 6, 1, 12, 0))
+                .account(transaction(TransactionResultType.S).getAccount())
+                .summarySlot(3)
+                .build();
+        given(dailyTransactionSummaryRepository.increment(anyLong(), any(), any(), anyInt(), anyLong()))
+                .willReturn(1);
+
+        //when
+        dailySummaryService.record(transaction);
+
+        //then
+        verify(dailyTransactionSummaryRepository, times(1))
+                .increment(1L, LocalDate.of(2022, 6, 1), TransactionType.USE, 3, 1000L);
+    }
+
+    @Test
+    @DisplayName("일일 집계 반영 - 실패 거래는 집계하지 않음")
+    void recordSkipsFailedTransaction() {
+        //when
+        dailySummaryService.record(transaction(TransactionResultType.F));
+
+        //then
+        verifyNoInteractions(dailyTransactionSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("사용자 일일 집계 조회 - 성공")
+    void getUserSummariesSuccess() {
+        //given
+        given(accountUserRepository.existsById(anyLong())).willReturn(true);
+        given(dailyTransactionSummaryRepository.sumByUserId(anyLong(), any(), any()))
+                .willReturn(List.of(new DailySummaryDto(LocalDate.of(2022, 6, 1),
+                        TransactionType.USE, 3000L, 3L)));
+
+        //when
+        List<DailySummaryDto> summaries = dailySummaryService.getUserSummaries(7L,
+                LocalDate.of(2022, 6, 1), LocalDate.of(2022, 6, 30));
+
+        //then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getTotalAmount()).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("사용자 일일 집계 조회 - 실패 [조회 기간이 잘못됨]")
+    void getUserSummariesFail_INVALID_REQUEST() {
+        assertThatThrownBy(() -> dailySummaryService.getUserSummaries(7L,
+                LocalDate.of(2022, 6, 30), LocalDate.of(2022, 6, 1)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+    }
+
+    private Transaction transaction(TransactionResultType resultType) {
+        return Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(resultType)
+                .amount(1000L)
+                .transactedAt(LocalDateTime.of(2022, 6, 1, 12, 0))
+                .account(Account.builder()
+                        .id(1L)
+                        .accountNumber("1000000000")
+                        .accountUser(AccountUser.builder().id(7L).build())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.account.service;
+
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.TransactionResultType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint pjp;
+
+    @Mock
+    private MethodSignature signature;
+
+    private IdempotencyAspect idempotencyAspect;
+
+    private final UseBalance.Request request = new UseBalance.Request(1L, "1000000000", 1000L);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        idempotencyAspect = new IdempotencyAspect(new LocalIdempotencyStore(100), objectMapper);
+        ReflectionTestUtils.setField(idempotencyAspect, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(idempotencyAspect, "pendingTtl", Duration.ofSeconds(30));
+
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest("POST", "/transaction/use");
+        httpRequest.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpRequest));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 멱등키의 재시도는 저장된 성공 응답을 반환")
+    void replayStoredSuccess() throws Throwable {
+        //given
+        given(pjp.proceed())
+                .willReturn(ResponseEntity.ok(UseBalance.Response.builder()
+                        .accountNumber("1000000000")
+                        .transactionResult(TransactionResultType.S)
+                        .transactionId("transactionId")
+                        .amount(1000L)
+                        .build()));
+
+        //when
+        idempotencyAspect.aroundMethod(pjp, request);
+        Object replayed = idempotencyAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(pjp, times(1)).proceed();
+        ResponseEntity<?> response = (ResponseEntity<?>) replayed;
+        assertThat(response.getStatusCodeValue()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat((String) response.getBody()).contains("\"transactionId\":\"transactionId\"");
+    }
+
+    @Test
+    @DisplayName("같은 멱등키의 재시도는 저장된 에러 응답을 반환")
+    void replayStoredError() throws Throwable {
+        //given
+        given(pjp.proceed())
+                .willThrow(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        //when
+        assertThatThrownBy(() -> idempotencyAspect.aroundMethod(pjp, request))
+                .isInstanceOf(AccountException.class);
+        Object replayed = idempotencyAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(pjp, times(1)).proceed();
+        ResponseEntity<?> response = (ResponseEntity<?>) replayed;
+        assertThat(response.getStatusCodeValue()).isEqualTo(400);
+        assertThat((String) response.getBody()).contains("\"errorName\":\"AMOUNT_EXCEED_BALANCE\"");
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 본문이 다른 요청은 저장된 응답 대신 거절")
+    void rejectDifferentRequestWithSameKey() throws Throwable {
+        //given
+        given(pjp.proceed()).willReturn(ResponseEntity.ok().build());
+        idempotencyAspect.aroundMethod(pjp, request);
+
+        //when
+        //then
+        assertThatThrownBy(() -> idempotencyAspect.aroundMethod(pjp,
+                new UseBalance.Request(1L, "1000000000", 2000L)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThatThrownBy(() -> idempotencyAspect.aroundMethod(pjp,
+                new UseBalance.Request(2L, "1000000000", 1000L)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        verify(pjp, times(1)).proceed();
+    }
+
+    @Test
+    @DisplayName("락 획득 실패는 저장하지 않고 재시도 시 다시 처리")
+    void lockFailureIsNotStored() throws Throwable {
+        //given
+        given(pjp.proceed())
+                .willThrow(new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK))
+                .willReturn(ResponseEntity.ok().build());
+
+        //when
+        assertThatThrownBy(() -> idempotencyAspect.aroundMethod(pjp, request))
+                .isInstanceOf(AccountException.class);
+        idempotencyAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(pjp, times(2)).proceed();
+    }
+
+    @Test
+    @DisplayName("비동기 메서드는 future 완료 후 저장하고 재시도에는 완료된 future 를 반환")
+    void replayStoredAsyncSuccess() throws Throwable {
+        //given
+        CompletableFuture<ResponseEntity<UseBalance.Response>> pending = new CompletableFuture<>();
+        given(pjp.proceed()).willReturn(pending);
+        given(pjp.getSignature()).willReturn(signature);
+        given(signature.getReturnType()).willReturn(CompletableFuture.class);
+
+        //when
+        idempotencyAspect.aroundMethod(pjp, request);
+        assertThatThrownBy(() -> idempotencyAspect.aroundMethod(pjp, request))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode",
+                        ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        pending.complete(ResponseEntity.ok(UseBalance.Response.builder()
+                .accountNumber("1000000000")
+                .transactionResult(TransactionResultType.S)
+                .transactionId("transactionId")
+                .amount(1000L)
+                .build()));
+        Object replayed = idempotencyAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(pjp, times(1)).proceed();
+        ResponseEntity<?> response = (ResponseEntity<?>) ((CompletableFuture<?>) replayed).join();
+        assertThat(response.getStatusCodeValue()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat((String) response.getBody()).contains("\"transactionId\":\"transactionId\"");
+    }
+
+    @Test
+    @DisplayName("비동기 메서드의 일시적인 실패는 저장하지 않고 재시도 시 다시 처리")
+    void asyncTransientFailureIsNotStored() throws Throwable {
+        //given
+        given(pjp.proceed())
+                .willReturn(CompletableFuture.failedFuture(
+                        new AccountException(ErrorCode.SERVER_BUSY)))
+                .willReturn(CompletableFuture.completedFuture(ResponseEntity.ok().build()));
+
+        //when
+        Object failed = idempotencyAspect.aroundMethod(pjp, request);
+        idempotencyAspect.aroundMethod(pjp, request);
+
+        //then
+        assertThat(((CompletableFuture<?>) failed).isCompletedExceptionally()).isTrue();
+        verify(pjp, times(2)).proceed();
+    }
+}
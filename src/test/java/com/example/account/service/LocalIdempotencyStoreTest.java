@@ -0,0 +1,49 @@
+package com.example.account.service;
+
+import com.example.account.dto.StoredResponse;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalIdempotencyStoreTest {
+
+    private final LocalIdempotencyStore store = new LocalIdempotencyStore(1);
+
+    @Test
+    @DisplayName("멱등 저장소 - 가득 차면 멱등 처리 없이 진행하지 않고 거절")
+    void reserveFull() {
+        //given
+        assertThat(store.reserve("a", StoredResponse.pending("fp"), Duration.ofHours(1)))
+                .isEmpty();
+
+        //when
+        //then
+        assertThatThrownBy(() -> store.reserve("b", StoredResponse.pending("fp"),
+                Duration.ofHours(1)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+        assertThat(store.reserve("a", StoredResponse.pending("fp"), Duration.ofHours(1)))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("멱등 저장소 - 가득 차면 만료된 키를 정리한 뒤 저장")
+    void reserveFullEvictsExpired() throws InterruptedException {
+        //given
+        store.reserve("a", StoredResponse.pending("fp"), Duration.ZERO);
+        Thread.sleep(1);
+
+        //when
+        //then
+        assertThat(store.reserve("b", StoredResponse.pending("fp"), Duration.ofHours(1)))
+                .isEmpty();
+        assertThat(store.reserve("b", StoredResponse.pending("fp"), Duration.ofHours(1)))
+                .isPresent();
+    }
+}
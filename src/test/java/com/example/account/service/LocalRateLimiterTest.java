@@ -0,0 +1,71 @@
+package com.example.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter(2, clock::get);
+
+    @Test
+    @DisplayName("요청 한도 - burst 까지 허용 후 거절")
+    void tryAcquireBurst() {
+        //given
+        //when
+        //then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("key", 10, 3)).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("key", 10, 3)).isFalse();
+        assertThat(rateLimiter.tryAcquire("other", 10, 3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 시간이 지나면 다시 허용")
+    void tryAcquireRefill() {
+        //given
+        rateLimiter.tryAcquire("key", 10, 1);
+        assertThat(rateLimiter.tryAcquire("key", 10, 1)).isFalse();
+
+        //when
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        //then
+        assertThat(rateLimiter.tryAcquire("key", 10, 1)).isTrue();
+        assertThat(rateLimiter.tryAcquire("key", 10, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 키가 가득 차면 새 키는 거절")
+    void tryAcquireFull() {
+        //given
+        rateLimiter.tryAcquire("a", 10, 1);
+        rateLimiter.tryAcquire("b", 10, 1);
+
+        //when
+        //then
+        assertThat(rateLimiter.tryAcquire("c", 10, 1)).isFalse();
+        assertThat(rateLimiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 키가 가득 차면 만료된 키를 정리하고 새 키 허용")
+    void tryAcquireFullEvictsExpired() {
+        //given
+        rateLimiter.tryAcquire("a", 10, 1);
+        rateLimiter.tryAcquire("b", 10, 1);
+
+        //when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        //then
+        assertThat(rateLimiter.tryAcquire("c", 10, 1)).isTrue();
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.account.service;
 
+import com.example.account.dto.TransferBalance;
 import com.example.account.dto.UseBalance;
 import com.example.account.exception.AccountException;
 import com.example.account.type.ErrorCode;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -11,10 +13,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -24,6 +30,9 @@ class LockAopAspectTest {
     @Mock
     private LockService lockService;
 
+    @Mock
+    private BalanceSlotRegistry balanceSlotRegistry;
+
     @Mock
     private ProceedingJoinPoint pjp;
 
@@ -72,4 +81,36 @@ class LockAopAspectTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("잔액을 나눈 계좌는 계좌 락 없이 진행")
+    void skipLockForSplitAccount() throws Throwable {
+        //given
+        UseBalance.Request request = new UseBalance.Request(1L, "1234", 100L);
+        given(balanceSlotRegistry.isSplit("1234"))
+                .willReturn(true);
+
+        //when
+        lockAopAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(pjp, times(1)).proceed();
+        verify(lockService, never()).lock(anyString());
+        verify(lockService, never()).unlock(anyString());
+    }
+
+    @Test
+    @DisplayName("이체는 출금, 입금 계좌의 락을 함께 잡고 함께 해제")
+    void lockAllAndUnlockAll_forTransfer() throws Throwable {
+        //given
+        TransferBalance.Request request = new TransferBalance.Request(
+                1L, "1000000002", "1000000001", 100L);
+
+        //when
+        lockAopAspect.aroundMethod(pjp, request);
+
+        //then
+        verify(lockService, times(1)).lockAll(List.of("1000000002", "1000000001"));
+        verify(lockService, times(1)).unlockAll(List.of("1000000002", "1000000001"));
+        verify(lockService, never()).lock(anyString());
+    }
+}
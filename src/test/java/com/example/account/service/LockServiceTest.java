@@ -3,17 +3,24 @@ package com.example.account.service;
 import com.example.account.exception.AccountException;
 import com.example.account.type.ErrorCode;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class LockServiceTest {
@@ -24,6 +31,9 @@ class LockServiceTest {
     @Mock
     RLock rLock;
 
+    @Mock
+    RLock multiLock;
+
     @InjectMocks
     LockService lockService;
 
@@ -58,4 +68,42 @@ class LockServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("여러 계좌 락 - 계좌 번호 순으로 MultiLock 을 잡음")
+    void successGetLockAll() throws Exception {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(redissonClient.getMultiLock(any(), any()))
+                .willReturn(multiLock);
+        given(multiLock.tryLock(anyLong(), anyLong(), any()))
+                .willReturn(true);
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+
+        //when
+        lockService.lockAll(List.of("1000000002", "1000000001", "1000000002"));
+
+        //then
+        verify(redissonClient, times(2)).getLock(captor.capture());
+        assertThat(captor.getAllValues())
+                .containsExactly("ACLK:1000000001", "ACLK:1000000002");
+    }
+
+    @Test
+    @DisplayName("여러 계좌 락 - 하나라도 못 잡으면 ACCOUNT_TRANSACTION_LOCK")
+    void failGetLockAll() throws Exception {
+        //given
+        given(redissonClient.getLock(anyString()))
+                .willReturn(rLock);
+        given(redissonClient.getMultiLock(any(), any()))
+                .willReturn(multiLock);
+        given(multiLock.tryLock(anyLong(), anyLong(), any()))
+                .willReturn(false);
+
+        //when
+        //then
+        Assertions.assertThatThrownBy(() -> lockService.lockAll(List.of("1000000001", "1000000002")))
+                .isInstanceOf(AccountException.class)
+                .hasMessage(ErrorCode.ACCOUNT_TRANSACTION_LOCK.getDescription());
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.AccountUser;
+import com.example.account.exception.AccountException;
+import com.example.account.type.AccountStatus;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedBalanceCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("잔액 캐시 - 캐시에 없는 계좌는 검사하지 않음")
+    void validateUseBalance_Miss() throws Exception {
+        //given
+        MappedBalanceCache cache = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 1L);
+
+        //when
+        //then
+        assertThatCode(() -> cache.validateUseBalance("1000000001", 1L, 1000L))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> cache.validateUseBalance("9999999999", 1L, 1000L))
+                .doesNotThrowAnyException();
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 갱신한 계좌는 소유자와 해지 여부만 검사")
+    void validateUseBalance_Hit() throws Exception {
+        //given
+        MappedBalanceCache cache = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 1L);
+        cache.update(account(AccountStatus.IN_USE, 1000L));
+
+        //when
+        //then
+        assertThatCode(() -> cache.validateUseBalance("1000000001", 1L, 1000L))
+                .doesNotThrowAnyException();
+        assertErrorCode(cache, 2L, 100L, ErrorCode.ACCOUNT_OWNER_UN_MATCH);
+        // 다른 노드의 입금을 모르므로 잔액이 모자라 보여도 거절하지 않고 DB 검사로 넘긴다.
+        assertThatCode(() -> cache.validateUseBalance("1000000001", 1L, 1001L))
+                .doesNotThrowAnyException();
+
+        cache.update(account(AccountStatus.UNREGISTERED, 0L));
+        assertErrorCode(cache, 1L, 0L, ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 지운 계좌는 다시 캐시에 없는 상태")
+    void invalidate() throws Exception {
+        //given
+        MappedBalanceCache cache = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 1L);
+        cache.update(account(AccountStatus.IN_USE, 0L));
+
+        //when
+        cache.invalidate("1000000001");
+
+        //then
+        assertThatCode(() -> cache.validateUseBalance("1000000001", 1L, 1000L))
+                .doesNotThrowAnyException();
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - 다시 열어도 파일에 남은 계좌 사용")
+    void reopen() throws Exception {
+        //given
+        MappedBalanceCache cache = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 1L);
+        cache.update(account(AccountStatus.IN_USE, 1000L));
+        cache.close();
+
+        //when
+        MappedBalanceCache reopened = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 1L, 2L);
+
+        //then
+        assertErrorCode(reopened, 2L, 100L, ErrorCode.ACCOUNT_OWNER_UN_MATCH);
+        reopened.close();
+
+        // 용량이 다르면 처음부터 다시 채운다.
+        MappedBalanceCache resized = new MappedBalanceCache(dir.resolve("cache.bin"), 200, 2L, 3L);
+        assertThatCode(() -> resized.validateUseBalance("1000000001", 2L, 100L))
+                .doesNotThrowAnyException();
+        resized.close();
+    }
+
+    @Test
+    @DisplayName("잔액 캐시 - DB 의 epoch 와 다른 파일은 처음부터 다시 채움")
+    void reopen_EpochMismatch() throws Exception {
+        //given
+        MappedBalanceCache cache = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 1L);
+        cache.update(account(AccountStatus.IN_USE, 1000L));
+        cache.close();
+
+        //when
+        // DB 를 새로 만들었거나 (저장된 epoch 없음) 예전 epoch 로 복원한 경우
+        MappedBalanceCache recreated = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 0L, 2L);
+        recreated.update(account(AccountStatus.IN_USE, 1000L));
+        recreated.close();
+        MappedBalanceCache restored = new MappedBalanceCache(dir.resolve("cache.bin"), 100, 1L, 3L);
+
+        //then
+        assertThatCode(() -> restored.validateUseBalance("1000000001", 2L, 100L))
+                .doesNotThrowAnyException();
+        restored.close();
+    }
+
+    private static Account account(AccountStatus status, Long balance) {
+        return Account.builder()
+                .id(2L)
+                .accountUser(AccountUser.builder().id(1L).name("Kim").build())
+                .accountNumber("1000000001")
+                .accountStatus(status)
+                .balance(balance)
+                .build();
+    }
+
+    private static void assertErrorCode(MappedBalanceCache cache, Long userId, Long amount,
+                                        ErrorCode errorCode) {
+        assertThatThrownBy(() -> cache.validateUseBalance("1000000001", userId, amount))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", errorCode);
+    }
+}
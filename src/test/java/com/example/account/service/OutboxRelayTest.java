@@ -0,0 +1,137 @@
+package com.example.account.service;
+
+import com.example.account.domain.TransactionOutbox;
+import com.example.account.dto.TransactionDto;
+import com.example.account.repository.TransactionOutboxRepository;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private TransactionOutboxRepository transactionOutboxRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private final InMemoryOutboxPublisher outboxPublisher = new InMemoryOutboxPublisher();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(transactionOutboxRepository, outboxPublisher,
+                redissonClient, 2);
+    }
+
+    @Test
+    @DisplayName("outbox 발행 - id 순서대로 발행하고 발행한 행을 지움")
+    void relay() throws Exception {
+        //given
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(transactionOutboxRepository.findByOrderByIdAsc(any()))
+                .willReturn(List.of(outbox(1L, "transactionId1"), outbox(2L, "transactionId2")))
+                .willReturn(List.of(outbox(3L, "transactionId3")));
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        assertThat(outboxPublisher.drain())
+                .extracting(TransactionDto::getTransactionId)
+                .containsExactly("transactionId1", "transactionId2", "transactionId3");
+        verify(transactionOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(transactionOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("outbox 발행 - 발행에 실패하면 지우지 않음")
+    void relayBatch_PublishFailed() {
+        //given
+        OutboxPublisher failing = transactions -> {
+            throw new IllegalStateException("redis down");
+        };
+        OutboxRelay relay = new OutboxRelay(transactionOutboxRepository, failing,
+                redissonClient, 2);
+        given(transactionOutboxRepository.findByOrderByIdAsc(any()))
+                .willReturn(List.of(outbox(1L, "transactionId1")));
+
+        //when
+        //then
+        assertThatThrownBy(relay::relayBatch)
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("outbox 발행 - 다른 노드가 발행 중이면 건너뜀")
+    void relay_NotLeader() throws Exception {
+        //given
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock()).willReturn(false);
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        verify(transactionOutboxRepository, never()).findByOrderByIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("outbox 발행 - 락을 잃으면 남은 묶음을 발행하지 않음")
+    void relay_LockLost() throws Exception {
+        //given
+        given(redissonClient.getLock(anyString())).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(false);
+        given(transactionOutboxRepository.findByOrderByIdAsc(any()))
+                .willReturn(List.of(outbox(1L, "transactionId1"), outbox(2L, "transactionId2")));
+
+        //when
+        outboxRelay.relay();
+
+        //then
+        verify(transactionOutboxRepository, times(1)).findByOrderByIdAsc(any());
+        verify(lock, never()).unlock();
+    }
+
+    private static TransactionOutbox outbox(Long id, String transactionId) {
+        return TransactionOutbox.builder()
+                .id(id)
+                .accountId(1L)
+                .accountNumber("1000000012")
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId(transactionId)
+                .transactedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.account.service;
+
+import com.example.account.dto.CancelBalance;
+import com.example.account.dto.UseBalance;
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint pjp;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private BalanceSlotRegistry balanceSlotRegistry;
+
+    private RateLimitAspect rateLimitAspect;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitAspect = new RateLimitAspect(rateLimiter, balanceSlotRegistry);
+        ReflectionTestUtils.setField(rateLimitAspect, "userPermitsPerSecond", 20L);
+        ReflectionTestUtils.setField(rateLimitAspect, "userBurst", 40);
+        ReflectionTestUtils.setField(rateLimitAspect, "accountPermitsPerSecond", 10L);
+        ReflectionTestUtils.setField(rateLimitAspect, "accountBurst", 20);
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 사용자와 계좌 모두 허용되면 진행")
+    void aroundSuccess() throws Throwable {
+        //given
+        given(rateLimiter.tryAcquire("USER:1", 20L, 40)).willReturn(true);
+        given(rateLimiter.tryAcquire("ACCOUNT:1000000000", 10L, 20)).willReturn(true);
+
+        //when
+        rateLimitAspect.aroundMethod(pjp, new UseBalance.Request(1L, "1000000000", 1000L));
+
+        //then
+        verify(pjp, times(1)).proceed();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 사용자 한도 초과 시 계좌 한도와 이후 처리 없이 거절")
+    void aroundFail_userLimit() throws Throwable {
+        //given
+        given(rateLimiter.tryAcquire(eq("USER:1"), anyLong(), anyInt())).willReturn(false);
+
+        //when
+        //then
+        assertThatThrownBy(() -> rateLimitAspect.aroundMethod(pjp,
+                new UseBalance.Request(1L, "1000000000", 1000L)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        verify(rateLimiter, never()).tryAcquire(eq("ACCOUNT:1000000000"), anyLong(), anyInt());
+        verify(pjp, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 사용자 정보가 없는 취소 요청은 계좌 한도만 적용")
+    void aroundFail_accountLimit() throws Throwable {
+        //given
+        given(rateLimiter.tryAcquire("ACCOUNT:1000000000", 10L, 20)).willReturn(false);
+
+        //when
+        //then
+        assertThatThrownBy(() -> rateLimitAspect.aroundMethod(pjp,
+                new CancelBalance.Request("transactionId", "1000000000", 1000L)))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_REQUESTS);
+        verify(pjp, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("요청 한도 - 잔액을 나눈 계좌는 계좌 한도를 적용하지 않음")
+    void aroundSuccess_splitAccount() throws Throwable {
+        //given
+        given(rateLimiter.tryAcquire("USER:1", 20L, 40)).willReturn(true);
+        given(balanceSlotRegistry.isSplit("1000000000")).willReturn(true);
+
+        //when
+        rateLimitAspect.aroundMethod(pjp, new UseBalance.Request(1L, "1000000000", 1000L));
+
+        //then
+        verify(rateLimiter, never()).tryAcquire(eq("ACCOUNT:1000000000"), anyLong(), anyInt());
+        verify(pjp, times(1)).proceed();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.dto.LedgerEntry;
+import com.example.account.repository.AccountBalanceSlotRepository;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.service.ReconciliationWorker.PartitionResult;
+import com.example.account.type.ReconciliationMismatchType;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationWorkerTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+    @InjectMocks
+    private ReconciliationWorker reconciliationWorker;
+
+    @Test
+    @DisplayName("잔액 대사 - 원장과 잔액이 일치")
+    void reconcileMatched() {
+        //given
+        given(accountRepository.findByIdBetweenOrderById(anyLong(), anyLong()))
+                .willReturn(List.of(account(1L, 10000L, 9500L)));
+        given(transactionRepository.streamLedgerEntries(anyLong(), anyLong()))
+                .willReturn(Stream.of(
+                        entry(1L, "tx1", TransactionType.USE, TransactionResultType.S, 1000L, 9000L),
+                        entry(1L, "tx2", TransactionType.USE, TransactionResultType.F, 50000L, 9000L),
+                        entry(1L, "tx3", TransactionType.CANCEL, TransactionResultType.S, 500L, 9500L)));
+
+        //when
+        PartitionResult result = reconciliationWorker.reconcile(1L, 1000L, 10);
+
+        //then
+        assertThat(result.getAccountsChecked()).isEqualTo(1L);
+        assertThat(result.getTransactionsChecked()).isEqualTo(3L);
+        assertThat(result.getMismatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("잔액 대사 - snapshot 체인과 최종 잔액 불일치")
+    void reconcileMismatched() {
+        //given
+        given(accountRepository.findByIdBetweenOrderById(anyLong(), anyLong()))
+                .willReturn(List.of(account(1L, 10000L, 7000L),
+                        account(2L, 3000L, 2000L)));
+        given(transactionRepository.streamLedgerEntries(anyLong(), anyLong()))
+                .willReturn(Stream.of(
+                        entry(1L, "tx1", TransactionType.USE, TransactionResultType.S, 1000L, 9000L),
+                        entry(1L, "tx2", TransactionType.USE, TransactionResultType.S, 1000L, 7000L)));
+
+        //when
+        PartitionResult result = reconciliationWorker.reconcile(1L, 1000L, 10);
+
+        //then
+        assertThat(result.getAccountsChecked()).isEqualTo(2L);
+        assertThat(result.getMismatchCount()).isEqualTo(2L);
+        assertThat(result.getMismatches().get(0).getType())
+                .isEqualTo(ReconciliationMismatchType.SNAPSHOT);
+        assertThat(result.getMismatches().get(0).getTransactionId()).isEqualTo("tx2");
+        assertThat(result.getMismatches().get(0).getExpected()).isEqualTo(8000L);
+        assertThat(result.getMismatches().get(1).getType())
+                .isEqualTo(ReconciliationMismatchType.BALANCE);
+        assertThat(result.getMismatches().get(1).getAccountNumber()).isEqualTo("1000000002");
+    }
+
+    private Account account(Long id, Long initialBalance, Long balance) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(String.valueOf(1000000000L + id))
+                .initialBalance(initialBalance)
+                .balance(balance)
+                .build();
+    }
+
+    private LedgerEntry entry(Long accountId, String transactionId,
+                              TransactionType transactionType,
+                              TransactionResultType transactionResultType,
+                              Long amount, Long balanceSnapshot) {
+        return new LedgerEntry() {
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public String getTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            public TransactionType getTransactionType() {
+                return transactionType;
+            }
+
+            @Override
+            public TransactionResultType getTransactionResultType() {
+                return transactionResultType;
+            }
+
+            @Override
+            public Long getAmount() {
+                return amount;
+            }
+
+            @Override
+            public Long getBalanceSnapshot() {
+                return balanceSnapshot;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(10);
+
+    @Test
+    @DisplayName("동시 조회 합치기 - 같은 키는 한 번만 조회")
+    void executeCoalesced() throws Exception {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("key", () -> {
+                    loads.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "value";
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        List<CompletableFuture<String>> followers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CompletableFuture<String> follower = new CompletableFuture<>();
+            Thread thread = new Thread(() -> follower.complete(
+                    singleFlight.execute("key", () -> {
+                        loads.incrementAndGet();
+                        return "other";
+                    })));
+            thread.start();
+            followers.add(follower);
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+
+        //then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        for (CompletableFuture<String> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 조회 합치기 - 완료 후에는 다시 조회")
+    void executeAfterComplete() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        singleFlight.execute("key", () -> String.valueOf(loads.incrementAndGet()));
+        singleFlight.execute("key", () -> String.valueOf(loads.incrementAndGet()));
+
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 조회 합치기 - 예외는 그대로 전달되고 키는 정리")
+    void executeFail() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new AccountException(ErrorCode.TRANSACTION_NOT_FOUND);
+        }))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TRANSACTION_NOT_FOUND);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 조회 합치기 - 키 한도를 넘으면 합치지 않고 직접 조회")
+    void executeOverLimit() throws Exception {
+        //given
+        SingleFlight<String, String> bounded = new SingleFlight<>(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(
+                () -> bounded.execute("first", () -> {
+                    started.countDown();
+                    await(release);
+                    return "first";
+                }));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        String second = bounded.execute("second", () -> "second");
+
+        //then
+        assertThat(second).isEqualTo("second");
+        assertThat(bounded.inFlightCount()).isEqualTo(1);
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(bounded.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.account.service;
+
+import com.example.account.domain.Account;
+import com.example.account.domain.Transaction;
+import com.example.account.exception.AccountException;
+import com.example.account.repository.AccountRepository;
+import com.example.account.repository.TransactionRepository;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.ExportFormat;
+import com.example.account.type.TransactionResultType;
+import com.example.account.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TransactionExportService transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionExportService = new TransactionExportService(transactionRepository,
+                accountRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("원장 내보내기 - 성공 [NDJSON]")
+    void exportNdjsonSuccess() throws Exception {
+        //given
+        given(transactionRepository.streamByAccountId(anyLong()))
+                .willReturn(Stream.of(transaction("transactionId1", 100L),
+                        transaction("transactionId2", 200L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long count = transactionExportService.exportTransactions(1L, ExportFormat.NDJSON, outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2L);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"transactionId\":\"transactionId1\"");
+        assertThat(lines[1]).startsWith("{").contains("\"amount\":200");
+    }
+
+    @Test
+    @DisplayName("원장 내보내기 - 성공 [CSV]")
+    void exportCsvSuccess() throws Exception {
+        //given
+        given(transactionRepository.streamByAccountId(anyLong()))
+                .willReturn(Stream.of(transaction("transactionId1", 100L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        transactionExportService.exportTransactions(1L, ExportFormat.CSV, outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("accountNumber,transactionType");
+        assertThat(lines[1]).startsWith("1000000000,USE,S,100,900,transactionId1,");
+    }
+
+    @Test
+    @DisplayName("원장 내보내기 - 실패 [계좌가 없음]")
+    void getAccountIdFail_ACCOUNT_NOT_FOUND() {
+        //given
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.empty());
+
+        //when
+        //then
+        assertThatThrownBy(() -> transactionExportService.getAccountId("1000000000"))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    private Transaction transaction(String transactionId, Long amount) {
+        return Transaction.builder()
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .transactionId(transactionId)
+                .amount(amount)
+                .balanceSnapshot(900L)
+                .transactedAt(LocalDateTime.now())
+                .account(Account.builder()
+                        .id(1L)
+                        .accountNumber("1000000000")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.account.service;
+
+import com.example.account.exception.AccountException;
+import com.example.account.type.ErrorCode;
+import com.example.account.type.ExportFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportStreamerTest {
+
+    @Mock
+    private TransactionExportService transactionExportService;
+
+    @Mock
+    private ExecutorService saturatedExecutor;
+
+    @Test
+    @DisplayName("내보내기 응답에는 설정한 타임아웃을 주고 원장은 작업 풀에서 기록")
+    void export_UsesOwnTimeout() throws Exception {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        TransactionExportStreamer streamer =
+                new TransactionExportStreamer(transactionExportService, executor, 1800000L);
+
+        //when
+        ResponseBodyEmitter emitter = streamer.export(1L, ExportFormat.CSV);
+
+        //then
+        assertThat(emitter.getTimeout()).isEqualTo(1800000L);
+        verify(transactionExportService, timeout(1000))
+                .exportTransactions(eq(1L), eq(ExportFormat.CSV), any());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 풀이 가득 차면 응답을 쓰기 전에 거절")
+    void export_ExecutorSaturated() {
+        //given
+        willThrow(new RejectedExecutionException())
+                .given(saturatedExecutor).execute(any());
+        TransactionExportStreamer streamer =
+                new TransactionExportStreamer(transactionExportService, saturatedExecutor, 1800000L);
+
+        //when
+        //then
+        assertThatThrownBy(() -> streamer.export(1L, ExportFormat.NDJSON))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+    }
+}
@@ -3,7 +3,12 @@ package com.example.account.service;
 import com.example.account.domain.Account;
 import com.example.account.domain.AccountUser;
 import com.example.account.domain.Transaction;
+import com.example.account.dto.BatchTransferBalance;
+import com.example.account.dto.TransactionCursor;
 import com.example.account.dto.TransactionDto;
+import com.example.account.dto.TransactionPage;
+import com.example.account.dto.TransferDto;
+import com.example.account.dto.UseBalance;
 import com.example.account.exception.AccountException;
 import com.example.account.repository.AccountRepository;
 import com.example.account.repository.AccountUserRepository;
@@ -19,6 +24,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +32,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -42,6 +50,21 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private DailySummaryService dailySummaryService;
+
+    @Mock
+    private BalanceSlotService balanceSlotService;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private AccountEventHub accountEventHub;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -85,6 +108,41 @@ class TransactionServiceTest {
 
     }
 
+    @DisplayName("잔액 사용 - 성공 [잔액을 나눈 계좌는 슬롯에서 차감]")
+    @Test
+    void useBalanceSuccess_splitAccount() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(0L)
+                .balanceSlotCount(4)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .build();
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(balanceSlotService.totalBalance(account))
+                .willReturn(900L);
+        given(transactionRepository.save(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        TransactionDto transactionDto = transactionService.useBalance(1L, "1000000000", 100L);
+
+        //then
+        verify(balanceSlotService, times(1)).debit(account, 100L);
+        assertThat(account.getBalance()).isEqualTo(0L);
+        assertThat(transactionDto.getBalanceSnapshot()).isEqualTo(900L);
+    }
+
     @DisplayName("잔액 사용 - 실패 [유저가 없는 케이스]")
     @Test
     void useBalance_Fail_UserNotFound() throws Exception {
@@ -212,6 +270,28 @@ class TransactionServiceTest {
 
     }
 
+    @DisplayName("잔액 사용 - 실패 [잔액 캐시에서 거절되면 계좌를 조회하지 않음]")
+    @Test
+    void useBalanceFail_RejectedByBalanceCache() {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        given(accountUserRepository.findById(anyLong()))
+                .willReturn(Optional.of(user));
+        willThrow(new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED))
+                .given(balanceCache).validateUseBalance("1000000012", 1L, 10000L);
+
+        //when
+        assertThatThrownBy(() -> transactionService.useBalance(1L, "1000000012", 10000L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+
+        //then
+        verify(accountRepository, never()).findByAccountNumber(anyString());
+    }
+
     @DisplayName("실패 트랜잭션 저장 - 성공")
     @Test
     void saveFailedTransactionSuccess() throws Exception {
@@ -598,4 +678,270 @@ class TransactionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TRANSACTION_NOT_FOUND);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("거래 내역 조회 - 성공 [다음 페이지가 있는 경우]")
+    void getTransactionHistorySuccess() throws Exception {
+        //given
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(1000L)
+                .accountNumber("1000000000")
+                .build();
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+
+        LocalDateTime now = LocalDateTime.now();
+        Transaction tx1 = Transaction.builder()
+                .id(3L)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .transactionId("transactionId3")
+                .amount(100L)
+                .transactedAt(now)
+                .account(account).build();
+        Transaction tx2 = Transaction.builder()
+                .id(2L)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .transactionId("transactionId2")
+                .amount(200L)
+                .transactedAt(now.minusMinutes(1))
+                .account(account).build();
+        Transaction tx3 = Transaction.builder()
+                .id(1L)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.S)
+                .transactionId("transactionId1")
+                .amount(300L)
+                .transactedAt(now.minusMinutes(2))
+                .account(account).build();
+        given(transactionRepository.findHistory(any(), any(), any(), any(), anyInt()))
+                .willReturn(List.of(tx1, tx2, tx3));
+
+        //when
+        TransactionPage page = transactionService.getTransactionHistory(
+                "1000000000", TransactionType.USE, null, null, 2);
+
+        //then
+        verify(transactionRepository, times(1))
+                .findHistory(account, TransactionType.USE, null, null, 3);
+        assertThat(page.getTransactions()).hasSize(2);
+        assertThat(page.getTransactions().get(0).getTransactionId()).isEqualTo("transactionId3");
+        assertThat(page.getTransactions().get(1).getTransactionId()).isEqualTo("transactionId2");
+        assertThat(page.hasNext()).isTrue();
+
+        TransactionCursor cursor = TransactionCursor.decode(page.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(2L);
+        assertThat(cursor.getTransactedAt()).isEqualTo(now.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 실패 [잘못된 커서]")
+    void getTransactionHistoryFail_INVALID_REQUEST() throws Exception {
+        //given
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(Account.builder()
+                        .id(1L)
+                        .accountNumber("1000000000")
+                        .build()));
+
+        //when
+        //then
+        assertThatThrownBy(() -> transactionService.getTransactionHistory(
+                "1000000000", null, null, "not-a-cursor", 20))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 실패 [계좌가 없음]")
+    void getTransactionHistoryFail_ACCOUNT_NOT_FOUND() throws Exception {
+        //given
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.empty());
+
+        //when
+        //then
+        assertThatThrownBy(() -> transactionService.getTransactionHistory(
+                "1000000000", null, null, null, 20))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("계좌 단위 잔액 사용 - 성공 [잔액을 넘는 건만 실패]")
+    void useBalanceGroupSuccess() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(1000L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .build();
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(accountUserRepository.findAllById(anyList()))
+                .willReturn(List.of(user));
+        given(transactionRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        List<TransactionDto> results = transactionService.useBalanceGroup("1000000000", List.of(
+                new UseBalance.Request(1L, "1000000000", 600L),
+                new UseBalance.Request(1L, "1000000000", 600L),
+                new UseBalance.Request(1L, "1000000000", 400L)));
+
+        //then
+        verify(accountRepository, times(1)).findByAccountNumber(anyString());
+        verify(transactionRepository, times(1)).saveAll(anyList());
+        verify(dailySummaryService, times(3)).record(any());
+        assertThat(results).extracting(TransactionDto::getTransactionResultType)
+                .containsExactly(TransactionResultType.S, TransactionResultType.F, TransactionResultType.S);
+        assertThat(results).extracting(TransactionDto::getBalanceSnapshot)
+                .containsExactly(400L, 400L, 0L);
+        assertThat(account.getBalance()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("계좌 단위 잔액 사용 - 실패 [사용자가 없는 건]")
+    void useBalanceGroupFail_UserNotFound() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(1000L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .build();
+        given(accountRepository.findByAccountNumber(anyString()))
+                .willReturn(Optional.of(account));
+        given(accountUserRepository.findAllById(anyList()))
+                .willReturn(List.of(user));
+        given(transactionRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        List<TransactionDto> results = transactionService.useBalanceGroup("1000000000", List.of(
+                new UseBalance.Request(2L, "1000000000", 100L),
+                new UseBalance.Request(1L, "1000000000", 100L)));
+
+        //then
+        assertThat(results).extracting(TransactionDto::getTransactionResultType)
+                .containsExactly(TransactionResultType.F, TransactionResultType.S);
+        assertThat(account.getBalance()).isEqualTo(900L);
+    }
+
+    @Test
+    @DisplayName("계좌 이체 - 성공 [출금, 입금 거래를 함께 저장]")
+    void transferBalanceSuccess() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(1000L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .build();
+        Account toAccount = Account.builder()
+                .id(2L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(0L)
+                .accountUser(AccountUser.builder().id(2L).name("Lee").build())
+                .accountNumber("1000000001")
+                .build();
+        given(accountUserRepository.findById(1L))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000000"))
+                .willReturn(Optional.of(account));
+        given(accountRepository.findByAccountNumber("1000000001"))
+                .willReturn(Optional.of(toAccount));
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        TransferDto transferDto = transactionService.transferBalance(
+                1L, "1000000000", "1000000001", 300L);
+
+        //then
+        verify(transactionRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Transaction::getTransactionType)
+                .containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
+        assertThat(account.getBalance()).isEqualTo(700L);
+        assertThat(toAccount.getBalance()).isEqualTo(300L);
+        assertThat(transferDto.getWithdrawal().getBalanceSnapshot()).isEqualTo(700L);
+        assertThat(transferDto.getDeposit().getBalanceSnapshot()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("계좌 이체 - 실패 [같은 계좌로 이체]")
+    void transferBalanceFail_INVALID_REQUEST() throws Exception {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> transactionService.transferBalance(
+                        1L, "1000000000", "1000000000", 300L))
+                .isInstanceOf(AccountException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+        verify(transactionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("여러 계좌로 이체 - 성공 [잔액을 넘는 건과 없는 계좌만 실패]")
+    void transferBalanceBatchSuccess() throws Exception {
+        //given
+        AccountUser user = AccountUser.builder()
+                .id(1L)
+                .name("Kim")
+                .build();
+        Account account = Account.builder()
+                .id(1L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(1000L)
+                .accountUser(user)
+                .accountNumber("1000000000")
+                .build();
+        Account toAccount = Account.builder()
+                .id(2L)
+                .accountStatus(AccountStatus.IN_USE)
+                .balance(0L)
+                .accountUser(AccountUser.builder().id(2L).name("Lee").build())
+                .accountNumber("1000000001")
+                .build();
+        given(accountUserRepository.findById(1L))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByAccountNumber("1000000000"))
+                .willReturn(Optional.of(account));
+        given(accountRepository.findByAccountNumberIn(anyList()))
+                .willReturn(List.of(toAccount));
+
+        //when
+        List<TransferDto> results = transactionService.transferBalanceBatch(1L, "1000000000",
+                List.of(new BatchTransferBalance.Item("1000000001", 600L),
+                        new BatchTransferBalance.Item("1000000001", 600L),
+                        new BatchTransferBalance.Item("1000000009", 100L),
+                        new BatchTransferBalance.Item("1000000001", 400L)));
+
+        //then
+        assertThat(results).extracting(result -> result.getWithdrawal().getTransactionResultType())
+                .containsExactly(TransactionResultType.S, TransactionResultType.F,
+                        TransactionResultType.F, TransactionResultType.S);
+        assertThat(results.get(1).getDeposit()).isNull();
+        assertThat(account.getBalance()).isEqualTo(0L);
+        assertThat(toAccount.getBalance()).isEqualTo(1000L);
+        verify(transactionRepository, times(1)).saveAll(anyList());
+    }
+
+}